@@ -1,16 +1,29 @@
 package personal.yeongyulgori.post.configuration;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import personal.yeongyulgori.post.interceptor.AuthenticationInterceptor;
 import personal.yeongyulgori.post.interceptor.LoggingInterceptor;
+import personal.yeongyulgori.post.security.JwtVerifier;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ObjectProvider<JwtVerifier> jwtVerifier;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+
         registry.addInterceptor(new LoggingInterceptor());
+
+        // web slice test처럼 검증 bean이 없는 context에서는 인증 interceptor를 등록하지 않음
+        jwtVerifier.ifAvailable(verifier -> registry.addInterceptor(new AuthenticationInterceptor(verifier))
+                .addPathPatterns("/posts/**"));
+
     }
 
 }
@@ -0,0 +1,17 @@
+package personal.yeongyulgori.post.exception.significant.sub;
+
+import org.springframework.http.HttpStatus;
+import personal.yeongyulgori.post.exception.significant.AbstractSignificantException;
+
+public class InvalidTokenException extends AbstractSignificantException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.UNAUTHORIZED.value();
+    }
+
+}
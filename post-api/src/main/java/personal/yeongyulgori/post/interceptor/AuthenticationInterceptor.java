@@ -0,0 +1,61 @@
+package personal.yeongyulgori.post.interceptor;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+import personal.yeongyulgori.post.exception.significant.sub.InvalidTokenException;
+import personal.yeongyulgori.post.exception.significant.sub.UserMismatchException;
+import personal.yeongyulgori.post.security.JwtVerifier;
+import personal.yeongyulgori.post.security.VerifiedToken;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 게시물을 변경하는 요청은 access token으로 인증하고, userId 파라미터가 token의 회원 ID와 같아야 통과시킨다.
+ * 검증한 token은 VERIFIED_TOKEN 요청 속성으로 남긴다.
+ */
+public class AuthenticationInterceptor extends HandlerInterceptorAdapter {
+
+    public static final String VERIFIED_TOKEN = "verifiedToken";
+
+    private static final String TOKEN_PREFIX = "Bearer ";
+    private static final String USER_ID = "userId";
+
+    private final JwtVerifier jwtVerifier;
+
+    public AuthenticationInterceptor(JwtVerifier jwtVerifier) {
+        this.jwtVerifier = jwtVerifier;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+
+        if (method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS) {
+            return true;
+        }
+
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (!StringUtils.hasText(authorization) || !authorization.startsWith(TOKEN_PREFIX)) {
+            throw new InvalidTokenException("access token이 필요합니다.");
+        }
+
+        VerifiedToken verifiedToken = jwtVerifier.verify(authorization.substring(TOKEN_PREFIX.length()));
+
+        String userId = request.getParameter(USER_ID);
+
+        if (userId != null && !userId.equals(String.valueOf(verifiedToken.getUserId()))) {
+            throw new UserMismatchException("token의 회원과 요청한 회원이 다릅니다. userId: " + userId);
+        }
+
+        request.setAttribute(VERIFIED_TOKEN, verifiedToken);
+
+        return true;
+
+    }
+
+}
@@ -0,0 +1,196 @@
+package personal.yeongyulgori.post.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * user-api의 JWKS에서 받은 token 검증 공개 키
+ * <p>
+ * 키는 메모리에 보관하므로 요청마다 user-api를 호출하지 않는다.
+ * 알 수 없는 kid가 오면 키가 교체된 것으로 보고 다시 받되, 위조 token으로 user-api에 요청이 몰리지 않도록
+ * min-refresh-interval-millis 안에는 한 번만 받는다. max-age-millis가 지나면 그 시점의 요청 하나만 다시 받고
+ * 나머지 요청은 기존 키로 계속 검증한다. JWKS를 받지 못하면 기존 키를 유지한다.
+ */
+@Component
+public class JwksKeyProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksKeyProvider.class);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(3);
+
+    private final JwksClient jwksClient;
+    private final ObjectMapper objectMapper;
+    private final long minRefreshIntervalMillis;
+    private final long maxAgeMillis;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastRefreshMillis = Long.MIN_VALUE / 2;
+
+    @Autowired
+    public JwksKeyProvider(
+            ObjectMapper objectMapper,
+            @Value("${user-api.jwks-uri}") String jwksUri,
+            @Value("${user-api.jwks.min-refresh-interval-millis:30000}") long minRefreshIntervalMillis,
+            @Value("${user-api.jwks.max-age-millis:300000}") long maxAgeMillis
+    ) {
+        this(httpJwksClient(URI.create(jwksUri)), objectMapper, minRefreshIntervalMillis, maxAgeMillis);
+    }
+
+    JwksKeyProvider(JwksClient jwksClient, ObjectMapper objectMapper,
+                    long minRefreshIntervalMillis, long maxAgeMillis) {
+        this.jwksClient = jwksClient;
+        this.objectMapper = objectMapper;
+        this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * kid에 해당하는 공개 키. 다시 받은 JWKS에도 없으면 null을 반환한다.
+     */
+    public PublicKey getKey(String keyId) {
+
+        PublicKey key = keys.get(keyId);
+        long elapsedMillis = System.currentTimeMillis() - lastRefreshMillis;
+
+        if (key != null) {
+
+            if (elapsedMillis >= maxAgeMillis && refreshLock.tryLock()) {
+                try {
+                    refresh();
+                } finally {
+                    refreshLock.unlock();
+                }
+            }
+
+            return key;
+
+        }
+
+        if (elapsedMillis < minRefreshIntervalMillis) {
+            return null;
+        }
+
+        refreshLock.lock();
+
+        try {
+
+            if (!keys.containsKey(keyId) && System.currentTimeMillis() - lastRefreshMillis >= minRefreshIntervalMillis) {
+                refresh();
+            }
+
+        } finally {
+            refreshLock.unlock();
+        }
+
+        return keys.get(keyId);
+
+    }
+
+    private void refresh() {
+
+        lastRefreshMillis = System.currentTimeMillis();
+
+        try {
+
+            keys = parseJwks(objectMapper.readTree(jwksClient.fetch()));
+
+            log.info("Loaded {} JWT verification keys from user-api", keys.size());
+
+        } catch (IOException | GeneralSecurityException e) {
+            log.warn("Failed to load JWKS from user-api, keeping {} cached keys: {}", keys.size(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+    }
+
+    private static Map<String, PublicKey> parseJwks(JsonNode jwks) throws GeneralSecurityException {
+
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        ECParameterSpec p256 = parameters.getParameterSpec(ECParameterSpec.class);
+
+        KeyFactory keyFactory = KeyFactory.getInstance("EC");
+        Map<String, PublicKey> parsedKeys = new HashMap<>();
+
+        for (JsonNode jwk : jwks.path("keys")) {
+
+            if (!"EC".equals(jwk.path("kty").asText()) || !"P-256".equals(jwk.path("crv").asText())
+                    || !jwk.hasNonNull("kid")) {
+                continue;
+            }
+
+            ECPoint point = new ECPoint(decodeCoordinate(jwk.path("x").asText()), decodeCoordinate(jwk.path("y").asText()));
+
+            parsedKeys.put(jwk.get("kid").asText(), keyFactory.generatePublic(new ECPublicKeySpec(point, p256)));
+
+        }
+
+        return Map.copyOf(parsedKeys);
+
+    }
+
+    private static BigInteger decodeCoordinate(String coordinate) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(coordinate));
+    }
+
+    private static JwksClient httpJwksClient(URI jwksUri) {
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+
+        HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+
+        return () -> {
+
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() != 200) {
+                throw new IOException("JWKS 요청이 실패했습니다. status code: " + response.statusCode());
+            }
+
+            return response.body();
+
+        };
+
+    }
+
+    @FunctionalInterface
+    interface JwksClient {
+
+        String fetch() throws IOException, InterruptedException;
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package personal.yeongyulgori.post.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.stereotype.Component;
+import personal.yeongyulgori.post.exception.significant.sub.InvalidTokenException;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.util.List;
+
+/**
+ * user-api가 발급한 access token을 user-api 호출 없이 검증한다.
+ * <p>
+ * ES256 서명과 만료 시간만 확인하므로, user-api에서 로그아웃으로 폐기한 token은 만료 전까지 통과할 수 있다.
+ */
+@Component
+public class JwtVerifier {
+
+    private static final String KEY_USER_ID = "uid";
+    private static final String KEY_ROLES = "roles";
+
+    private final JwtParser jwtParser;
+
+    public JwtVerifier(JwksKeyProvider jwksKeyProvider) {
+
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+
+                        if (!SignatureAlgorithm.ES256.getValue().equals(header.getAlgorithm())
+                                || header.getKeyId() == null) {
+                            throw new SignatureException("ES256으로 서명되고 kid가 있는 token만 검증할 수 있습니다.");
+                        }
+
+                        PublicKey publicKey = jwksKeyProvider.getKey(header.getKeyId());
+
+                        if (publicKey == null) {
+                            throw new SignatureException("알 수 없는 서명 키입니다. kid: " + header.getKeyId());
+                        }
+
+                        return publicKey;
+
+                    }
+                })
+                .build();
+
+    }
+
+    @SuppressWarnings("unchecked")
+    public VerifiedToken verify(String token) {
+
+        Claims claims;
+
+        try {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException("유효하지 않은 token입니다. " + e.getMessage());
+        }
+
+        Long userId = claims.get(KEY_USER_ID, Long.class);
+
+        if (userId == null) {
+            throw new InvalidTokenException("회원 ID가 없는 token입니다. username: " + claims.getSubject());
+        }
+
+        return VerifiedToken.of(userId, claims.getSubject(), claims.get(KEY_ROLES, List.class));
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package personal.yeongyulgori.post.security;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 서명과 만료 시간을 검증한 access token의 claim
+ */
+@Getter
+public class VerifiedToken {
+
+    private final Long userId;
+    private final String username;
+    private final List<String> roles;
+
+    private VerifiedToken(Long userId, String username, List<String> roles) {
+        this.userId = userId;
+        this.username = username;
+        this.roles = roles;
+    }
+
+    public static VerifiedToken of(Long userId, String username, List<String> roles) {
+        return new VerifiedToken(userId, username, roles == null ? List.of() : List.copyOf(roles));
+    }
+
+}
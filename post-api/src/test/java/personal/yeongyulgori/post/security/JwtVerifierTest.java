@@ -0,0 +1,135 @@
+package personal.yeongyulgori.post.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.yeongyulgori.post.exception.significant.sub.InvalidTokenException;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtVerifierTest {
+
+    private final AtomicReference<String> jwks = new AtomicReference<>();
+    private final AtomicInteger fetchCount = new AtomicInteger();
+
+    private JwtVerifier jwtVerifier;
+
+    @BeforeEach
+    void setUp() {
+
+        JwksKeyProvider jwksKeyProvider = new JwksKeyProvider(() -> {
+            fetchCount.incrementAndGet();
+            return jwks.get();
+        }, new ObjectMapper(), 0, 60_000);
+
+        jwtVerifier = new JwtVerifier(jwksKeyProvider);
+
+    }
+
+    @DisplayName("JWKS의 공개 키로 access token을 검증하고 회원 ID와 권한을 꺼낼 수 있다.")
+    @Test
+    void verify() throws Exception {
+
+        // given
+        KeyPair keyPair = generateKeyPair();
+        jwks.set(toJwks("key-1", keyPair));
+
+        // when
+        VerifiedToken verifiedToken = jwtVerifier.verify(createToken("key-1", keyPair, 1L));
+
+        // then
+        assertThat(verifiedToken.getUserId()).isEqualTo(1L);
+        assertThat(verifiedToken.getUsername()).isEqualTo("person1");
+        assertThat(verifiedToken.getRoles()).containsExactly("ROLE_GENERAL_USER");
+
+    }
+
+    @DisplayName("서명 키가 교체되면 JWKS를 다시 받아 새 키로 검증하고, 이후에는 메모리의 키를 사용한다.")
+    @Test
+    void verifyAfterKeyRotation() throws Exception {
+
+        // given
+        KeyPair oldKeyPair = generateKeyPair();
+        KeyPair newKeyPair = generateKeyPair();
+
+        jwks.set(toJwks("key-1", oldKeyPair));
+        jwtVerifier.verify(createToken("key-1", oldKeyPair, 1L));
+
+        jwks.set(toJwks("key-2", newKeyPair));
+
+        // when
+        jwtVerifier.verify(createToken("key-2", newKeyPair, 1L));
+        VerifiedToken verifiedToken = jwtVerifier.verify(createToken("key-2", newKeyPair, 2L));
+
+        // then
+        assertThat(verifiedToken.getUserId()).isEqualTo(2L);
+        assertThat(fetchCount.get()).isEqualTo(2);
+
+    }
+
+    @DisplayName("JWKS에 없는 키로 서명된 token은 InvalidTokenException이 발생한다.")
+    @Test
+    void verifyForgedToken() throws Exception {
+
+        // given
+        jwks.set(toJwks("key-1", generateKeyPair()));
+
+        String forgedToken = createToken("key-1", generateKeyPair(), 1L);
+
+        // when, then
+        assertThatThrownBy(() -> jwtVerifier.verify(forgedToken))
+                .isInstanceOf(InvalidTokenException.class);
+
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+
+        return keyPairGenerator.generateKeyPair();
+
+    }
+
+    private static String createToken(String keyId, KeyPair keyPair, Long userId) {
+
+        return Jwts.builder()
+                .setHeaderParam("kid", keyId)
+                .setSubject("person1")
+                .claim("uid", userId)
+                .claim("roles", List.of("ROLE_GENERAL_USER"))
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+
+    }
+
+    private static String toJwks(String keyId, KeyPair keyPair) {
+
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+
+        return String.format("{\"keys\":[{\"kty\":\"EC\",\"crv\":\"P-256\",\"kid\":\"%s\",\"x\":\"%s\",\"y\":\"%s\"}]}",
+                keyId, encode(publicKey.getW().getAffineX()), encode(publicKey.getW().getAffineY()));
+
+    }
+
+    private static String encode(BigInteger coordinate) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(coordinate.toByteArray());
+    }
+
+}
@@ -10,7 +10,13 @@ if [ -z "$CONTAINER_RUNNING" ]; then
         docker rm -f ${PROJECT_NAME}
 
         # start a new container
-        docker run -d --name ${PROJECT_NAME} -p 610:8080 ${DOCKER_HUB_USER_NAME}/${PROJECT_NAME}:${PROJECT_VERSION}
+        docker run -d --name ${PROJECT_NAME} -p 610:8080 \
+                -v ${HOME}/profile-images:/var/lib/user-api/profile-images \
+                -e JWT_SIGNING_KEY_ID=$JWT_SIGNING_KEY_ID \
+                -e JWT_SIGNING_PRIVATE_KEY=$JWT_SIGNING_PRIVATE_KEY \
+                -e JWT_SIGNING_PUBLIC_KEY=$JWT_SIGNING_PUBLIC_KEY \
+                -e JWT_RETIRED_PUBLIC_KEYS=$JWT_RETIRED_PUBLIC_KEYS \
+                ${DOCKER_HUB_USER_NAME}/${PROJECT_NAME}:${PROJECT_VERSION}
 
         echo "Container restarted successfully."
 else
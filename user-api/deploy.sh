@@ -28,15 +28,22 @@ echo "4. Image pull complete"
 
 # 5. start Docker container
 echo "Starting Docker container with image tag..."
+mkdir -p ${HOME}/profile-images
 docker run -d \
     --name $PROJECT_NAME \
     --network=docker-network \
     -p 610:8080 \
-    -e SPRING_DATASOURCE_URL=jdbc:mysql://mysql-container:3306/users \
+    -v ${HOME}/profile-images:/var/lib/user-api/profile-images \
+    -e SPRING_DATASOURCE_URL="jdbc:mysql://mysql-container:3306/users?useCursorFetch=true" \
     -e SPRING_DATASOURCE_USERNAME=$DB_USER_NAME \
     -e SPRING_DATASOURCE_PASSWORD=$DB_USER_PASSWORD \
     -e EC2_IP=$EC2_IP \
     -e SPRING_REDIS_PASSWORD=$REDIS_PASSWORD \
+    -e AUTOCOMPLETE_SYNC_TRANSPORT=redis \
+    -e JWT_SIGNING_KEY_ID=$JWT_SIGNING_KEY_ID \
+    -e JWT_SIGNING_PRIVATE_KEY=$JWT_SIGNING_PRIVATE_KEY \
+    -e JWT_SIGNING_PUBLIC_KEY=$JWT_SIGNING_PUBLIC_KEY \
+    -e JWT_RETIRED_PUBLIC_KEYS=$JWT_RETIRED_PUBLIC_KEYS \
     $DOCKER_HUB_USER_NAME/${PROJECT_NAME}:${PROJECT_VERSION} > ${HOME}/log.out 2> ${HOME}/err.out
 echo "5. Starting server complete"
 
@@ -0,0 +1,181 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import personal.yeongyulgori.user.utility.MemoryUtil;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 자동완성 사전 구현별 조회 지연 시간과 메모리 사용량 비교
+ * <p>
+ * 실행: ./gradlew jmh
+ * 두 사전 모두 운영과 같이 Loader로 회원 참조(회원 id, username, 성명)를 적재한다.
+ * 메모리 사용량은 사전 구성 전후의 힙 사용량 차이와 힙 밖에 할당한 FST 및 회원 참조 테이블의 크기로, Setup 단계에서 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class AutoCompleteDictionaryBenchmark {
+
+    private static final String SURNAMES = "김이박최정강조윤장임한오서신권황안송류전홍고문양손배백허유남심노하곽성차주우구민진지엄채원천방공현함변염여추도소석선설마길연위표명기반왕금옥육인맹제모탁국어은편용예경봉사부가복태목형피두감음빈동온호범좌팽승간상갈단견당";
+    private static final String GIVEN_NAME_SYLLABLES = "민서지현수준영우진하은도윤예원시호유주재성혜연경동아나희정태승상수용철미선길숙춘";
+    private static final int PREFIX_COUNT = 1024;
+    private static final int LIMIT = 10;
+
+    @Param({"100000", "1000000"})
+    private int userCount;
+
+    private TrieAutoCompleteDictionary trieDictionary;
+    private OffHeapAutoCompleteDictionary offHeapDictionary;
+    private String[] prefixes;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        Random random = new Random(42);
+        String[] fullNames = new String[userCount];
+
+        for (int i = 0; i < userCount; i++) {
+            fullNames[i] = randomFullName(random);
+        }
+
+        trieDictionary = loadTrieDictionary(fullNames);
+        offHeapDictionary = loadOffHeapDictionary(fullNames);
+
+        long trieMemory = retainedMemory(() -> loadTrieDictionary(fullNames));
+        long offHeapHeapMemory = retainedMemory(() -> loadOffHeapDictionary(fullNames));
+        long offHeapMemory = offHeapDictionary.offHeapSizeInBytes();
+
+        System.out.printf("%n[footprint] users: %d, distinct names: %d, trie heap: %d bytes (%.1f B/user), " +
+                        "off-heap dictionary heap: %d bytes, off-heap (fst + references): %d bytes (%.1f B/user)%n",
+                userCount, trieDictionary.size(), trieMemory, (double) trieMemory / userCount,
+                offHeapHeapMemory, offHeapMemory, (double) offHeapMemory / userCount);
+
+        prefixes = new String[PREFIX_COUNT];
+
+        for (int i = 0; i < PREFIX_COUNT; i++) {
+            String fullName = fullNames[random.nextInt(fullNames.length)];
+            prefixes[i] = fullName.substring(0, 1 + random.nextInt(2));
+        }
+
+    }
+
+    @Benchmark
+    public void trieTopKeys(Blackhole blackhole) {
+        blackhole.consume(trieDictionary.topKeys(nextPrefix(), LIMIT));
+    }
+
+    @Benchmark
+    public void offHeapTopKeys(Blackhole blackhole) {
+        blackhole.consume(offHeapDictionary.topKeys(nextPrefix(), LIMIT));
+    }
+
+    /**
+     * 자동완성 API와 같이 상위 성명마다 회원 참조까지 조회한다.
+     */
+    @Benchmark
+    public void trieTopKeysWithReferences(Blackhole blackhole) {
+        topKeysWithReferences(trieDictionary, blackhole);
+    }
+
+    @Benchmark
+    public void offHeapTopKeysWithReferences(Blackhole blackhole) {
+        topKeysWithReferences(offHeapDictionary, blackhole);
+    }
+
+    private void topKeysWithReferences(AutoCompleteDictionary dictionary, Blackhole blackhole) {
+
+        List<String> fullNames = dictionary.topKeys(nextPrefix(), LIMIT);
+
+        for (String fullName : fullNames) {
+            blackhole.consume(dictionary.references(fullName));
+        }
+
+    }
+
+    private String nextPrefix() {
+        return prefixes[index++ & (PREFIX_COUNT - 1)];
+    }
+
+    private static String randomFullName(Random random) {
+
+        StringBuilder fullName = new StringBuilder(3)
+                .append(SURNAMES.charAt(Math.min(SURNAMES.length() - 1, (int) (Math.abs(random.nextGaussian()) * 12))));
+
+        for (int i = 0; i < 2; i++) {
+            fullName.append(GIVEN_NAME_SYLLABLES.charAt(random.nextInt(GIVEN_NAME_SYLLABLES.length())));
+        }
+
+        return fullName.toString();
+
+    }
+
+    private static TrieAutoCompleteDictionary loadTrieDictionary(String[] fullNames) {
+
+        TrieAutoCompleteDictionary dictionary =
+                new TrieAutoCompleteDictionary(new ConcurrentTrie<>(LIMIT, UserReferences::size));
+
+        load(dictionary, fullNames);
+
+        return dictionary;
+
+    }
+
+    private static OffHeapAutoCompleteDictionary loadOffHeapDictionary(String[] fullNames) {
+
+        OffHeapAutoCompleteDictionary dictionary = new OffHeapAutoCompleteDictionary();
+
+        load(dictionary, fullNames);
+
+        return dictionary;
+
+    }
+
+    /**
+     * 회원 참조와 username은 사전마다 새로 만들므로, 힙에 남는 참조는 해당 사전의 사용량에 포함된다.
+     */
+    private static void load(AutoCompleteDictionary dictionary, String[] fullNames) {
+
+        AutoCompleteDictionary.Loader loader = dictionary.loader();
+
+        for (int i = 0; i < fullNames.length; i++) {
+            loader.add(UserReference.of(i + 1, "user" + (i + 1), fullNames[i]));
+        }
+
+        loader.apply();
+
+    }
+
+    /**
+     * 구성한 사전을 참조하는 동안과 참조를 놓은 뒤의 힙 사용량 차이. 성명 문자열은 양쪽에 공통이므로 포함되지 않는다.
+     */
+    private static long retainedMemory(Supplier<Object> factory) {
+
+        Object[] holder = {factory.get()};
+        long retainedMemory = settledUsedMemory();
+
+        holder[0] = null;
+
+        return retainedMemory - settledUsedMemory();
+
+    }
+
+    private static long settledUsedMemory() {
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return MemoryUtil.usedMemory();
+
+    }
+
+}
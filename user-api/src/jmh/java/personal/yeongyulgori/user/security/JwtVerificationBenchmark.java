@@ -0,0 +1,85 @@
+package personal.yeongyulgori.user.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청 1건당 access token 검증 비용 비교
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtVerificationBenchmark -Pjmh.profilers=gc
+ * perRequestParsers는 기존 필터처럼 요청마다 Base64 문자열 키로 parser를 새로 만들어 token을 세 번(검증, 인증, 로깅) 파싱하고,
+ * sharedParser는 기동 시 만든 parser로 한 번만 파싱한다. gc 프로파일러의 gc.alloc.rate.norm으로 요청당 할당량을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "c29jaWFsLW1lZGlhLXNwcmluZy1wcm9qZWN0LWJ5LWh5b2Jpbi15ZW9uZ3l1bHJvcmkK";
+
+    private String base64SecretKey;
+    private JwtParser jwtParser;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        SecretKey secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8),
+                SignatureAlgorithm.HS256.getJcaName());
+
+        base64SecretKey = Base64.getEncoder().encodeToString(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+
+        Claims claims = Jwts.claims().setSubject("person1");
+        claims.put("roles", List.of("ROLE_GENERAL_USER"));
+        claims.put("ver", 0L);
+
+        Date now = new Date();
+
+        token = Jwts.builder()
+                .setClaims(claims)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .compact();
+
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public void perRequestParsers(Blackhole blackhole) {
+
+        Claims validatedClaims = Jwts.parser().setSigningKey(base64SecretKey).parseClaimsJws(token).getBody();
+        blackhole.consume(validatedClaims.getExpiration().before(new Date()));
+
+        blackhole.consume(Jwts.parser().setSigningKey(base64SecretKey).parseClaimsJws(token).getBody().getSubject());
+        blackhole.consume(Jwts.parser().setSigningKey(base64SecretKey).parseClaimsJws(token).getBody().getSubject());
+
+    }
+
+    @Benchmark
+    public void sharedParser(Blackhole blackhole) {
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+        blackhole.consume(TokenClaims.of(claims.getId(), claims.getSubject(), TokenClaims.toRoles(claims.get("roles")),
+                claims.getIssuedAt(), claims.getExpiration(), claims.get("ver", Long.class)));
+
+    }
+
+}
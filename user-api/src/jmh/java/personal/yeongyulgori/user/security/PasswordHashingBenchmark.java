@@ -0,0 +1,42 @@
+package personal.yeongyulgori.user.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bcrypt strength별 비밀번호 확인 비용
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=PasswordHashingBenchmark
+ * 배포 장비에서 실행해 matches의 평균 시간이 목표(예: 50ms)를 넘지 않는 가장 높은 strength를
+ * security.password-hashing.bcrypt-strength로 설정한다. threads를 코어 수로 올리면 동시 로그인 시의 지연도 확인할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "password-hashing-benchmark";
+
+    @Param({"10", "11", "12", "13"})
+    private int strength;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+
+}
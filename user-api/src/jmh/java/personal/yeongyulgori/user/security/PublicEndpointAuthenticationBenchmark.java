@@ -0,0 +1,132 @@
+package personal.yeongyulgori.user.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.util.ReflectionUtils;
+import personal.yeongyulgori.user.autocomplete.ConcurrentTrie;
+import personal.yeongyulgori.user.model.constant.Role;
+import personal.yeongyulgori.user.security.revocation.InMemoryTokenRevocationStore;
+import personal.yeongyulgori.user.security.revocation.TokenDenylist;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 요청의 bearer token 유무에 따른 처리량 비교
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=PublicEndpointAuthenticationBenchmark
+ * 자동완성 조회를 filter chain 끝에 두고 JwtAuthenticationFilter를 거쳐 호출한다.
+ * verifiedBearerToken은 공개 경로를 건너뛰기 전처럼 token을 검증하고 회원을 불러오는 경우이다.
+ * 회원 조회는 메모리에서 principal을 만들고 요청 로그는 끄므로, 실제 서버에서의 차이는 이보다 크다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublicEndpointAuthenticationBenchmark {
+
+    private static final String AUTO_COMPLETE_PATH = "/users/v1/auto-complete";
+    private static final String SYLLABLES = "김이박최정강조윤장임민서지현수준영우진하은도";
+    private static final int NAME_COUNT = 100_000;
+
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private ConcurrentTrie<Integer> trie;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(JwtAuthenticationFilter.class)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                username -> User.withUsername(username).password("").authorities(Role.ROLE_GENERAL_USER.name()).build(),
+                new AuthVersionVerifier(null, meterRegistry, 30_000, 1_000),
+                new TokenDenylist(new InMemoryTokenRevocationStore(), meterRegistry, 1_000, 0.01),
+                new JwtSigningKeys("", "", "", "", true));
+
+        setField(jwtTokenProvider, "accessTokenExpirationMillis", TimeUnit.DAYS.toMillis(1));
+        jwtTokenProvider.init();
+
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, new CustomAuthenticationEntryPoint());
+        token = jwtTokenProvider.generateToken(1L, "person1", List.of(Role.ROLE_GENERAL_USER), 0);
+
+        Random random = new Random(42);
+        trie = new ConcurrentTrie<>(10, Integer::longValue);
+
+        for (int i = 0; i < NAME_COUNT; i++) {
+
+            StringBuilder fullName = new StringBuilder(3);
+
+            for (int j = 0; j < 3; j++) {
+                fullName.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+
+            trie.update(fullName.toString(), count -> count == null ? 1 : count + 1);
+
+        }
+
+    }
+
+    @Benchmark
+    public void withoutBearerToken(Blackhole blackhole) throws ServletException, IOException {
+        jwtAuthenticationFilter.doFilter(autoCompleteRequest(null), new MockHttpServletResponse(), chain(blackhole));
+    }
+
+    @Benchmark
+    public void withBearerToken(Blackhole blackhole) throws ServletException, IOException {
+        jwtAuthenticationFilter.doFilter(autoCompleteRequest(token), new MockHttpServletResponse(), chain(blackhole));
+    }
+
+    @Benchmark
+    public void verifiedBearerToken(Blackhole blackhole) throws ServletException, IOException {
+        jwtAuthenticationFilter.doFilterInternal(autoCompleteRequest(token), new MockHttpServletResponse(),
+                chain(blackhole));
+    }
+
+    private FilterChain chain(Blackhole blackhole) {
+
+        return (request, response) -> {
+            blackhole.consume(trie.topKeys(request.getParameter("keyword"), 10));
+            SecurityContextHolder.clearContext();
+        };
+
+    }
+
+    private static MockHttpServletRequest autoCompleteRequest(String token) {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", AUTO_COMPLETE_PATH);
+        request.setServletPath(AUTO_COMPLETE_PATH);
+        request.setParameter("keyword", "김민");
+
+        if (token != null) {
+            request.addHeader(JwtAuthenticationFilter.TOKEN_HEADER, JwtAuthenticationFilter.TOKEN_PREFIX + token);
+        }
+
+        return request;
+
+    }
+
+    private static void setField(Object target, String name, Object value) {
+
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+
+    }
+
+}
@@ -0,0 +1,69 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import java.util.List;
+
+/**
+ * 성명별 회원 참조를 보관하고, 회원 수가 많은 성명을 우선 자동완성하는 사전
+ * <p>
+ * autocomplete.backend 설정으로 구현체를 선택한다.
+ * trie(기본값)는 힙 위의 동시성 trie를, off-heap은 힙 밖에 저장한 최소화 FST와 변경분(delta)을 사용한다.
+ */
+public interface AutoCompleteDictionary {
+
+    /**
+     * 회원 참조를 성명에 추가한다. 같은 회원 id의 참조가 이미 있으면 교체한다.
+     *
+     * @return 성명에 없던 회원 id의 참조를 추가했으면 true
+     */
+    boolean add(UserReference userReference);
+
+    /**
+     * 회원 참조를 성명에서 제거하고, 남은 회원이 없으면 성명을 삭제한다.
+     *
+     * @return 해당 회원 id의 참조가 성명에 존재해 제거했으면 true
+     */
+    boolean remove(UserReference userReference);
+
+    List<String> topKeys(String prefix, int limit);
+
+    List<String> fuzzyTopKeys(String prefix, int maxEdits, int limit);
+
+    /**
+     * 한 입력창에서 이어지는 prefix 조회를 위한 cursor를 반환한다. 기본 구현은 조회마다 처음부터 탐색한다.
+     */
+    default Cursor cursor() {
+        return this::topKeys;
+    }
+
+    /**
+     * 성명에 속한 회원 참조를 회원 id 순으로 반환한다. 성명이 없으면 빈 목록이다.
+     */
+    UserReferences references(String fullName);
+
+    int size();
+
+    DictionarySnapshot<UserReferences> snapshot();
+
+    /**
+     * 전체 회원 참조로 사전을 일괄 재구성하는 loader를 반환한다.
+     */
+    Loader loader();
+
+    /**
+     * 직전 조회 위치를 기억해 다음 prefix 조회를 이어서 수행한다. 단일 스레드에서만 사용해야 한다.
+     */
+    interface Cursor {
+
+        List<String> topKeys(String prefix, int limit);
+
+    }
+
+    interface Loader {
+
+        void add(UserReference userReference);
+
+        void apply();
+
+    }
+
+}
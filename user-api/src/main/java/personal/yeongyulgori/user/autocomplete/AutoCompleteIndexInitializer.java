@@ -0,0 +1,324 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StopWatch;
+import personal.yeongyulgori.user.exception.serious.sub.AutoCompleteValueNotFoundException;
+import personal.yeongyulgori.user.model.repository.UserRepository;
+import personal.yeongyulgori.user.service.AutoCompleteService;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 자동완성 색인 초기화 및 스냅샷 관리
+ * <p>
+ * 웹 서버가 요청을 받기 전에 스냅샷 파일 또는 회원 테이블로부터 색인을 구성하고,
+ * 주기적으로(그리고 종료 시) 스냅샷을 기록해 다음 기동 시 전체 테이블 조회 없이 색인을 복원한다.
+ * 스냅샷 이후의 변경(다른 인스턴스의 가입, 기록 전 비정상 종료, 테이블 재생성)은 반영되지 않았을 수 있으므로,
+ * 요청을 받기 시작한 뒤 회원 테이블과 대조해 바로잡는다. 스키마를 매번 새로 만드는 설정에서는 스냅샷을 쓰지 않는다.
+ * 전송 계층에서 유실되거나 큐가 가득 차 버려진 변경 이벤트도 주기적인 대조로 바로잡는다.
+ */
+@Component
+public class AutoCompleteIndexInitializer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(AutoCompleteIndexInitializer.class);
+
+    private static final int STALE_CHECK_BATCH_SIZE = 1000;
+    private static final Comparator<UserReference> MERGE_ORDER =
+            Comparator.comparing(UserReference::getFullName).thenComparingLong(UserReference::getId);
+
+    private final AutoCompleteService autoCompleteService;
+    private final AutoCompleteDictionary autoCompleteDictionary;
+    private final AutoCompleteSnapshotStore autoCompleteSnapshotStore;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final boolean schemaRecreated;
+
+    private volatile DictionarySnapshot<UserReferences> lastWrittenSnapshot;
+    private volatile boolean loadedFromSnapshot;
+
+    public AutoCompleteIndexInitializer(
+            AutoCompleteService autoCompleteService, AutoCompleteDictionary autoCompleteDictionary,
+            AutoCompleteSnapshotStore autoCompleteSnapshotStore, UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.jpa.hibernate.ddl-auto:none}") String ddlAuto
+    ) {
+
+        this.autoCompleteService = autoCompleteService;
+        this.autoCompleteDictionary = autoCompleteDictionary;
+        this.autoCompleteSnapshotStore = autoCompleteSnapshotStore;
+        this.userRepository = userRepository;
+        this.transactionManager = transactionManager;
+        this.schemaRecreated = "create".equals(ddlAuto) || "create-drop".equals(ddlAuto);
+
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+
+        if (schemaRecreated && autoCompleteSnapshotStore.exists()) {
+            log.info("Auto-complete snapshot was ignored because the schema is recreated on startup");
+        }
+
+        if (!schemaRecreated && autoCompleteSnapshotStore.exists() && loadFromSnapshot()) {
+
+            loadedFromSnapshot = true;
+
+            stopWatch.stop();
+            log.info("Auto-complete index was loaded from snapshot, size: {}, estimated time: {} ms",
+                    autoCompleteDictionary.size(), stopWatch.getTotalTimeMillis());
+
+            return;
+
+        }
+
+        loadFromDatabase();
+
+        stopWatch.stop();
+        log.info("Auto-complete index was loaded from database, size: {}, estimated time: {} ms",
+                autoCompleteDictionary.size(), stopWatch.getTotalTimeMillis());
+
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileSnapshotWithDatabase() {
+
+        if (loadedFromSnapshot) {
+            reconcileWithDatabase();
+        }
+
+    }
+
+    @Scheduled(initialDelayString = "${autocomplete.reconcile.interval-millis:3600000}",
+            fixedDelayString = "${autocomplete.reconcile.interval-millis:3600000}")
+    public void reconcilePeriodically() {
+
+        try {
+            reconcileWithDatabase();
+        } catch (RuntimeException e) {
+            log.error("Failed to reconcile auto-complete index with database: {}", e.getMessage(), e);
+        }
+
+    }
+
+    /**
+     * 성명, 회원 id 순으로 순회하는 사전 스냅샷과 같은 순서로 조회한 회원 테이블을 병합해,
+     * 색인에 없는 참조는 추가하고 테이블에 없는 참조는 제거한다. 양쪽을 한 번씩만 순회하므로 색인을 힙에 복사하지 않는다.
+     * DB의 정렬 규칙(collation)은 String 순서와 다를 수 있으므로, 추가할 참조는 사전에서 다시 확인하고
+     * 제거할 후보는 스트림을 닫은 뒤 id로 다시 조회해 테이블과 다른 것만 제거한다.
+     * 대조 중에 적용된 변경과 엇갈린 차이는 다음 대조에서 바로잡힌다.
+     */
+    public void reconcileWithDatabase() {
+
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+
+        DictionarySnapshot<UserReferences> snapshot = autoCompleteDictionary.snapshot();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        SnapshotMerge snapshotMerge = transactionTemplate.execute(status -> {
+            try (Stream<UserReference> userReferences = userRepository.streamAllUserReferencesOrderByFullName()) {
+
+                SnapshotMerge merge = new SnapshotMerge(userReferences.iterator());
+                snapshot.forEach(merge);
+                merge.finish();
+
+                return merge;
+
+            }
+        });
+
+        int removed = removeStaleReferences(snapshotMerge.staleCandidates);
+
+        stopWatch.stop();
+        log.info("Auto-complete index was reconciled with database, removed: {}, added: {}, estimated time: {} ms",
+                removed, snapshotMerge.added, stopWatch.getTotalTimeMillis());
+
+    }
+
+    @Scheduled(initialDelayString = "${autocomplete.snapshot.interval-millis:600000}",
+            fixedDelayString = "${autocomplete.snapshot.interval-millis:600000}")
+    public void writeSnapshot() {
+
+        if (!autoCompleteSnapshotStore.isEnabled()) {
+            return;
+        }
+
+        DictionarySnapshot<UserReferences> snapshot = autoCompleteDictionary.snapshot();
+
+        if (snapshot.isSameAs(lastWrittenSnapshot)) {
+            return;
+        }
+
+        try {
+            autoCompleteSnapshotStore.write(snapshot);
+            lastWrittenSnapshot = snapshot;
+        } catch (IOException e) {
+            log.error("Failed to write auto-complete snapshot: {}", e.getMessage(), e);
+        }
+
+    }
+
+    @PreDestroy
+    public void writeSnapshotOnShutdown() {
+        writeSnapshot();
+    }
+
+    private boolean loadFromSnapshot() {
+
+        try (Stream<UserReference> userReferences = autoCompleteSnapshotStore.readUserReferences()) {
+
+            autoCompleteService.reloadAutoCompleteKeywords(userReferences);
+            lastWrittenSnapshot = autoCompleteDictionary.snapshot();
+
+            return true;
+
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to load auto-complete snapshot, falling back to database: {}", e.getMessage(), e);
+            return false;
+        }
+
+    }
+
+    private int removeStaleReferences(List<UserReference> staleCandidates) {
+
+        int removed = 0;
+
+        for (int from = 0; from < staleCandidates.size(); from += STALE_CHECK_BATCH_SIZE) {
+
+            List<UserReference> batch = staleCandidates.subList(from,
+                    Math.min(from + STALE_CHECK_BATCH_SIZE, staleCandidates.size()));
+
+            Map<Long, UserReference> databaseReferences = new HashMap<>();
+
+            for (UserReference userReference : userRepository.findUserReferencesByIdIn(
+                    batch.stream().map(UserReference::getId).collect(Collectors.toList()))) {
+                databaseReferences.put(userReference.getId(), userReference);
+            }
+
+            for (UserReference staleCandidate : batch) {
+
+                UserReference databaseReference = databaseReferences.get(staleCandidate.getId());
+
+                if (databaseReference != null && databaseReference.getFullName().equals(staleCandidate.getFullName())) {
+                    continue;
+                }
+
+                try {
+                    autoCompleteService.deleteAutoCompleteKeyword(staleCandidate);
+                    removed++;
+                } catch (AutoCompleteValueNotFoundException e) {
+                    log.debug("Stale auto-complete reference was already removed: {}", e.getMessage());
+                }
+
+            }
+
+        }
+
+        return removed;
+
+    }
+
+    private void loadFromDatabase() {
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<UserReference> userReferences = userRepository.streamAllUserReferences()) {
+                autoCompleteService.reloadAutoCompleteKeywords(userReferences);
+            }
+        });
+
+    }
+
+    /**
+     * 스냅샷 순회 위치에 맞춰 회원 테이블 스트림을 앞으로 당기며 두 쪽의 차이를 찾는다.
+     * 성명과 id가 같고 username만 다르면 추가로 교체한다.
+     */
+    private class SnapshotMerge implements BiConsumer<String, UserReferences> {
+
+        private final Iterator<UserReference> databaseReferences;
+        private final List<UserReference> staleCandidates = new ArrayList<>();
+
+        private UserReference databaseReference;
+        private int added;
+
+        private SnapshotMerge(Iterator<UserReference> databaseReferences) {
+            this.databaseReferences = databaseReferences;
+            advance();
+        }
+
+        @Override
+        public void accept(String fullName, UserReferences indexedReferences) {
+
+            for (int i = 0; i < indexedReferences.size(); i++) {
+
+                UserReference indexedReference = indexedReferences.get(i);
+
+                while (databaseReference != null && MERGE_ORDER.compare(databaseReference, indexedReference) < 0) {
+                    addIfMissing(databaseReference);
+                    advance();
+                }
+
+                if (databaseReference != null && MERGE_ORDER.compare(databaseReference, indexedReference) == 0) {
+                    addIfMissing(databaseReference);
+                    advance();
+                } else {
+                    staleCandidates.add(indexedReference);
+                }
+
+            }
+
+        }
+
+        private void finish() {
+
+            while (databaseReference != null) {
+                addIfMissing(databaseReference);
+                advance();
+            }
+
+        }
+
+        private void addIfMissing(UserReference userReference) {
+
+            if (autoCompleteDictionary.references(userReference.getFullName()).asList().contains(userReference)) {
+                return;
+            }
+
+            autoCompleteService.addAutoCompleteKeyWord(userReference);
+            added++;
+
+        }
+
+        private void advance() {
+            databaseReference = databaseReferences.hasNext() ? databaseReferences.next() : null;
+        }
+
+    }
+
+}
@@ -0,0 +1,199 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 자동완성 색인 스냅샷 파일 저장소
+ * <p>
+ * 파일 형식: MAGIC(int), VERSION(int), 항목 수(int), 이후 항목마다 UTF-8 바이트 길이(unsigned short), 성명 바이트,
+ * 해당 성명의 회원 수(int), 회원마다 회원 id(long), username의 UTF-8 바이트 길이(unsigned short), username 바이트.
+ * 읽기는 파일을 메모리 매핑해 순차 디코딩하므로, 색인 전체를 별도의 버퍼로 힙에 올리지 않는다.
+ */
+@Component
+public class AutoCompleteSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(AutoCompleteSnapshotStore.class);
+
+    private static final int MAGIC = 0x41435348;
+    private static final int VERSION = 3;
+    private static final int HEADER_SIZE = Integer.BYTES * 3;
+
+    private final Path snapshotPath;
+
+    public AutoCompleteSnapshotStore(@Value("${autocomplete.snapshot.path:}") String snapshotPath) {
+        this.snapshotPath = StringUtils.hasText(snapshotPath) ? Paths.get(snapshotPath) : null;
+    }
+
+    public boolean isEnabled() {
+        return snapshotPath != null;
+    }
+
+    public boolean exists() {
+        return isEnabled() && Files.isRegularFile(snapshotPath);
+    }
+
+    /**
+     * 스냅샷을 임시 파일에 기록한 뒤 원자적으로 교체하므로, 기록 도중 종료되어도 이전 스냅샷이 유지된다.
+     */
+    public void write(DictionarySnapshot<UserReferences> snapshot) throws IOException {
+
+        Path parent = snapshotPath.toAbsolutePath().getParent();
+
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+
+        try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporaryPath), 1 << 16))) {
+
+            outputStream.writeInt(MAGIC);
+            outputStream.writeInt(VERSION);
+            outputStream.writeInt(snapshot.size());
+
+            snapshot.forEach((fullName, references) -> {
+
+                try {
+
+                    writeString(outputStream, fullName);
+                    outputStream.writeInt(references.size());
+
+                    for (int i = 0; i < references.size(); i++) {
+                        outputStream.writeLong(references.get(i).getId());
+                        writeString(outputStream, references.get(i).getUsername());
+                    }
+
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+
+            });
+
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        Files.move(temporaryPath, snapshotPath,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑해 회원 참조를 성명 순서대로 흘려 보낸다. 반환된 Stream은 반드시 닫아야 한다.
+     */
+    public Stream<UserReference> readUserReferences() throws IOException {
+
+        FileChannel fileChannel = FileChannel.open(snapshotPath, StandardOpenOption.READ);
+
+        try {
+
+            MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("자동완성 스냅샷 형식이 올바르지 않습니다. path: " + snapshotPath);
+            }
+
+            int entryCount = buffer.getInt();
+
+            return StreamSupport.stream(new UserReferenceSpliterator(buffer, entryCount), false)
+                    .onClose(() -> closeQuietly(fileChannel));
+
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(fileChannel);
+            throw e;
+        }
+
+    }
+
+    private static void writeString(DataOutputStream outputStream, String value) throws IOException {
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        outputStream.writeShort(bytes.length);
+        outputStream.write(bytes);
+
+    }
+
+    private void closeQuietly(FileChannel fileChannel) {
+
+        try {
+            fileChannel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close auto-complete snapshot: {}", e.getMessage(), e);
+        }
+
+    }
+
+    private static final class UserReferenceSpliterator extends Spliterators.AbstractSpliterator<UserReference> {
+
+        private final MappedByteBuffer buffer;
+        private final byte[] bytes = new byte[0xFFFF];
+        private int remainingEntries;
+        private String fullName;
+        private int remainingCount;
+
+        private UserReferenceSpliterator(MappedByteBuffer buffer, int entryCount) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.buffer = buffer;
+            this.remainingEntries = entryCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super UserReference> action) {
+
+            while (remainingCount == 0) {
+
+                if (remainingEntries == 0) {
+                    return false;
+                }
+
+                fullName = readString();
+                remainingCount = buffer.getInt();
+                remainingEntries--;
+
+            }
+
+            remainingCount--;
+
+            long id = buffer.getLong();
+            action.accept(UserReference.of(id, readString(), fullName));
+
+            return true;
+
+        }
+
+        private String readString() {
+
+            int length = Short.toUnsignedInt(buffer.getShort());
+            buffer.get(bytes, 0, length);
+
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,539 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * 최소화된 가중치 FST(finite-state transducer) 기반의 읽기 전용 자동완성 사전
+ * <p>
+ * 사전 순으로 정렬된 key를 차례로 입력받아 하위 상태가 같은 상태를 하나로 합치며(Daciuk 알고리즘),
+ * 완성된 상태는 힙 밖의 direct ByteBuffer에 고정 길이 레코드로 기록한다.
+ * 상태 레코드: 종료 가중치(int, 0이면 비종료), 하위 최대 가중치(int), 하위 key 수(int), 전이 수(char),
+ * 이후 전이마다 문자(char)와 대상 상태 주소(int). 전이는 문자 순으로 정렬되어 이진 탐색한다.
+ * <p>
+ * 상태마다 하위 key의 최대 가중치를 보관하므로, prefix 조회는 최대 가중치 우선 탐색으로 상위 key의 경로만 방문한다.
+ * 상태마다 하위 key 수를 보관하므로, key의 사전 순 번호(ordinal)를 경로를 따라가며 계산할 수 있다(최소 완전 해시).
+ * 가중치는 양의 정수여야 한다.
+ */
+public final class CompactFst {
+
+    private static final int STATE_HEADER_SIZE = Integer.BYTES * 3 + Character.BYTES;
+    private static final int ARC_SIZE = Character.BYTES + Integer.BYTES;
+
+    private static final Comparator<Match> MATCH_ORDER = (first, second) -> first.weight != second.weight
+            ? Integer.compare(second.weight, first.weight) : first.key.compareTo(second.key);
+
+    private final ByteBuffer buffer;
+    private final int rootAddress;
+    private final int size;
+
+    private CompactFst(ByteBuffer buffer, int rootAddress, int size) {
+        this.buffer = buffer;
+        this.rootAddress = rootAddress;
+        this.size = size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 힙 밖에 할당된 사전 크기(byte)
+     */
+    public int sizeInBytes() {
+        return buffer.capacity();
+    }
+
+    /**
+     * key의 가중치를 반환한다. key가 없으면 0이다.
+     */
+    public int weight(String key) {
+
+        int address = find(rootAddress, key);
+
+        return address < 0 ? 0 : finalWeight(address);
+
+    }
+
+    /**
+     * key의 사전 순 번호(0부터 시작)를 반환한다. key가 없으면 -1이다. {@link #forEach}의 순회 순서와 같다.
+     */
+    public int ordinal(String key) {
+
+        int address = rootAddress;
+        int ordinal = 0;
+
+        for (int depth = 0; depth < key.length(); depth++) {
+
+            char label = key.charAt(depth);
+            int arcCount = arcCount(address);
+            int target = -1;
+
+            if (finalWeight(address) > 0) {
+                ordinal++;
+            }
+
+            for (int i = 0; i < arcCount && target < 0; i++) {
+
+                char arcLabel = arcLabel(address, i);
+
+                if (arcLabel < label) {
+                    ordinal += keyCount(arcTarget(address, i));
+                } else if (arcLabel == label) {
+                    target = arcTarget(address, i);
+                } else {
+                    return -1;
+                }
+
+            }
+
+            if (target < 0) {
+                return -1;
+            }
+
+            address = target;
+
+        }
+
+        return finalWeight(address) > 0 ? ordinal : -1;
+
+    }
+
+    /**
+     * prefix로 시작하는 key를 가중치가 높은 순으로 최대 limit개 조회한다.
+     */
+    public List<Match> topKeys(String prefix, int limit) {
+
+        int address = find(rootAddress, prefix);
+
+        if (address < 0) {
+            return new ArrayList<>();
+        }
+
+        return topKeys(address, prefix, 0, limit);
+
+    }
+
+    /**
+     * prefix와의 편집 거리가 maxEdits 이하인 prefix를 가진 key를 조회한다.
+     * 일치한 상태마다 가중치 상위 limit개를 모으며, 같은 key는 가장 가까운 거리로 한 번만 반환한다. 반환 목록은 정렬되어 있지 않다.
+     */
+    public List<Match> fuzzyKeys(String prefix, int maxEdits, int limit) {
+
+        Map<String, Match> matches = new HashMap<>();
+
+        int[] firstRow = new int[prefix.length() + 1];
+
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+
+        StringBuilder path = new StringBuilder();
+        int arcCount = arcCount(rootAddress);
+
+        for (int i = 0; i < arcCount; i++) {
+            collectFuzzyMatches(arcTarget(rootAddress, i), arcLabel(rootAddress, i), path, prefix, firstRow,
+                    maxEdits + 1, maxEdits, limit, matches);
+        }
+
+        return new ArrayList<>(matches.values());
+
+    }
+
+    /**
+     * 모든 key와 가중치를 사전 순으로 순회한다.
+     */
+    public void forEach(ObjIntConsumer<String> action) {
+        forEach(rootAddress, new StringBuilder(), action);
+    }
+
+    private void collectFuzzyMatches(int address, char label, StringBuilder path, String prefix, int[] previousRow,
+                                     int matchedDistance, int maxEdits, int limit, Map<String, Match> matches) {
+
+        path.append(label);
+
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+
+        int minimumDistance = row[0];
+
+        for (int i = 1; i < row.length; i++) {
+
+            int substitutionCost = prefix.charAt(i - 1) == label ? 0 : 1;
+
+            row[i] = Math.min(Math.min(row[i - 1] + 1, previousRow[i] + 1), previousRow[i - 1] + substitutionCost);
+            minimumDistance = Math.min(minimumDistance, row[i]);
+
+        }
+
+        int distance = row[row.length - 1];
+
+        if (distance <= maxEdits && distance < matchedDistance) {
+
+            matchedDistance = distance;
+
+            for (Match match : topKeys(address, path.toString(), distance, limit)) {
+                matches.merge(match.key, match,
+                        (oldMatch, newMatch) -> oldMatch.distance <= newMatch.distance ? oldMatch : newMatch);
+            }
+
+        }
+
+        if (minimumDistance < matchedDistance) {
+
+            int arcCount = arcCount(address);
+
+            for (int i = 0; i < arcCount; i++) {
+                collectFuzzyMatches(arcTarget(address, i), arcLabel(address, i), path, prefix, row,
+                        matchedDistance, maxEdits, limit, matches);
+            }
+
+        }
+
+        path.setLength(path.length() - 1);
+
+    }
+
+    /**
+     * 상태에서 시작하는 최대 가중치 우선 탐색. 미완성 경로는 하위 최대 가중치를, 완성된 key는 자신의 가중치를 우선순위로 삼는다.
+     * 미완성 경로에서 만들어지는 key는 항상 그 경로보다 사전 순으로 뒤이므로, 가중치가 같을 때도 순서가 유지된다.
+     */
+    private List<Match> topKeys(int address, String prefix, int distance, int limit) {
+
+        List<Match> results = new ArrayList<>(Math.min(limit, 16));
+        PriorityQueue<Match> queue = new PriorityQueue<>(64, MATCH_ORDER);
+
+        queue.add(new Match(prefix, maxWeight(address), distance, address));
+
+        while (!queue.isEmpty() && results.size() < limit) {
+
+            Match candidate = queue.poll();
+
+            if (candidate.address < 0) {
+                results.add(candidate);
+                continue;
+            }
+
+            int candidateAddress = candidate.address;
+            int finalWeight = finalWeight(candidateAddress);
+
+            if (finalWeight > 0) {
+                queue.add(new Match(candidate.key, finalWeight, distance, -1));
+            }
+
+            int arcCount = arcCount(candidateAddress);
+
+            for (int i = 0; i < arcCount; i++) {
+
+                int target = arcTarget(candidateAddress, i);
+
+                queue.add(new Match(candidate.key + arcLabel(candidateAddress, i), maxWeight(target), distance, target));
+
+            }
+
+        }
+
+        return results;
+
+    }
+
+    private void forEach(int address, StringBuilder path, ObjIntConsumer<String> action) {
+
+        int finalWeight = finalWeight(address);
+
+        if (finalWeight > 0) {
+            action.accept(path.toString(), finalWeight);
+        }
+
+        int arcCount = arcCount(address);
+
+        for (int i = 0; i < arcCount; i++) {
+            path.append(arcLabel(address, i));
+            forEach(arcTarget(address, i), path, action);
+            path.setLength(path.length() - 1);
+        }
+
+    }
+
+    private int find(int address, String key) {
+
+        for (int depth = 0; depth < key.length() && address >= 0; depth++) {
+            address = child(address, key.charAt(depth));
+        }
+
+        return address;
+
+    }
+
+    private int child(int address, char label) {
+
+        int low = 0;
+        int high = arcCount(address) - 1;
+
+        while (low <= high) {
+
+            int middle = (low + high) >>> 1;
+            char middleLabel = arcLabel(address, middle);
+
+            if (middleLabel < label) {
+                low = middle + 1;
+            } else if (middleLabel > label) {
+                high = middle - 1;
+            } else {
+                return arcTarget(address, middle);
+            }
+
+        }
+
+        return -1;
+
+    }
+
+    private int finalWeight(int address) {
+        return buffer.getInt(address);
+    }
+
+    private int maxWeight(int address) {
+        return buffer.getInt(address + Integer.BYTES);
+    }
+
+    private int keyCount(int address) {
+        return buffer.getInt(address + Integer.BYTES * 2);
+    }
+
+    private int arcCount(int address) {
+        return buffer.getChar(address + Integer.BYTES * 3);
+    }
+
+    private char arcLabel(int address, int index) {
+        return buffer.getChar(address + STATE_HEADER_SIZE + index * ARC_SIZE);
+    }
+
+    private int arcTarget(int address, int index) {
+        return buffer.getInt(address + STATE_HEADER_SIZE + index * ARC_SIZE + Character.BYTES);
+    }
+
+    public static final class Match {
+
+        private final String key;
+        private final int weight;
+        private final int distance;
+        private final int address;
+
+        private Match(String key, int weight, int distance, int address) {
+            this.key = key;
+            this.weight = weight;
+            this.distance = distance;
+            this.address = address;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+    }
+
+    /**
+     * 사전 순으로 정렬된 key를 입력받아 최소화된 FST를 구성한다. 단일 스레드에서만 사용해야 한다.
+     * <p>
+     * 직전 key와 공통 prefix를 벗어난 경로의 상태는 이후 바뀌지 않으므로 즉시 기록하고,
+     * 내용이 같은 상태가 이미 기록되어 있으면 그 주소를 재사용한다.
+     */
+    public static final class Builder {
+
+        private final Map<ByteBuffer, Integer> register = new HashMap<>();
+        private final List<PendingState> path = new ArrayList<>();
+
+        private byte[] bytes = new byte[1 << 16];
+        private int length;
+        private String previousKey;
+        private int size;
+
+        private Builder() {
+            path.add(new PendingState());
+        }
+
+        public Builder add(String key, int weight) {
+
+            if (weight <= 0) {
+                throw new IllegalArgumentException("가중치는 양수여야 합니다. key: " + key + ", weight: " + weight);
+            }
+
+            if (previousKey != null && previousKey.compareTo(key) >= 0) {
+                throw new IllegalArgumentException("key는 중복 없이 사전 순으로 입력해야 합니다. key: " + key);
+            }
+
+            int commonPrefixLength = previousKey == null ? 0 : commonPrefixLength(previousKey, key);
+
+            compileFrom(commonPrefixLength);
+
+            for (int depth = commonPrefixLength; depth < key.length(); depth++) {
+                path.get(depth).addArc(key.charAt(depth));
+                path.add(new PendingState());
+            }
+
+            path.get(key.length()).finalWeight = weight;
+
+            previousKey = key;
+            size++;
+
+            return this;
+
+        }
+
+        public CompactFst build() {
+
+            compileFrom(0);
+
+            int rootAddress = compile(path.get(0));
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+            buffer.put(bytes, 0, length);
+            buffer.flip();
+
+            return new CompactFst(buffer.asReadOnlyBuffer(), rootAddress, size);
+
+        }
+
+        /**
+         * depth보다 깊은 경로의 상태를 기록하고 부모 상태의 마지막 전이에 연결한다.
+         */
+        private void compileFrom(int depth) {
+
+            for (int i = path.size() - 1; i > depth; i--) {
+
+                PendingState state = path.remove(i);
+
+                path.get(i - 1).setLastTarget(compile(state), state.maxWeight(), state.keyCount());
+
+            }
+
+        }
+
+        private int compile(PendingState state) {
+
+            int recordSize = STATE_HEADER_SIZE + state.arcCount * ARC_SIZE;
+            ByteBuffer record = ByteBuffer.allocate(recordSize);
+
+            record.putInt(state.finalWeight);
+            record.putInt(state.maxWeight());
+            record.putInt(state.keyCount());
+            record.putChar((char) state.arcCount);
+
+            for (int i = 0; i < state.arcCount; i++) {
+                record.putChar(state.labels[i]);
+                record.putInt(state.targets[i]);
+            }
+
+            record.flip();
+
+            Integer registeredAddress = register.get(record);
+
+            if (registeredAddress != null) {
+                return registeredAddress;
+            }
+
+            if (length + recordSize > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + recordSize));
+            }
+
+            int address = length;
+
+            System.arraycopy(record.array(), 0, bytes, address, recordSize);
+            length += recordSize;
+
+            register.put(record, address);
+
+            return address;
+
+        }
+
+        private static int commonPrefixLength(String first, String second) {
+
+            int limit = Math.min(first.length(), second.length());
+            int length = 0;
+
+            while (length < limit && first.charAt(length) == second.charAt(length)) {
+                length++;
+            }
+
+            return length;
+
+        }
+
+    }
+
+    private static final class PendingState {
+
+        private int finalWeight;
+        private char[] labels = new char[2];
+        private int[] targets = new int[2];
+        private int[] targetMaxWeights = new int[2];
+        private int[] targetKeyCounts = new int[2];
+        private int arcCount;
+
+        private void addArc(char label) {
+
+            if (arcCount == labels.length) {
+                labels = Arrays.copyOf(labels, arcCount * 2);
+                targets = Arrays.copyOf(targets, arcCount * 2);
+                targetMaxWeights = Arrays.copyOf(targetMaxWeights, arcCount * 2);
+                targetKeyCounts = Arrays.copyOf(targetKeyCounts, arcCount * 2);
+            }
+
+            labels[arcCount++] = label;
+
+        }
+
+        private void setLastTarget(int address, int maxWeight, int keyCount) {
+            targets[arcCount - 1] = address;
+            targetMaxWeights[arcCount - 1] = maxWeight;
+            targetKeyCounts[arcCount - 1] = keyCount;
+        }
+
+        private int maxWeight() {
+
+            int maxWeight = finalWeight;
+
+            for (int i = 0; i < arcCount; i++) {
+                maxWeight = Math.max(maxWeight, targetMaxWeights[i]);
+            }
+
+            return maxWeight;
+
+        }
+
+        private int keyCount() {
+
+            int keyCount = finalWeight > 0 ? 1 : 0;
+
+            for (int i = 0; i < arcCount; i++) {
+                keyCount += targetKeyCounts[i];
+            }
+
+            return keyCount;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,142 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@link CompactFst}의 key 번호(ordinal)로 조회하는 읽기 전용 회원 참조 표
+ * <p>
+ * 힙 밖의 direct ByteBuffer에 번호별 레코드 시작 주소(int) 배열과 레코드를 차례로 기록한다.
+ * 레코드: 회원 수(int), 이후 회원마다 회원 id(long), username의 UTF-8 바이트 길이(unsigned short), username 바이트.
+ * 성명은 FST의 key와 같으므로 기록하지 않는다.
+ */
+public final class CompactReferenceTable {
+
+    private final ByteBuffer buffer;
+    private final int size;
+
+    private CompactReferenceTable(ByteBuffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 힙 밖에 할당된 표 크기(byte)
+     */
+    public int sizeInBytes() {
+        return buffer.capacity();
+    }
+
+    /**
+     * ordinal번째 성명의 회원 참조를 읽는다. ordinal이 범위를 벗어나면 빈 목록이다.
+     */
+    public UserReferences get(int ordinal, String fullName) {
+
+        if (ordinal < 0 || ordinal >= size) {
+            return UserReferences.empty();
+        }
+
+        ByteBuffer record = buffer.duplicate();
+        record.position(buffer.getInt(ordinal * Integer.BYTES));
+
+        UserReference[] references = new UserReference[record.getInt()];
+        byte[] bytes = new byte[0];
+
+        for (int i = 0; i < references.length; i++) {
+
+            long id = record.getLong();
+            int length = Short.toUnsignedInt(record.getShort());
+
+            if (bytes.length < length) {
+                bytes = new byte[length];
+            }
+
+            record.get(bytes, 0, length);
+            references[i] = UserReference.of(id, new String(bytes, 0, length, StandardCharsets.UTF_8), fullName);
+
+        }
+
+        return UserReferences.ofSorted(references);
+
+    }
+
+    /**
+     * 성명의 사전 순서대로 회원 참조를 입력받아 표를 구성한다. 단일 스레드에서만 사용해야 한다.
+     */
+    public static final class Builder {
+
+        private int[] offsets = new int[1 << 10];
+        private byte[] bytes = new byte[1 << 16];
+        private int length;
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(UserReferences references) {
+
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+
+            offsets[size++] = length;
+
+            ensureCapacity(Integer.BYTES);
+            ByteBuffer.wrap(bytes, length, Integer.BYTES).putInt(references.size());
+            length += Integer.BYTES;
+
+            for (int i = 0; i < references.size(); i++) {
+
+                UserReference reference = references.get(i);
+                byte[] username = reference.getUsername().getBytes(StandardCharsets.UTF_8);
+                int recordSize = Long.BYTES + Short.BYTES + username.length;
+
+                ensureCapacity(recordSize);
+                ByteBuffer.wrap(bytes, length, recordSize)
+                        .putLong(reference.getId())
+                        .putShort((short) username.length)
+                        .put(username);
+                length += recordSize;
+
+            }
+
+            return this;
+
+        }
+
+        public CompactReferenceTable build() {
+
+            int offsetsSize = size * Integer.BYTES;
+            ByteBuffer buffer = ByteBuffer.allocateDirect(offsetsSize + length);
+
+            for (int i = 0; i < size; i++) {
+                buffer.putInt(offsetsSize + offsets[i]);
+            }
+
+            buffer.put(bytes, 0, length);
+            buffer.flip();
+
+            return new CompactReferenceTable(buffer.asReadOnlyBuffer(), size);
+
+        }
+
+        private void ensureCapacity(int additionalSize) {
+
+            if (length + additionalSize > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additionalSize));
+            }
+
+        }
+
+    }
+
+}
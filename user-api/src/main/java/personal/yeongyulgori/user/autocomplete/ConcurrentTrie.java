@@ -0,0 +1,686 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * 동시성 자동완성 trie
+ * <p>
+ * 모든 노드는 불변이며, 쓰기는 변경된 경로의 노드만 복사(path copying)한 뒤 CAS로 루트를 교체한다.
+ * 읽기는 루트 참조 하나로 고정된 스냅샷을 순회하므로 잠금 없이 수행되고, 동시 쓰기 중에도 실패하지 않는다.
+ * <p>
+ * 각 노드는 하위 key 중 가중치가 가장 높은 상위 K개의 항목을 미리 계산해 보관하므로,
+ * prefix 조회 비용은 하위 key의 개수와 무관하게 prefix 길이에 비례한다.
+ */
+public class ConcurrentTrie<V> {
+
+    private final Ranking<V> ranking;
+    private final AtomicReference<Node<V>> root = new AtomicReference<>(Node.empty());
+
+    /**
+     * @param candidateSize 노드마다 보관할 상위 항목 수(K)
+     * @param weigher       값으로부터 순위 가중치를 계산하는 함수. 가중치가 같으면 key의 사전 순으로 정렬한다.
+     */
+    public ConcurrentTrie(int candidateSize, ToLongFunction<V> weigher) {
+        this.ranking = new Ranking<>(candidateSize, weigher);
+    }
+
+    public void put(String key, V value) {
+        update(key, oldValue -> value);
+    }
+
+    public void remove(String key) {
+        update(key, oldValue -> null);
+    }
+
+    /**
+     * key에 해당하는 값을 원자적으로 갱신하고, 갱신이 적용된 시점의 이전 값을 반환한다.
+     * 갱신 함수가 null을 반환하면 key를 삭제한다.
+     * CAS 경합 시 갱신 함수가 여러 번 호출될 수 있으므로 부수 효과가 없어야 한다.
+     */
+    public V update(String key, UnaryOperator<V> remappingFunction) {
+
+        while (true) {
+
+            Node<V> currentRoot = root.get();
+            Node<V> updatedRoot = currentRoot.update(key, 0, remappingFunction, ranking);
+
+            if (updatedRoot == currentRoot || root.compareAndSet(currentRoot, updatedRoot)) {
+                return currentRoot.valueOf(key);
+            }
+
+        }
+
+    }
+
+    public V get(String key) {
+        return root.get().valueOf(key);
+    }
+
+    public boolean containsKey(String key) {
+        return get(key) != null;
+    }
+
+    public int size() {
+        return root.get().size;
+    }
+
+    public void clear() {
+        root.set(Node.empty());
+    }
+
+    public Builder<V> builder() {
+        return new Builder<>(ranking);
+    }
+
+    /**
+     * builder로 일괄 구성한 trie로 전체 내용을 한 번에 교체한다.
+     */
+    public void replaceAll(Builder<V> builder) {
+        root.set(builder.build());
+    }
+
+    /**
+     * 현재 시점의 불변 스냅샷을 반환한다. 이후의 쓰기는 반환된 스냅샷에 영향을 주지 않는다.
+     */
+    public Snapshot<V> snapshot() {
+        return new Snapshot<>(root.get());
+    }
+
+    /**
+     * 연속된 prefix 조회를 위한 cursor를 반환한다.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * prefix로 시작하는 key를 가중치가 높은 순으로 최대 limit개(최대 K개) 조회한다.
+     */
+    public List<String> topKeys(String prefix, int limit) {
+        return topKeys(root.get().find(prefix), limit);
+    }
+
+    private static <V> List<String> topKeys(Node<V> node, int limit) {
+
+        if (node == null) {
+            return new ArrayList<>();
+        }
+
+        int size = Math.min(limit, node.topEntries.length);
+        List<String> keys = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            keys.add(node.topEntries[i].key);
+        }
+
+        return keys;
+
+    }
+
+    /**
+     * prefix와의 편집 거리가 maxEdits 이하인 prefix를 가진 key를 거리가 가까운 순, 가중치가 높은 순으로 최대 limit개 조회한다.
+     * <p>
+     * trie를 깊이 우선으로 순회하며 Levenshtein 거리표의 행을 노드마다 한 줄씩 계산하고(Levenshtein automaton),
+     * 행의 최솟값이 이미 찾은 거리 이상이 되는 하위 노드는 방문하지 않는다.
+     * 일치한 노드의 하위 key는 미리 계산된 상위 K개 항목으로 대신하므로 limit은 K 이하여야 정확하다.
+     */
+    public List<String> fuzzyTopKeys(String prefix, int maxEdits, int limit) {
+
+        Node<V> currentRoot = root.get();
+        Map<String, FuzzyMatch<V>> matches = new HashMap<>();
+
+        int[] firstRow = new int[prefix.length() + 1];
+
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+
+        for (int i = 0; i < currentRoot.children.length; i++) {
+            collectFuzzyMatches(currentRoot.children[i], currentRoot.labels[i], prefix, firstRow,
+                    maxEdits + 1, maxEdits, matches);
+        }
+
+        List<FuzzyMatch<V>> sortedMatches = new ArrayList<>(matches.values());
+        sortedMatches.sort(Comparator.<FuzzyMatch<V>>comparingInt(match -> match.distance)
+                .thenComparing(match -> match.entry, ranking.order));
+
+        int size = Math.min(limit, sortedMatches.size());
+        List<String> keys = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            keys.add(sortedMatches.get(i).entry.key);
+        }
+
+        return keys;
+
+    }
+
+    private void collectFuzzyMatches(Node<V> node, char label, String prefix, int[] previousRow,
+                                     int matchedDistance, int maxEdits, Map<String, FuzzyMatch<V>> matches) {
+
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+
+        int minimumDistance = row[0];
+
+        for (int i = 1; i < row.length; i++) {
+
+            int substitutionCost = prefix.charAt(i - 1) == label ? 0 : 1;
+
+            row[i] = Math.min(Math.min(row[i - 1] + 1, previousRow[i] + 1), previousRow[i - 1] + substitutionCost);
+            minimumDistance = Math.min(minimumDistance, row[i]);
+
+        }
+
+        int distance = row[row.length - 1];
+
+        if (distance <= maxEdits && distance < matchedDistance) {
+
+            matchedDistance = distance;
+
+            for (Entry<V> entry : node.topEntries) {
+                matches.merge(entry.key, new FuzzyMatch<>(entry, distance),
+                        (oldMatch, newMatch) -> oldMatch.distance <= newMatch.distance ? oldMatch : newMatch);
+            }
+
+        }
+
+        if (minimumDistance >= matchedDistance) {
+            return;
+        }
+
+        for (int i = 0; i < node.children.length; i++) {
+            collectFuzzyMatches(node.children[i], node.labels[i], prefix, row, matchedDistance, maxEdits, matches);
+        }
+
+    }
+
+    /**
+     * 직전 prefix까지 내려간 노드 경로를 기억하는 cursor
+     * <p>
+     * 다음 prefix가 직전 prefix와 공유하는 부분까지는 기억한 노드를 재사용하고, 달라진 글자만 내려간다.
+     * 따라서 한 글자씩 입력하거나 지우는 동안 조회마다 루트부터 다시 탐색하지 않는다.
+     * 그 사이 trie가 변경되어 루트가 교체되었으면 새 루트에서 다시 내려가므로 변경 내용도 반영된다.
+     * 단일 스레드에서만 사용해야 한다.
+     */
+    public final class Cursor {
+
+        private Node<V>[] path = Node.newArray(16);
+        private String prefix = "";
+        private int depth;
+
+        private Cursor() {
+        }
+
+        public List<String> topKeys(String prefix, int limit) {
+
+            Node<V> currentRoot = root.get();
+
+            if (path[0] != currentRoot) {
+                path[0] = currentRoot;
+                depth = 0;
+            }
+
+            int commonPrefixLength = Math.min(depth, commonPrefixLength(this.prefix, prefix));
+
+            depth = commonPrefixLength;
+            this.prefix = prefix;
+
+            if (path.length <= prefix.length()) {
+                path = Arrays.copyOf(path, Math.max(path.length * 2, prefix.length() + 1));
+            }
+
+            while (depth < prefix.length()) {
+
+                Node<V> child = path[depth].child(prefix.charAt(depth));
+
+                if (child == null) {
+                    return new ArrayList<>();
+                }
+
+                path[++depth] = child;
+
+            }
+
+            return ConcurrentTrie.topKeys(path[depth], limit);
+
+        }
+
+        private int commonPrefixLength(String first, String second) {
+
+            int limit = Math.min(first.length(), second.length());
+            int length = 0;
+
+            while (length < limit && first.charAt(length) == second.charAt(length)) {
+                length++;
+            }
+
+            return length;
+
+        }
+
+    }
+
+    public static final class Snapshot<V> implements DictionarySnapshot<V> {
+
+        private final Node<V> root;
+
+        private Snapshot(Node<V> root) {
+            this.root = root;
+        }
+
+        @Override
+        public int size() {
+            return root.size;
+        }
+
+        public V get(String key) {
+            return root.valueOf(key);
+        }
+
+        @Override
+        public boolean isSameAs(DictionarySnapshot<V> other) {
+            return other instanceof Snapshot && root == ((Snapshot<V>) other).root;
+        }
+
+        @Override
+        public void forEach(BiConsumer<String, V> action) {
+            root.forEach(action);
+        }
+
+        /**
+         * prefix로 시작하는 key와 값을 사전 순으로 순회한다.
+         */
+        public void forEach(String prefix, BiConsumer<String, V> action) {
+
+            Node<V> node = root.find(prefix);
+
+            if (node != null) {
+                node.forEach(action);
+            }
+
+        }
+
+    }
+
+    /**
+     * 대량 적재용 builder
+     * <p>
+     * 경로 복사 없이 가변 노드에 적재한 뒤 한 번에 불변 노드로 변환하므로, 수백만 개의 key를 적재할 때
+     * 개별 put보다 할당량이 훨씬 적다. 단일 스레드에서만 사용해야 한다.
+     */
+    public static final class Builder<V> {
+
+        private final Ranking<V> ranking;
+        private final MutableNode<V> root = new MutableNode<>();
+
+        private Builder(Ranking<V> ranking) {
+            this.ranking = ranking;
+        }
+
+        public Builder<V> put(String key, V value) {
+            return update(key, oldValue -> value);
+        }
+
+        public Builder<V> update(String key, UnaryOperator<V> remappingFunction) {
+
+            MutableNode<V> node = root;
+
+            for (int depth = 0; depth < key.length(); depth++) {
+                node = node.getOrCreateChild(key.charAt(depth));
+            }
+
+            node.key = key;
+            node.value = remappingFunction.apply(node.value);
+
+            return this;
+
+        }
+
+        private Node<V> build() {
+            return root.freeze(ranking);
+        }
+
+    }
+
+    private static final class Ranking<V> {
+
+        private final int candidateSize;
+        private final ToLongFunction<V> weigher;
+        private final Comparator<Entry<V>> order = Comparator.<Entry<V>>comparingLong(entry -> entry.weight)
+                .reversed().thenComparing(entry -> entry.key);
+
+        private Ranking(int candidateSize, ToLongFunction<V> weigher) {
+            this.candidateSize = candidateSize;
+            this.weigher = weigher;
+        }
+
+        private Entry<V> entry(String key, V value) {
+            return value == null ? null : new Entry<>(key, value, weigher.applyAsLong(value));
+        }
+
+        /**
+         * 자신의 항목과 자식 노드들의 상위 항목을 병합해 상위 K개를 선택한다.
+         * 자식의 목록은 이미 정렬되어 있으므로 K번째 항목보다 낮은 항목을 만나면 해당 자식의 나머지는 건너뛴다.
+         */
+        private Entry<V>[] select(Entry<V> ownEntry, Node<V>[] children) {
+
+            Entry<V>[] selected = Entry.newArray(candidateSize);
+            int count = 0;
+
+            if (ownEntry != null && candidateSize > 0) {
+                selected[count++] = ownEntry;
+            }
+
+            for (Node<V> child : children) {
+
+                for (Entry<V> candidate : child.topEntries) {
+
+                    if (count == candidateSize && order.compare(candidate, selected[count - 1]) >= 0) {
+                        break;
+                    }
+
+                    int position = count == candidateSize ? count - 1 : count++;
+
+                    while (position > 0 && order.compare(candidate, selected[position - 1]) < 0) {
+                        selected[position] = selected[position - 1];
+                        position--;
+                    }
+
+                    selected[position] = candidate;
+
+                }
+
+            }
+
+            return count == candidateSize ? selected : Arrays.copyOf(selected, count);
+
+        }
+
+    }
+
+    private static final class FuzzyMatch<V> {
+
+        private final Entry<V> entry;
+        private final int distance;
+
+        private FuzzyMatch(Entry<V> entry, int distance) {
+            this.entry = entry;
+            this.distance = distance;
+        }
+
+    }
+
+    private static final class Entry<V> {
+
+        private final String key;
+        private final V value;
+        private final long weight;
+
+        private Entry(String key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Entry<V>[] newArray(int length) {
+            return (Entry<V>[]) new Entry<?>[length];
+        }
+
+    }
+
+    private static final class MutableNode<V> {
+
+        private String key;
+        private V value;
+        private char[] labels = new char[0];
+        private MutableNode<V>[] children = newArray(0);
+
+        @SuppressWarnings("unchecked")
+        private static <V> MutableNode<V>[] newArray(int length) {
+            return (MutableNode<V>[]) new MutableNode<?>[length];
+        }
+
+        private MutableNode<V> getOrCreateChild(char label) {
+
+            int index = Arrays.binarySearch(labels, label);
+
+            if (index >= 0) {
+                return children[index];
+            }
+
+            index = -(index + 1);
+
+            char[] newLabels = new char[labels.length + 1];
+            MutableNode<V>[] newChildren = newArray(children.length + 1);
+
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index, newLabels, index + 1, labels.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+
+            MutableNode<V> child = new MutableNode<>();
+
+            newLabels[index] = label;
+            newChildren[index] = child;
+
+            labels = newLabels;
+            children = newChildren;
+
+            return child;
+
+        }
+
+        private Node<V> freeze(Ranking<V> ranking) {
+
+            char[] frozenLabels = new char[labels.length];
+            Node<V>[] frozenChildren = Node.newArray(children.length);
+            int count = 0;
+
+            for (int i = 0; i < children.length; i++) {
+
+                Node<V> child = children[i].freeze(ranking);
+
+                if (!child.isEmpty()) {
+                    frozenLabels[count] = labels[i];
+                    frozenChildren[count++] = child;
+                }
+
+            }
+
+            if (value == null && count == 0) {
+                return Node.empty();
+            }
+
+            return new Node<>(ranking.entry(key, value), Arrays.copyOf(frozenLabels, count),
+                    Arrays.copyOf(frozenChildren, count), ranking);
+
+        }
+
+    }
+
+    private static final class Node<V> {
+
+        private static final Node<?> EMPTY = new Node<>();
+
+        private final Entry<V> entry;
+        private final char[] labels;
+        private final Node<V>[] children;
+        private final int size;
+        private final Entry<V>[] topEntries;
+
+        private Node() {
+            this.entry = null;
+            this.labels = new char[0];
+            this.children = newArray(0);
+            this.size = 0;
+            this.topEntries = Entry.newArray(0);
+        }
+
+        private Node(Entry<V> entry, char[] labels, Node<V>[] children, Ranking<V> ranking) {
+
+            this.entry = entry;
+            this.labels = labels;
+            this.children = children;
+
+            int size = entry == null ? 0 : 1;
+
+            for (Node<V> child : children) {
+                size += child.size;
+            }
+
+            this.size = size;
+            this.topEntries = ranking.select(entry, children);
+
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V> empty() {
+            return (Node<V>) EMPTY;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] newArray(int length) {
+            return (Node<V>[]) new Node<?>[length];
+        }
+
+        private boolean isEmpty() {
+            return entry == null && children.length == 0;
+        }
+
+        private Node<V> find(String key) {
+
+            Node<V> node = this;
+
+            for (int depth = 0; depth < key.length() && node != null; depth++) {
+                node = node.child(key.charAt(depth));
+            }
+
+            return node;
+
+        }
+
+        private V valueOf(String key) {
+
+            Node<V> node = find(key);
+
+            return node == null || node.entry == null ? null : node.entry.value;
+
+        }
+
+        private Node<V> child(char label) {
+
+            int index = Arrays.binarySearch(labels, label);
+
+            return index >= 0 ? children[index] : null;
+
+        }
+
+        private Node<V> update(String key, int depth, UnaryOperator<V> remappingFunction, Ranking<V> ranking) {
+
+            if (depth == key.length()) {
+
+                V value = entry == null ? null : entry.value;
+                V newValue = remappingFunction.apply(value);
+
+                if (newValue == value) {
+                    return this;
+                }
+
+                if (newValue == null && children.length == 0) {
+                    return Node.empty();
+                }
+
+                return new Node<>(ranking.entry(key, newValue), labels, children, ranking);
+
+            }
+
+            char label = key.charAt(depth);
+            int index = Arrays.binarySearch(labels, label);
+
+            Node<V> child = index >= 0 ? children[index] : Node.empty();
+            Node<V> newChild = child.update(key, depth + 1, remappingFunction, ranking);
+
+            if (newChild == child) {
+                return this;
+            }
+
+            if (newChild.isEmpty()) {
+                return withoutChild(index, ranking);
+            }
+
+            return index >= 0
+                    ? withChild(index, newChild, ranking) : withNewChild(-(index + 1), label, newChild, ranking);
+
+        }
+
+        private Node<V> withChild(int index, Node<V> child, Ranking<V> ranking) {
+
+            Node<V>[] newChildren = children.clone();
+            newChildren[index] = child;
+
+            return new Node<>(entry, labels, newChildren, ranking);
+
+        }
+
+        private Node<V> withNewChild(int index, char label, Node<V> child, Ranking<V> ranking) {
+
+            char[] newLabels = new char[labels.length + 1];
+            Node<V>[] newChildren = newArray(children.length + 1);
+
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+
+            newLabels[index] = label;
+            newChildren[index] = child;
+
+            System.arraycopy(labels, index, newLabels, index + 1, labels.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+
+            return new Node<>(entry, newLabels, newChildren, ranking);
+
+        }
+
+        private Node<V> withoutChild(int index, Ranking<V> ranking) {
+
+            if (entry == null && children.length == 1) {
+                return Node.empty();
+            }
+
+            char[] newLabels = new char[labels.length - 1];
+            Node<V>[] newChildren = newArray(children.length - 1);
+
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+
+            return new Node<>(entry, newLabels, newChildren, ranking);
+
+        }
+
+        private void forEach(BiConsumer<String, V> action) {
+
+            if (entry != null) {
+                action.accept(entry.key, entry.value);
+            }
+
+            for (Node<V> child : children) {
+                child.forEach(action);
+            }
+
+        }
+
+    }
+
+}
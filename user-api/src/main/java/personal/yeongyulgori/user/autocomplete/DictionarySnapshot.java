@@ -0,0 +1,22 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 자동완성 사전의 특정 시점 불변 스냅샷
+ */
+public interface DictionarySnapshot<V> {
+
+    int size();
+
+    /**
+     * 두 스냅샷이 같은 시점의 내용을 가리키는지 확인한다. 내용을 비교하지 않고 참조만 비교하므로 상수 시간에 수행된다.
+     */
+    boolean isSameAs(DictionarySnapshot<V> other);
+
+    /**
+     * 모든 key와 값을 사전 순으로 순회한다.
+     */
+    void forEach(BiConsumer<String, V> action);
+
+}
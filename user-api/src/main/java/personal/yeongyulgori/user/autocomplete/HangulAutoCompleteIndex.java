@@ -0,0 +1,116 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import org.springframework.stereotype.Component;
+import personal.yeongyulgori.user.utility.HangulUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static personal.yeongyulgori.user.configuration.TrieConfig.AUTO_COMPLETE_CANDIDATE_SIZE;
+
+/**
+ * 초성("ㅎㄱㄷ") 및 자모 단위 입력("홍기")을 위한 보조 자동완성 색인
+ * <p>
+ * 성명을 초성열과 자모열로 분해한 key(분해 결과 + 구분자 + 성명)를 각각의 trie에 등록하므로,
+ * 분해된 키워드의 prefix 조회만으로 원래 성명을 얻을 수 있고 조회 비용은 일반 자동완성과 같다.
+ * 분해 결과가 같은 서로 다른 성명도 구분자 뒤의 성명으로 구별된다.
+ */
+@Component
+public class HangulAutoCompleteIndex {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final ConcurrentTrie<Integer> chosungTrie =
+            new ConcurrentTrie<>(AUTO_COMPLETE_CANDIDATE_SIZE, Integer::longValue);
+    private final ConcurrentTrie<Integer> jamoTrie =
+            new ConcurrentTrie<>(AUTO_COMPLETE_CANDIDATE_SIZE, Integer::longValue);
+
+    public void add(String fullName) {
+        chosungTrie.update(chosungKey(fullName), HangulAutoCompleteIndex::increment);
+        jamoTrie.update(jamoKey(fullName), HangulAutoCompleteIndex::increment);
+    }
+
+    public void remove(String fullName) {
+        chosungTrie.update(chosungKey(fullName), HangulAutoCompleteIndex::decrement);
+        jamoTrie.update(jamoKey(fullName), HangulAutoCompleteIndex::decrement);
+    }
+
+    /**
+     * 키워드가 초성으로만 이루어져 있으면 초성 색인을, 그 밖의 한글 키워드는 자모 색인을 조회한다.
+     * 한글이 포함되지 않은 키워드는 일반 자동완성과 결과가 같으므로 조회하지 않는다.
+     */
+    public List<String> autoComplete(String keyword, int limit) {
+
+        if (HangulUtil.isChosungOnly(keyword)) {
+            return toFullNames(chosungTrie.topKeys(keyword, limit));
+        }
+
+        if (HangulUtil.containsHangul(keyword)) {
+            return toFullNames(jamoTrie.topKeys(HangulUtil.toJamo(keyword), limit));
+        }
+
+        return new ArrayList<>();
+
+    }
+
+    public Reloader reloader() {
+        return new Reloader();
+    }
+
+    public void clear() {
+        chosungTrie.clear();
+        jamoTrie.clear();
+    }
+
+    private static String chosungKey(String fullName) {
+        return HangulUtil.toChosung(fullName) + SEPARATOR + fullName;
+    }
+
+    private static String jamoKey(String fullName) {
+        return HangulUtil.toJamo(fullName) + SEPARATOR + fullName;
+    }
+
+    private static List<String> toFullNames(List<String> keys) {
+
+        List<String> fullNames = new ArrayList<>(keys.size());
+
+        for (String key : keys) {
+            fullNames.add(key.substring(key.indexOf(SEPARATOR) + 1));
+        }
+
+        return fullNames;
+
+    }
+
+    private static Integer increment(Integer count) {
+        return count == null ? 1 : count + 1;
+    }
+
+    private static Integer decrement(Integer count) {
+        return count == null || count <= 1 ? null : count - 1;
+    }
+
+    /**
+     * 전체 성명 목록으로 보조 색인을 일괄 재구성한다. 단일 스레드에서만 사용해야 한다.
+     */
+    public final class Reloader {
+
+        private final ConcurrentTrie.Builder<Integer> chosungBuilder = chosungTrie.builder();
+        private final ConcurrentTrie.Builder<Integer> jamoBuilder = jamoTrie.builder();
+
+        private Reloader() {
+        }
+
+        public void add(String fullName) {
+            chosungBuilder.update(chosungKey(fullName), HangulAutoCompleteIndex::increment);
+            jamoBuilder.update(jamoKey(fullName), HangulAutoCompleteIndex::increment);
+        }
+
+        public void apply() {
+            chosungTrie.replaceAll(chosungBuilder);
+            jamoTrie.replaceAll(jamoBuilder);
+        }
+
+    }
+
+}
@@ -0,0 +1,617 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StopWatch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+/**
+ * 힙 밖의 최소화 FST와 힙 위의 작은 변경분(delta)으로 구성된 자동완성 사전
+ * <p>
+ * 전체 성명과 회원 수는 {@link CompactFst}로, 회원 참조는 FST의 key 번호로 조회하는 {@link CompactReferenceTable}로 힙 밖에 보관한다.
+ * 이후의 가입/탈퇴는 성명별로 추가된 참조와 제거된 회원 id로 delta trie에 기록한다.
+ * 조회는 FST 결과에 delta의 회원 수 증감값을 더해 계산하며, delta는 주기적으로 FST에 병합된다.
+ * <p>
+ * 병합은 쓰기 잠금으로 delta를 병합 대기(pending) 상태로 넘긴 뒤 잠금 없이 새 FST를 구성하고,
+ * FST와 pending을 하나의 상태 객체로 교체한다. 조회는 잠금 없이 수행되며 항상 FST + pending + delta의 합을 본다.
+ */
+@Component
+@ConditionalOnProperty(name = "autocomplete.backend", havingValue = "off-heap")
+public class OffHeapAutoCompleteDictionary implements AutoCompleteDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(OffHeapAutoCompleteDictionary.class);
+
+    private static final Comparator<Candidate> CANDIDATE_ORDER = Comparator.<Candidate>comparingInt(
+                    candidate -> candidate.distance)
+            .thenComparing(Comparator.<Candidate>comparingInt(candidate -> candidate.weight).reversed())
+            .thenComparing(candidate -> candidate.key);
+
+    private final ReadWriteLock mergeLock = new ReentrantReadWriteLock();
+
+    private volatile State state = new State(CompactFst.builder().build(), CompactReferenceTable.builder().build(),
+            null, newDelta());
+
+    /**
+     * FST와 pending의 회원 참조는 병합 전후로 변하지 않으므로, delta 갱신 함수 안에서 현재 참조를 원자적으로 확인할 수 있다.
+     */
+    @Override
+    public boolean add(UserReference userReference) {
+
+        mergeLock.readLock().lock();
+
+        try {
+
+            State currentState = state;
+            UserReferences committedReferences = currentState.committedReferences(userReference.getFullName());
+
+            Change previousChange = currentState.delta.update(userReference.getFullName(),
+                    change -> Change.valueOf(change).add(committedReferences, userReference));
+
+            return !Change.valueOf(previousChange).apply(committedReferences).contains(userReference.getId());
+
+        } finally {
+            mergeLock.readLock().unlock();
+        }
+
+    }
+
+    @Override
+    public boolean remove(UserReference userReference) {
+
+        mergeLock.readLock().lock();
+
+        try {
+
+            State currentState = state;
+            UserReferences committedReferences = currentState.committedReferences(userReference.getFullName());
+            long id = userReference.getId();
+
+            Change previousChange = currentState.delta.update(userReference.getFullName(),
+                    change -> Change.valueOf(change).remove(committedReferences, id));
+
+            return Change.valueOf(previousChange).apply(committedReferences).contains(id);
+
+        } finally {
+            mergeLock.readLock().unlock();
+        }
+
+    }
+
+    /**
+     * delta가 있는 key는 모두 직접 계산하고, 나머지 key는 FST의 순위를 그대로 따른다.
+     * delta가 있는 key 수만큼 FST에서 더 조회하므로, delta로 순위가 바뀐 key가 있어도 상위 limit개가 정확하다.
+     */
+    @Override
+    public List<String> topKeys(String prefix, int limit) {
+
+        State currentState = state;
+        Map<String, Integer> adjustments = currentState.adjustments(prefix);
+        Map<String, Candidate> candidates = new HashMap<>();
+
+        for (CompactFst.Match match : currentState.base.topKeys(prefix, limit + adjustments.size())) {
+            addCandidate(candidates, match.getKey(), match.getWeight() + adjustments.getOrDefault(match.getKey(), 0), 0);
+        }
+
+        adjustments.forEach((key, adjustment) -> {
+            if (!candidates.containsKey(key)) {
+                addCandidate(candidates, key, currentState.base.weight(key) + adjustment, 0);
+            }
+        });
+
+        return sortedKeys(candidates, limit);
+
+    }
+
+    @Override
+    public List<String> fuzzyTopKeys(String prefix, int maxEdits, int limit) {
+
+        State currentState = state;
+        Map<String, Integer> adjustments = currentState.adjustments("");
+        Map<String, Candidate> candidates = new HashMap<>();
+
+        for (CompactFst.Match match : currentState.base.fuzzyKeys(prefix, maxEdits, limit + adjustments.size())) {
+            addCandidate(candidates, match.getKey(),
+                    match.getWeight() + adjustments.getOrDefault(match.getKey(), 0), match.getDistance());
+        }
+
+        adjustments.forEach((key, adjustment) -> {
+
+            int distance = prefixDistance(prefix, key);
+
+            if (distance <= maxEdits) {
+                candidates.remove(key);
+                addCandidate(candidates, key, currentState.base.weight(key) + adjustment, distance);
+            }
+
+        });
+
+        return sortedKeys(candidates, limit);
+
+    }
+
+    @Override
+    public UserReferences references(String fullName) {
+
+        State currentState = state;
+
+        return Change.valueOf(currentState.delta.get(fullName)).apply(currentState.committedReferences(fullName));
+
+    }
+
+    @Override
+    public int size() {
+        return snapshot().size();
+    }
+
+    /**
+     * 힙 밖에 할당한 FST와 회원 참조 테이블의 크기. 병합 전의 delta는 힙에 있으므로 포함하지 않는다.
+     */
+    public long offHeapSizeInBytes() {
+
+        State currentState = state;
+
+        return (long) currentState.base.sizeInBytes() + currentState.baseReferences.sizeInBytes();
+
+    }
+
+    @Override
+    public DictionarySnapshot<UserReferences> snapshot() {
+        return new Snapshot(state);
+    }
+
+    /**
+     * 회원 참조를 모두 모아 정렬한 뒤 FST와 참조 표를 새로 구성하므로, 적재 중에는 참조 목록만 힙에 머무른다.
+     */
+    @Override
+    public Loader loader() {
+
+        List<UserReference> userReferences = new ArrayList<>();
+
+        return new Loader() {
+
+            @Override
+            public void add(UserReference userReference) {
+                userReferences.add(userReference);
+            }
+
+            @Override
+            public void apply() {
+
+                userReferences.sort(Comparator.comparing(UserReference::getFullName)
+                        .thenComparingLong(UserReference::getId));
+
+                CompactFst.Builder keyBuilder = CompactFst.builder();
+                CompactReferenceTable.Builder referenceBuilder = CompactReferenceTable.builder();
+
+                for (int i = 0; i < userReferences.size(); ) {
+
+                    String fullName = userReferences.get(i).getFullName();
+                    UserReferences references = UserReferences.empty();
+
+                    while (i < userReferences.size() && userReferences.get(i).getFullName().equals(fullName)) {
+                        references = references.with(userReferences.get(i++));
+                    }
+
+                    keyBuilder.add(fullName, references.size());
+                    referenceBuilder.add(references);
+
+                }
+
+                userReferences.clear();
+
+                CompactFst base = keyBuilder.build();
+                CompactReferenceTable baseReferences = referenceBuilder.build();
+
+                mergeLock.writeLock().lock();
+
+                try {
+                    state = new State(base, baseReferences, null, newDelta());
+                } finally {
+                    mergeLock.writeLock().unlock();
+                }
+
+            }
+
+        };
+
+    }
+
+    /**
+     * delta를 FST에 병합한다. 병합 도중 전체 재적재가 일어나면 병합 결과는 버린다.
+     */
+    @Scheduled(initialDelayString = "${autocomplete.off-heap.merge-interval-millis:60000}",
+            fixedDelayString = "${autocomplete.off-heap.merge-interval-millis:60000}")
+    public void mergeDelta() {
+
+        State pendingState;
+
+        mergeLock.writeLock().lock();
+
+        try {
+
+            if (state.pending != null || state.delta.size() == 0) {
+                return;
+            }
+
+            pendingState = new State(state.base, state.baseReferences, state.delta.snapshot(), newDelta());
+            state = pendingState;
+
+        } finally {
+            mergeLock.writeLock().unlock();
+        }
+
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+
+        CompactFst.Builder keyBuilder = CompactFst.builder();
+        CompactReferenceTable.Builder referenceBuilder = CompactReferenceTable.builder();
+
+        new Snapshot(new State(pendingState.base, pendingState.baseReferences, pendingState.pending, newDelta()))
+                .forEach((fullName, references) -> {
+                    keyBuilder.add(fullName, references.size());
+                    referenceBuilder.add(references);
+                });
+
+        CompactFst mergedBase = keyBuilder.build();
+        CompactReferenceTable mergedReferences = referenceBuilder.build();
+
+        mergeLock.writeLock().lock();
+
+        try {
+
+            if (state.pending != pendingState.pending) {
+                return;
+            }
+
+            state = new State(mergedBase, mergedReferences, null, state.delta);
+
+        } finally {
+            mergeLock.writeLock().unlock();
+        }
+
+        stopWatch.stop();
+        log.info("Auto-complete delta was merged into off-heap dictionary, size: {}, off-heap bytes: {}, " +
+                "estimated time: {} ms", mergedBase.size(), mergedBase.sizeInBytes() + mergedReferences.sizeInBytes(),
+                stopWatch.getTotalTimeMillis());
+
+    }
+
+    private static void addCandidate(Map<String, Candidate> candidates, String key, int weight, int distance) {
+
+        if (weight > 0) {
+            candidates.merge(key, new Candidate(key, weight, distance),
+                    (oldCandidate, newCandidate) -> oldCandidate.distance <= newCandidate.distance
+                            ? oldCandidate : newCandidate);
+        }
+
+    }
+
+    private static List<String> sortedKeys(Map<String, Candidate> candidates, int limit) {
+
+        List<Candidate> sortedCandidates = new ArrayList<>(candidates.values());
+        sortedCandidates.sort(CANDIDATE_ORDER);
+
+        int size = Math.min(limit, sortedCandidates.size());
+        List<String> keys = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            keys.add(sortedCandidates.get(i).key);
+        }
+
+        return keys;
+
+    }
+
+    /**
+     * key의 prefix 중 가장 가까운 것과의 편집 거리
+     */
+    private static int prefixDistance(String prefix, String key) {
+
+        int[] previousRow = new int[prefix.length() + 1];
+
+        for (int i = 0; i < previousRow.length; i++) {
+            previousRow[i] = i;
+        }
+
+        int distance = previousRow[prefix.length()];
+
+        for (int depth = 0; depth < key.length(); depth++) {
+
+            int[] row = new int[previousRow.length];
+            row[0] = depth + 1;
+
+            for (int i = 1; i < row.length; i++) {
+
+                int substitutionCost = prefix.charAt(i - 1) == key.charAt(depth) ? 0 : 1;
+
+                row[i] = Math.min(Math.min(row[i - 1] + 1, previousRow[i] + 1),
+                        previousRow[i - 1] + substitutionCost);
+
+            }
+
+            distance = Math.min(distance, row[prefix.length()]);
+            previousRow = row;
+
+        }
+
+        return distance;
+
+    }
+
+    private static ConcurrentTrie<Change> newDelta() {
+        return new ConcurrentTrie<>(0, Change::countChange);
+    }
+
+    private static final class State {
+
+        private final CompactFst base;
+        private final CompactReferenceTable baseReferences;
+        private final ConcurrentTrie.Snapshot<Change> pending;
+        private final ConcurrentTrie<Change> delta;
+
+        private State(CompactFst base, CompactReferenceTable baseReferences, ConcurrentTrie.Snapshot<Change> pending,
+                      ConcurrentTrie<Change> delta) {
+            this.base = base;
+            this.baseReferences = baseReferences;
+            this.pending = pending;
+            this.delta = delta;
+        }
+
+        /**
+         * FST의 회원 참조에 pending을 적용한 참조
+         */
+        private UserReferences committedReferences(String key) {
+            return committedReferences(key, base.ordinal(key));
+        }
+
+        private UserReferences committedReferences(String key, int ordinal) {
+
+            UserReferences references = baseReferences.get(ordinal, key);
+
+            return pending == null ? references : Change.valueOf(pending.get(key)).apply(references);
+
+        }
+
+        /**
+         * prefix로 시작하는 key의 pending과 delta 증감값 합계
+         */
+        private Map<String, Integer> adjustments(String prefix) {
+            return adjustments(prefix, delta.snapshot());
+        }
+
+        private Map<String, Integer> adjustments(String prefix, ConcurrentTrie.Snapshot<Change> deltaSnapshot) {
+
+            Map<String, Integer> adjustments = new TreeMap<>();
+            BiConsumer<String, Change> accumulator = (key, change) -> adjustments.merge(key, change.countChange(),
+                    Integer::sum);
+
+            if (pending != null) {
+                pending.forEach(prefix, accumulator);
+            }
+
+            deltaSnapshot.forEach(prefix, accumulator);
+
+            return adjustments;
+
+        }
+
+    }
+
+    /**
+     * FST, pending, delta를 병합한 시점 고정 스냅샷
+     */
+    private static final class Snapshot implements DictionarySnapshot<UserReferences> {
+
+        private final State state;
+        private final ConcurrentTrie.Snapshot<Change> deltaSnapshot;
+
+        private Snapshot(State state) {
+            this.state = state;
+            this.deltaSnapshot = state.delta.snapshot();
+        }
+
+        @Override
+        public int size() {
+
+            int size = state.base.size();
+
+            for (Map.Entry<String, Integer> adjustment : state.adjustments("", deltaSnapshot).entrySet()) {
+
+                int baseCount = state.base.weight(adjustment.getKey());
+                int count = baseCount + adjustment.getValue();
+
+                if (baseCount > 0 && count <= 0) {
+                    size--;
+                } else if (baseCount == 0 && count > 0) {
+                    size++;
+                }
+
+            }
+
+            return size;
+
+        }
+
+        @Override
+        public boolean isSameAs(DictionarySnapshot<UserReferences> other) {
+
+            if (!(other instanceof Snapshot)) {
+                return false;
+            }
+
+            Snapshot otherSnapshot = (Snapshot) other;
+
+            return state.base == otherSnapshot.state.base && state.pending == otherSnapshot.state.pending
+                    && deltaSnapshot.isSameAs(otherSnapshot.deltaSnapshot);
+
+        }
+
+        /**
+         * FST의 사전 순 순회와 정렬된 변경 key를 병합해 회원이 남아 있는 성명만 사전 순으로 순회한다.
+         * FST의 순회 순서가 key 번호와 같으므로, 참조 표는 번호로 바로 조회한다.
+         */
+        @Override
+        public void forEach(BiConsumer<String, UserReferences> action) {
+
+            Iterator<String> changedKeys = state.adjustments("", deltaSnapshot).keySet().iterator();
+            String[] nextChangedKey = {next(changedKeys)};
+            int[] ordinal = {0};
+
+            state.base.forEach((key, weight) -> {
+
+                while (nextChangedKey[0] != null && nextChangedKey[0].compareTo(key) < 0) {
+                    accept(action, nextChangedKey[0], -1);
+                    nextChangedKey[0] = next(changedKeys);
+                }
+
+                if (key.equals(nextChangedKey[0])) {
+                    nextChangedKey[0] = next(changedKeys);
+                }
+
+                accept(action, key, ordinal[0]++);
+
+            });
+
+            for (String changedKey = nextChangedKey[0]; changedKey != null; changedKey = next(changedKeys)) {
+                accept(action, changedKey, -1);
+            }
+
+        }
+
+        private void accept(BiConsumer<String, UserReferences> action, String key, int ordinal) {
+
+            UserReferences references = Change.valueOf(deltaSnapshot.get(key))
+                    .apply(state.committedReferences(key, ordinal));
+
+            if (!references.isEmpty()) {
+                action.accept(key, references);
+            }
+
+        }
+
+        private static String next(Iterator<String> iterator) {
+            return iterator.hasNext() ? iterator.next() : null;
+        }
+
+    }
+
+    /**
+     * 한 성명의 회원 참조 변경분. 적용 대상 참조(FST 또는 FST + pending)를 기준으로,
+     * removedIds는 대상에 있던 회원 중 제거된 id를, added는 대상 위에 추가되거나 교체된 참조를 담는다.
+     */
+    private static final class Change {
+
+        private static final Change EMPTY = new Change(UserReferences.empty(), new long[0]);
+
+        private final UserReferences added;
+        private final long[] removedIds;
+
+        private Change(UserReferences added, long[] removedIds) {
+            this.added = added;
+            this.removedIds = removedIds;
+        }
+
+        private static Change valueOf(Change change) {
+            return change == null ? EMPTY : change;
+        }
+
+        private int countChange() {
+            return added.size() - removedIds.length;
+        }
+
+        private UserReferences apply(UserReferences references) {
+
+            for (long removedId : removedIds) {
+                references = references.without(removedId);
+            }
+
+            for (int i = 0; i < added.size(); i++) {
+                references = references.with(added.get(i));
+            }
+
+            return references;
+
+        }
+
+        /**
+         * 대상에 같은 id가 남아 있으면 제거 후 추가로 기록해 참조를 교체한다. 변경분이 비면 null을 반환한다.
+         */
+        private Change add(UserReferences committedReferences, UserReference userReference) {
+
+            long id = userReference.getId();
+
+            if (added.contains(id) || !committedReferences.contains(id) || isRemoved(id)) {
+                return new Change(added.with(userReference), removedIds);
+            }
+
+            if (committedReferences.asList().contains(userReference)) {
+                return nullIfEmpty(this);
+            }
+
+            return new Change(added.with(userReference), withRemovedId(id));
+
+        }
+
+        private Change remove(UserReferences committedReferences, long id) {
+
+            if (added.contains(id)) {
+                return nullIfEmpty(new Change(added.without(id), removedIds));
+            }
+
+            if (committedReferences.contains(id) && !isRemoved(id)) {
+                return new Change(added, withRemovedId(id));
+            }
+
+            return nullIfEmpty(this);
+
+        }
+
+        private boolean isRemoved(long id) {
+            return Arrays.binarySearch(removedIds, id) >= 0;
+        }
+
+        private long[] withRemovedId(long id) {
+
+            long[] ids = Arrays.copyOf(removedIds, removedIds.length + 1);
+            ids[removedIds.length] = id;
+            Arrays.sort(ids);
+
+            return ids;
+
+        }
+
+        private static Change nullIfEmpty(Change change) {
+            return change.added.isEmpty() && change.removedIds.length == 0 ? null : change;
+        }
+
+    }
+
+    private static final class Candidate {
+
+        private final String key;
+        private final int weight;
+        private final int distance;
+
+        private Candidate(String key, int weight, int distance) {
+            this.key = key;
+            this.weight = weight;
+            this.distance = distance;
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 힙 위의 동시성 trie를 사용하는 자동완성 사전
+ */
+@Component
+@ConditionalOnProperty(name = "autocomplete.backend", havingValue = "trie", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TrieAutoCompleteDictionary implements AutoCompleteDictionary {
+
+    private final ConcurrentTrie<UserReferences> trie;
+
+    @Override
+    public boolean add(UserReference userReference) {
+
+        UserReferences previousReferences = trie.update(userReference.getFullName(),
+                references -> with(references, userReference));
+
+        return previousReferences == null || !previousReferences.contains(userReference.getId());
+
+    }
+
+    @Override
+    public boolean remove(UserReference userReference) {
+
+        UserReferences previousReferences = trie.update(userReference.getFullName(),
+                references -> without(references, userReference.getId()));
+
+        return previousReferences != null && previousReferences.contains(userReference.getId());
+
+    }
+
+    @Override
+    public List<String> topKeys(String prefix, int limit) {
+        return trie.topKeys(prefix, limit);
+    }
+
+    @Override
+    public List<String> fuzzyTopKeys(String prefix, int maxEdits, int limit) {
+        return trie.fuzzyTopKeys(prefix, maxEdits, limit);
+    }
+
+    @Override
+    public Cursor cursor() {
+        return trie.cursor()::topKeys;
+    }
+
+    @Override
+    public UserReferences references(String fullName) {
+
+        UserReferences references = trie.get(fullName);
+
+        return references == null ? UserReferences.empty() : references;
+
+    }
+
+    @Override
+    public int size() {
+        return trie.size();
+    }
+
+    @Override
+    public DictionarySnapshot<UserReferences> snapshot() {
+        return trie.snapshot();
+    }
+
+    @Override
+    public Loader loader() {
+
+        ConcurrentTrie.Builder<UserReferences> builder = trie.builder();
+
+        return new Loader() {
+
+            @Override
+            public void add(UserReference userReference) {
+                builder.update(userReference.getFullName(), references -> with(references, userReference));
+            }
+
+            @Override
+            public void apply() {
+                trie.replaceAll(builder);
+            }
+
+        };
+
+    }
+
+    private static UserReferences with(UserReferences references, UserReference userReference) {
+        return (references == null ? UserReferences.empty() : references).with(userReference);
+    }
+
+    private static UserReferences without(UserReferences references, long id) {
+
+        if (references == null) {
+            return null;
+        }
+
+        UserReferences remainingReferences = references.without(id);
+
+        return remainingReferences.isEmpty() ? null : remainingReferences;
+
+    }
+
+}
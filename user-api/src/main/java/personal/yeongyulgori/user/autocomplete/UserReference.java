@@ -0,0 +1,36 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import personal.yeongyulgori.user.model.entity.User;
+
+/**
+ * 자동완성 결과로 반환하는 회원 참조(회원 id, username, 성명)
+ * <p>
+ * 결과를 선택하고 화면에 표시하는 데 필요한 최소한의 정보만 담으므로, 클라이언트가 성명으로 회원을 다시 검색할 필요가 없다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class UserReference {
+
+    private final long id;
+    private final String username;
+    private final String fullName;
+
+    public UserReference(long id, String username, String fullName) {
+        this.id = id;
+        this.username = username;
+        this.fullName = fullName;
+    }
+
+    public static UserReference of(long id, String username, String fullName) {
+        return new UserReference(id, username, fullName);
+    }
+
+    public static UserReference from(User user) {
+        return new UserReference(user.getId(), user.getUsername(), user.getFullName());
+    }
+
+}
@@ -0,0 +1,144 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 한 성명에 속한 회원 참조의 불변 목록
+ * <p>
+ * 회원 id 순으로 정렬된 배열로 보관하며, 같은 id는 한 번만 들어간다. 변경 연산은 새 목록을 반환한다.
+ */
+public final class UserReferences {
+
+    private static final UserReferences EMPTY = new UserReferences(new UserReference[0]);
+
+    private final UserReference[] references;
+
+    private UserReferences(UserReference[] references) {
+        this.references = references;
+    }
+
+    public static UserReferences empty() {
+        return EMPTY;
+    }
+
+    public static UserReferences of(UserReference... references) {
+
+        UserReferences userReferences = EMPTY;
+
+        for (UserReference reference : references) {
+            userReferences = userReferences.with(reference);
+        }
+
+        return userReferences;
+
+    }
+
+    /**
+     * 회원 id 순으로 정렬되고 id가 중복되지 않은 배열을 복사 없이 감싼다.
+     */
+    static UserReferences ofSorted(UserReference[] references) {
+        return references.length == 0 ? EMPTY : new UserReferences(references);
+    }
+
+    public int size() {
+        return references.length;
+    }
+
+    public boolean isEmpty() {
+        return references.length == 0;
+    }
+
+    public boolean contains(long id) {
+        return indexOf(id) >= 0;
+    }
+
+    public UserReference get(int index) {
+        return references[index];
+    }
+
+    public List<UserReference> asList() {
+        return Collections.unmodifiableList(Arrays.asList(references));
+    }
+
+    /**
+     * 참조를 추가한 목록을 반환한다. 같은 id의 참조가 있으면 새 참조로 교체한다.
+     */
+    public UserReferences with(UserReference reference) {
+
+        int index = indexOf(reference.getId());
+
+        if (index >= 0) {
+
+            if (references[index].equals(reference)) {
+                return this;
+            }
+
+            UserReference[] replaced = references.clone();
+            replaced[index] = reference;
+
+            return new UserReferences(replaced);
+
+        }
+
+        int insertionPoint = -index - 1;
+        UserReference[] added = new UserReference[references.length + 1];
+
+        System.arraycopy(references, 0, added, 0, insertionPoint);
+        added[insertionPoint] = reference;
+        System.arraycopy(references, insertionPoint, added, insertionPoint + 1, references.length - insertionPoint);
+
+        return new UserReferences(added);
+
+    }
+
+    /**
+     * id의 참조를 제외한 목록을 반환한다. 해당 id가 없으면 자신을 그대로 반환한다.
+     */
+    public UserReferences without(long id) {
+
+        int index = indexOf(id);
+
+        if (index < 0) {
+            return this;
+        }
+
+        if (references.length == 1) {
+            return EMPTY;
+        }
+
+        UserReference[] removed = new UserReference[references.length - 1];
+
+        System.arraycopy(references, 0, removed, 0, index);
+        System.arraycopy(references, index + 1, removed, index, references.length - index - 1);
+
+        return new UserReferences(removed);
+
+    }
+
+    private int indexOf(long id) {
+
+        int low = 0;
+        int high = references.length - 1;
+
+        while (low <= high) {
+
+            int middle = (low + high) >>> 1;
+            long middleId = references[middle].getId();
+
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+
+        }
+
+        return -(low + 1);
+
+    }
+
+}
@@ -0,0 +1,196 @@
+package personal.yeongyulgori.user.autocomplete.sync;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import personal.yeongyulgori.user.exception.serious.sub.AutoCompleteValueNotFoundException;
+import personal.yeongyulgori.user.service.AutoCompleteService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자동완성 변경 이벤트를 로컬 색인에 적용한다.
+ * <p>
+ * 이 인스턴스에서 커밋된 변경은 applyLocally로 바로 적용하고, 전송 계층으로 돌아온 자신의 이벤트는 무시한다.
+ * 다른 인스턴스의 이벤트는 수신 스레드가 큐에 넣기만 하고, 전용 스레드가 최대 batch-size개씩 꺼내 순서대로 적용한다.
+ * 적용 지연 시간(발행 시각부터 적용 시각까지), 대기 중인 이벤트 수, 적용 및 유실 건수를 지표로 노출한다.
+ * 지연 시간은 인스턴스 간 시계 차이를 포함한다.
+ */
+@Component
+public class AutoCompleteChangeApplier implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AutoCompleteChangeApplier.class);
+
+    private final AutoCompleteService autoCompleteService;
+    private final BlockingQueue<AutoCompleteChangeEvent> queue;
+    private final int batchSize;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter appliedCounter;
+    private final Counter droppedCounter;
+
+    private volatile Thread worker;
+    private volatile boolean running;
+
+    public AutoCompleteChangeApplier(
+            AutoCompleteService autoCompleteService, AutoCompleteChangeTransport autoCompleteChangeTransport,
+            MeterRegistry meterRegistry,
+            @Value("${autocomplete.sync.queue-capacity:100000}") int queueCapacity,
+            @Value("${autocomplete.sync.batch-size:256}") int batchSize
+    ) {
+
+        this.autoCompleteService = autoCompleteService;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+
+        Gauge.builder("autocomplete.sync.lag", lagMillis, AtomicLong::get)
+                .description("Milliseconds between publishing and applying the last auto-complete change batch")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("autocomplete.sync.pending", queue, BlockingQueue::size)
+                .description("Auto-complete change events waiting to be applied")
+                .register(meterRegistry);
+
+        this.appliedCounter = Counter.builder("autocomplete.sync.applied").register(meterRegistry);
+        this.droppedCounter = Counter.builder("autocomplete.sync.dropped").register(meterRegistry);
+
+        autoCompleteChangeTransport.subscribe(this::enqueue);
+
+    }
+
+    public long getLagMillis() {
+        return lagMillis.get();
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public void applyLocally(AutoCompleteChangeEvent event) {
+
+        applySafely(event);
+
+        appliedCounter.increment();
+
+    }
+
+    @Override
+    public void start() {
+
+        running = true;
+
+        worker = new Thread(this::applyLoop, "autocomplete-sync");
+        worker.setDaemon(true);
+        worker.start();
+
+    }
+
+    @Override
+    public void stop() {
+
+        running = false;
+
+        if (worker != null) {
+            worker.interrupt();
+        }
+
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void enqueue(AutoCompleteChangeEvent event) {
+
+        if (instanceId.equals(event.getOrigin())) {
+            return;
+        }
+
+        if (!queue.offer(event)) {
+            droppedCounter.increment();
+            log.error("Auto-complete change queue is full, event was dropped. type: {}, userId: {}, fullName: {}",
+                    event.getType(), event.getUserId(), event.getFullName());
+        }
+
+    }
+
+    private void applyLoop() {
+
+        List<AutoCompleteChangeEvent> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+
+            try {
+
+                AutoCompleteChangeEvent firstEvent = queue.poll(1, TimeUnit.SECONDS);
+
+                if (firstEvent == null) {
+                    continue;
+                }
+
+                batch.add(firstEvent);
+                queue.drainTo(batch, batchSize - 1);
+
+                applyBatch(batch);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+
+        }
+
+    }
+
+    private void applyBatch(List<AutoCompleteChangeEvent> batch) {
+
+        for (AutoCompleteChangeEvent event : batch) {
+            applySafely(event);
+        }
+
+        appliedCounter.increment(batch.size());
+        lagMillis.set(Math.max(0, System.currentTimeMillis() - batch.get(batch.size() - 1).getOccurredAt()));
+
+    }
+
+    private void applySafely(AutoCompleteChangeEvent event) {
+
+        try {
+            apply(event);
+        } catch (AutoCompleteValueNotFoundException e) {
+            log.warn("Auto-complete change could not be applied: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Failed to apply auto-complete change: {}", e.getMessage(), e);
+        }
+
+    }
+
+    private void apply(AutoCompleteChangeEvent event) {
+
+        switch (event.getType()) {
+            case ADDED:
+                autoCompleteService.addAutoCompleteKeyWord(event.toUserReference());
+                break;
+            case REMOVED:
+                autoCompleteService.deleteAutoCompleteKeyword(event.toUserReference());
+                break;
+        }
+
+    }
+
+}
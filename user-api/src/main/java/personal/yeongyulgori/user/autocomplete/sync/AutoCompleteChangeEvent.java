@@ -0,0 +1,52 @@
+package personal.yeongyulgori.user.autocomplete.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import personal.yeongyulgori.user.autocomplete.UserReference;
+
+/**
+ * 자동완성 색인 변경 이벤트
+ * <p>
+ * 회원 가입, 성명 또는 username 변경, 탈퇴가 커밋된 뒤 발행되어 모든 인스턴스의 로컬 색인에 적용된다.
+ * occurredAt은 발행 인스턴스의 시각(epoch millis)으로, 적용 지연 시간 측정에 사용한다.
+ * origin은 발행 인스턴스의 id로, 발행 인스턴스는 이미 직접 적용했으므로 전송 계층으로 돌아온 이벤트를 무시한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoCompleteChangeEvent {
+
+    private Type type;
+    private long userId;
+    private String username;
+    private String fullName;
+    private long occurredAt;
+    private String origin;
+
+    public static AutoCompleteChangeEvent added(UserReference userReference) {
+        return of(Type.ADDED, userReference);
+    }
+
+    public static AutoCompleteChangeEvent removed(UserReference userReference) {
+        return of(Type.REMOVED, userReference);
+    }
+
+    private static AutoCompleteChangeEvent of(Type type, UserReference userReference) {
+        return new AutoCompleteChangeEvent(type, userReference.getId(), userReference.getUsername(),
+                userReference.getFullName(), System.currentTimeMillis(), null);
+    }
+
+    public AutoCompleteChangeEvent withOrigin(String origin) {
+        return new AutoCompleteChangeEvent(type, userId, username, fullName, occurredAt, origin);
+    }
+
+    public UserReference toUserReference() {
+        return UserReference.of(userId, username, fullName);
+    }
+
+    public enum Type {
+        ADDED, REMOVED
+    }
+
+}
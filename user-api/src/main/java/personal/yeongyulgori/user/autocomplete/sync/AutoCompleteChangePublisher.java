@@ -0,0 +1,52 @@
+package personal.yeongyulgori.user.autocomplete.sync;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 트랜잭션이 커밋된 뒤에만 자동완성 변경 이벤트를 적용하고 발행한다.
+ * 롤백된 가입/탈퇴가 색인에 반영되지 않으며, 트랜잭션 밖에서 발행된 이벤트는 즉시 적용하고 전송한다.
+ * <p>
+ * 요청을 처리한 인스턴스는 전송 계층을 거치지 않고 로컬 색인에 바로 적용하고, 전송 계층은 다른 인스턴스에만 쓴다.
+ * 전송에 실패해도 로컬 색인은 이미 반영되어 있고, 다른 인스턴스는 다음 회원 테이블 대조에서 따라잡는다.
+ */
+@Component
+public class AutoCompleteChangePublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(AutoCompleteChangePublisher.class);
+
+    private final AutoCompleteChangeTransport autoCompleteChangeTransport;
+    private final AutoCompleteChangeApplier autoCompleteChangeApplier;
+    private final Counter publishFailedCounter;
+
+    public AutoCompleteChangePublisher(AutoCompleteChangeTransport autoCompleteChangeTransport,
+                                       AutoCompleteChangeApplier autoCompleteChangeApplier,
+                                       MeterRegistry meterRegistry) {
+
+        this.autoCompleteChangeTransport = autoCompleteChangeTransport;
+        this.autoCompleteChangeApplier = autoCompleteChangeApplier;
+        this.publishFailedCounter = Counter.builder("autocomplete.sync.publish.failed").register(meterRegistry);
+
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(AutoCompleteChangeEvent event) {
+
+        autoCompleteChangeApplier.applyLocally(event);
+
+        try {
+            autoCompleteChangeTransport.publish(event.withOrigin(autoCompleteChangeApplier.getInstanceId()));
+        } catch (RuntimeException e) {
+            publishFailedCounter.increment();
+            log.error("Failed to publish auto-complete change to other instances. type: {}, userId: {}",
+                    event.getType(), event.getUserId(), e);
+        }
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package personal.yeongyulgori.user.autocomplete.sync;
+
+import java.util.function.Consumer;
+
+/**
+ * 자동완성 변경 이벤트를 다른 인스턴스에 전달하는 전송 계층
+ * <p>
+ * autocomplete.sync.transport 설정으로 구현체를 선택한다. loopback(기본값)은 같은 JVM 안에서만 전달하고,
+ * redis는 Redis pub/sub 채널로 모든 인스턴스에 전달한다. 발행 인스턴스에도 전달될 수 있으므로
+ * 수신 측은 origin으로 자신이 발행한 이벤트를 걸러 낸다.
+ * 전달은 보장되지 않으며, 유실된 변경은 주기적인 회원 테이블 대조로 바로잡는다.
+ */
+public interface AutoCompleteChangeTransport {
+
+    void publish(AutoCompleteChangeEvent event);
+
+    void subscribe(Consumer<AutoCompleteChangeEvent> subscriber);
+
+}
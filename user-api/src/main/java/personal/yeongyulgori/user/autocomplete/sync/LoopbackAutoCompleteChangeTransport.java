@@ -0,0 +1,29 @@
+package personal.yeongyulgori.user.autocomplete.sync;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 발행한 이벤트를 같은 JVM의 구독자에게 바로 전달하는 전송 계층. 단일 인스턴스 배포와 테스트에 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "autocomplete.sync.transport", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackAutoCompleteChangeTransport implements AutoCompleteChangeTransport {
+
+    private final List<Consumer<AutoCompleteChangeEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(AutoCompleteChangeEvent event) {
+        subscribers.forEach(subscriber -> subscriber.accept(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<AutoCompleteChangeEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+}
@@ -0,0 +1,72 @@
+package personal.yeongyulgori.user.autocomplete.sync;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 채널로 모든 인스턴스에 이벤트를 전달하는 전송 계층
+ * <p>
+ * pub/sub은 구독 중이 아닌 인스턴스에 메시지를 보관하지 않으므로, 재기동한 인스턴스는 스냅샷 또는 회원 테이블로 색인을 복원하고
+ * 재연결 중에 유실된 메시지는 주기적인 회원 테이블 대조로 바로잡는다.
+ */
+@Component
+@ConditionalOnProperty(name = "autocomplete.sync.transport", havingValue = "redis")
+public class RedisAutoCompleteChangeTransport implements AutoCompleteChangeTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisAutoCompleteChangeTransport.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChannelTopic channelTopic;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisAutoCompleteChangeTransport(
+            StringRedisTemplate stringRedisTemplate, RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper, @Value("${autocomplete.sync.channel:autocomplete-changes}") String channel
+    ) {
+
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.channelTopic = new ChannelTopic(channel);
+        this.listenerContainer = listenerContainer;
+
+    }
+
+    @Override
+    public void publish(AutoCompleteChangeEvent event) {
+
+        try {
+            stringRedisTemplate.convertAndSend(channelTopic.getTopic(), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize auto-complete change event", e);
+        }
+
+    }
+
+    @Override
+    public void subscribe(Consumer<AutoCompleteChangeEvent> subscriber) {
+        listenerContainer.addMessageListener((Message message, byte[] pattern) -> {
+
+            try {
+                subscriber.accept(objectMapper.readValue(
+                        new String(message.getBody(), StandardCharsets.UTF_8), AutoCompleteChangeEvent.class));
+            } catch (JsonProcessingException e) {
+                log.error("Failed to deserialize auto-complete change event: {}", e.getMessage(), e);
+            }
+
+        }, channelTopic);
+    }
+
+}
@@ -0,0 +1,19 @@
+package personal.yeongyulgori.user.availability;
+
+import java.util.Locale;
+
+/**
+ * 가입 시 중복될 수 없는 회원 필드
+ */
+public enum UniqueField {
+
+    USERNAME, EMAIL, PHONE_NUMBER;
+
+    /**
+     * 이메일은 회원 테이블에 소문자로 저장되므로 같은 형태로 맞춘다.
+     */
+    public String normalize(String value) {
+        return this == EMAIL ? value.toLowerCase(Locale.ROOT) : value;
+    }
+
+}
@@ -0,0 +1,137 @@
+package personal.yeongyulgori.user.availability;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import personal.yeongyulgori.user.model.repository.UserRepository;
+import personal.yeongyulgori.user.model.repository.UserUniqueFields;
+import personal.yeongyulgori.user.utility.BloomFilter;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 사용 중인 사용자 이름, 이메일, 전화번호의 bloom filter
+ * <p>
+ * mightBeTaken이 false이면 회원 테이블에 없는 값이므로 DB를 조회하지 않고 사용 가능하다고 답할 수 있다.
+ * 가입과 정보 수정으로 생긴 값은 바로 추가하고, 탈퇴나 변경으로 비워진 값은 주기적으로 새로 만들 때 빠진다.
+ * 다른 인스턴스에서 추가된 값도 새로 만들 때 반영되므로, 최종 중복 판정은 가입 시 unique 제약으로 한다.
+ * 회원 테이블을 읽지 못해 bloom filter가 불완전하면 모든 값을 DB에서 확인한다.
+ */
+@Component
+public class UserAvailabilityFilter implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(UserAvailabilityFilter.class);
+
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final long expectedUsers;
+    private final double falsePositiveProbability;
+
+    private volatile Map<UniqueField, BloomFilter> bloomFilters;
+    private volatile Map<UniqueField, BloomFilter> rebuildingBloomFilters;
+    private volatile boolean complete;
+
+    public UserAvailabilityFilter(
+            UserRepository userRepository, PlatformTransactionManager transactionManager,
+            @Value("${availability.expected-users:1000000}") long expectedUsers,
+            @Value("${availability.false-positive-probability:0.01}") double falsePositiveProbability
+    ) {
+
+        this.userRepository = userRepository;
+        this.transactionManager = transactionManager;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveProbability = falsePositiveProbability;
+
+        this.bloomFilters = createBloomFilters();
+
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void remember(String username, String email, String phoneNumber) {
+
+        remember(bloomFilters, username, email, phoneNumber);
+
+        Map<UniqueField, BloomFilter> rebuilding = rebuildingBloomFilters;
+
+        if (rebuilding != null) {
+            remember(rebuilding, username, email, phoneNumber);
+        }
+
+    }
+
+    public boolean mightBeTaken(UniqueField uniqueField, String value) {
+        return !complete || bloomFilters.get(uniqueField).mightContain(uniqueField.normalize(value));
+    }
+
+    @Scheduled(initialDelayString = "${availability.rebuild-interval-millis:600000}",
+            fixedDelayString = "${availability.rebuild-interval-millis:600000}")
+    public void rebuild() {
+
+        Map<UniqueField, BloomFilter> rebuiltBloomFilters = createBloomFilters();
+        rebuildingBloomFilters = rebuiltBloomFilters;
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        try {
+
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<UserUniqueFields> userUniqueFields = userRepository.streamAllUniqueFields()) {
+                    userUniqueFields.forEach(fields -> remember(rebuiltBloomFilters,
+                            fields.getUsername(), fields.getEmail(), fields.getPhoneNumber()));
+                }
+            });
+
+            bloomFilters = rebuiltBloomFilters;
+            complete = true;
+
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild user availability bloom filters, keeping the previous ones. complete: {}",
+                    complete, e);
+        } finally {
+            rebuildingBloomFilters = null;
+        }
+
+    }
+
+    private Map<UniqueField, BloomFilter> createBloomFilters() {
+
+        Map<UniqueField, BloomFilter> created = new EnumMap<>(UniqueField.class);
+
+        for (UniqueField uniqueField : UniqueField.values()) {
+            created.put(uniqueField, new BloomFilter(expectedUsers, falsePositiveProbability));
+        }
+
+        return created;
+
+    }
+
+    private static void remember(Map<UniqueField, BloomFilter> target,
+                                 String username, String email, String phoneNumber) {
+
+        add(target, UniqueField.USERNAME, username);
+        add(target, UniqueField.EMAIL, email);
+        add(target, UniqueField.PHONE_NUMBER, phoneNumber);
+
+    }
+
+    private static void add(Map<UniqueField, BloomFilter> target, UniqueField uniqueField, String value) {
+
+        if (value != null) {
+            target.get(uniqueField).add(uniqueField.normalize(value));
+        }
+
+    }
+
+}
@@ -1,16 +1,45 @@
 package personal.yeongyulgori.user.configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import personal.yeongyulgori.user.security.BoundedPasswordEncoder;
+import personal.yeongyulgori.user.security.PasswordHashCalibrator;
+
+import java.util.Map;
 
 @Configuration
 public class PasswordConfig {
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    private static final String BCRYPT = "bcrypt";
+
+    /**
+     * bcrypt-strength가 0이면 기동 시 target-millis에 맞춰 strength를 고른다.
+     * 설정한 strength보다 낮은 strength로 저장된 해시는 로그인에 성공할 때 다시 해시한다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${security.password-hashing.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${security.password-hashing.target-millis:50}") long targetMillis,
+            @Value("${security.password-hashing.pool-size:0}") int poolSize,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hashing.timeout-millis:3000}") long timeoutMillis
+    ) {
+
+        int strength = bcryptStrength > 0
+                ? bcryptStrength : PasswordHashCalibrator.calibrateBCryptStrength(targetMillis);
+
+        PasswordEncoder delegatingPasswordEncoder =
+                new DelegatingPasswordEncoder(BCRYPT, Map.of(BCRYPT, new BCryptPasswordEncoder(strength)));
+
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, meterRegistry,
+                poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors(), queueCapacity, timeoutMillis);
+
     }
 
 }
@@ -0,0 +1,27 @@
+package personal.yeongyulgori.user.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnExpression("'${security.revocation.store:memory}' == 'redis' "
+        + "or '${autocomplete.sync.transport:loopback}' == 'redis'")
+public class RedisListenerConfig {
+
+    /**
+     * Redis pub/sub을 쓰는 저장소와 전송 계층이 함께 쓰는 구독 컨테이너로, 구독 연결 하나를 공유한다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisConnectionFactory);
+
+        return listenerContainer;
+
+    }
+
+}
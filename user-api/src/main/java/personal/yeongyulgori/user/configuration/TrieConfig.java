@@ -1,16 +1,21 @@
 package personal.yeongyulgori.user.configuration;
 
-import org.apache.commons.collections4.Trie;
-import org.apache.commons.collections4.trie.PatriciaTrie;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import personal.yeongyulgori.user.autocomplete.ConcurrentTrie;
+import personal.yeongyulgori.user.autocomplete.UserReferences;
 
 @Configuration
 public class TrieConfig {
 
+    public static final int AUTO_COMPLETE_CANDIDATE_SIZE = 10;
+
+    /**
+     * 성명별 회원 참조를 값으로 보관하고, 회원 수가 많은 성명을 우선 자동완성한다.
+     */
     @Bean
-    public Trie<String, String> trie() {
-        return new PatriciaTrie<>();
+    public ConcurrentTrie<UserReferences> trie() {
+        return new ConcurrentTrie<>(AUTO_COMPLETE_CANDIDATE_SIZE, UserReferences::size);
     }
 
 }
@@ -3,7 +3,7 @@ package personal.yeongyulgori.user.configuration;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.method.configuration.GlobalMethodSecurityConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -11,9 +11,12 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
 import personal.yeongyulgori.user.security.CustomAuthenticationEntryPoint;
 import personal.yeongyulgori.user.security.JwtAuthenticationFilter;
 import personal.yeongyulgori.user.security.JwtTokenProvider;
+import personal.yeongyulgori.user.security.PublicEndpoints;
+import personal.yeongyulgori.user.security.TokenRevocationLogoutHandler;
 
 @Configuration
 @EnableWebSecurity
@@ -23,6 +26,7 @@ public class WebSecurityConfig extends GlobalMethodSecurityConfiguration {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+    private final TokenRevocationLogoutHandler tokenRevocationLogoutHandler;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -35,17 +39,17 @@ public class WebSecurityConfig extends GlobalMethodSecurityConfiguration {
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
                 .authorizeHttpRequests()
-                .antMatchers("/", "/swagger-ui/**", "/v2/api-docs", "/swagger-resources/**",
-                        "/**/signup", "/**/login", "/users/v1", "/users/v1/auto-complete",
-                        "/users/v1/password-reset/**")
-                .permitAll()
-                .antMatchers(HttpMethod.GET, "/users/v1/{username}").permitAll()
+                .requestMatchers(PublicEndpoints.REQUEST_MATCHER).permitAll()
                 .anyRequest().authenticated()
                 .and()
                 .addFilterBefore(new JwtAuthenticationFilter
                                 (jwtTokenProvider, customAuthenticationEntryPoint),
                         UsernamePasswordAuthenticationFilter.class)
-                .logout().permitAll();
+                .logout()
+                .logoutUrl("/users/v1/logout")
+                .addLogoutHandler(tokenRevocationLogoutHandler) // 로그아웃한 token을 남은 유효 기간 동안 폐기
+                .logoutSuccessHandler(new HttpStatusReturningLogoutSuccessHandler(HttpStatus.OK))
+                .permitAll();
 
         return http.build();
 
@@ -0,0 +1,45 @@
+package personal.yeongyulgori.user.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import personal.yeongyulgori.user.controller.AutoCompleteWebSocketHandler;
+
+/**
+ * 스트리밍 자동완성 endpoint 등록
+ * <p>
+ * 허용 origin을 지정하지 않으면 같은 origin의 handshake만 받는다.
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private static final String AUTO_COMPLETE_STREAM_PATH = "/users/v1/auto-complete/stream";
+
+    private final AutoCompleteWebSocketHandler autoCompleteWebSocketHandler;
+    private final String[] allowedOrigins;
+
+    public WebSocketConfig(
+            AutoCompleteWebSocketHandler autoCompleteWebSocketHandler,
+            @Value("${autocomplete.stream.allowed-origins:}") String[] allowedOrigins
+    ) {
+        this.autoCompleteWebSocketHandler = autoCompleteWebSocketHandler;
+        this.allowedOrigins = allowedOrigins;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+
+        WebSocketHandlerRegistration registration =
+                registry.addHandler(autoCompleteWebSocketHandler, AUTO_COMPLETE_STREAM_PATH);
+
+        if (allowedOrigins.length > 0) {
+            registration.setAllowedOriginPatterns(allowedOrigins);
+        }
+
+    }
+
+}
@@ -5,24 +5,35 @@ import io.swagger.annotations.ApiParam;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import personal.yeongyulgori.user.model.dto.CrucialInformationUpdateDto;
 import personal.yeongyulgori.user.model.dto.PasswordRequestDto;
+import personal.yeongyulgori.user.exception.significant.sub.InvalidRefreshTokenException;
 import personal.yeongyulgori.user.model.dto.SignInResponseDto;
+import personal.yeongyulgori.user.model.dto.TokenPairDto;
 import personal.yeongyulgori.user.model.dto.UserResponseDto;
 import personal.yeongyulgori.user.model.form.InformationUpdateForm;
 import personal.yeongyulgori.user.model.form.SignInForm;
 import personal.yeongyulgori.user.model.form.SignUpForm;
 import personal.yeongyulgori.user.security.JwtTokenProvider;
+import personal.yeongyulgori.user.security.RefreshTokenCookie;
+import personal.yeongyulgori.user.security.ratelimit.LoginRateLimiter;
 import personal.yeongyulgori.user.service.AuthenticationService;
+import personal.yeongyulgori.user.service.ProfileImageService;
+import personal.yeongyulgori.user.service.RefreshTokenService;
 import personal.yeongyulgori.user.validation.group.OnSignIn;
 import personal.yeongyulgori.user.validation.group.OnSignUp;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 
 @RestController
@@ -32,6 +43,10 @@ public class AuthenticationController {
 
     private final AuthenticationService authenticationService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenCookie refreshTokenCookie;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ProfileImageService profileImageService;
 
     @ApiOperation(value = "회원 가입", notes = "회원 가입 양식을 입력해 회원 가입을 할 수 있습니다.")
     @PostMapping("signup")
@@ -46,19 +61,38 @@ public class AuthenticationController {
 
     }
 
-    @ApiOperation(value = "로그인", notes = "email 또는 username과 비밀번호를 입력해 로그인을 할 수 있습니다.")
+    @ApiOperation(value = "로그인", notes = "email 또는 username과 비밀번호를 입력해 로그인을 할 수 있습니다. "
+            + "access token은 응답 본문으로, refresh token은 HttpOnly cookie로 발급됩니다.")
     @PostMapping("login")
     public ResponseEntity<String> signInUser
             (@Validated(OnSignIn.class)
              @RequestBody @ApiParam(value = "로그인 양식")
-             SignInForm signInForm) {
+             SignInForm signInForm, HttpServletRequest request) {
+
+        loginRateLimiter.checkSignIn(signInForm.getEmailOrUsername(), request.getRemoteAddr());
 
         SignInResponseDto signInResponseDto = authenticationService.signInUser(signInForm);
 
-        String token = jwtTokenProvider.generateToken(signInResponseDto.getUsername(),
-                signInResponseDto.getRoles());
+        TokenPairDto tokenPairDto = refreshTokenService.issueTokens(signInResponseDto);
 
-        return ResponseEntity.status(HttpStatus.OK).body(token);
+        return buildTokenResponse(tokenPairDto);
+
+    }
+
+    @ApiOperation(value = "access token 갱신", notes = "refresh token cookie로 새로운 access token을 발급 받을 수 있습니다. "
+            + "사용한 refresh token은 폐기되고 새로운 refresh token이 cookie로 발급됩니다.")
+    @PostMapping("token/refresh")
+    public ResponseEntity<String> refreshToken
+            (@ApiParam(hidden = true) @CookieValue(name = RefreshTokenCookie.NAME, required = false)
+             String refreshToken) {
+
+        if (refreshToken == null) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        TokenPairDto tokenPairDto = refreshTokenService.refreshTokens(refreshToken);
+
+        return buildTokenResponse(tokenPairDto);
 
     }
 
@@ -92,6 +126,48 @@ public class AuthenticationController {
 
     }
 
+    @ApiOperation(value = "프로필 이미지 변경",
+            notes = "이미지 파일을 요청 본문으로 전송해 프로필 이미지를 변경할 수 있습니다. "
+                    + "JPEG, PNG, GIF, WebP 이미지를 image/* 또는 application/octet-stream으로 전송합니다.")
+    @PreAuthorize("isAuthenticated() and (( #username == principal.username ) or hasRole('ROLE_ADMIN'))")
+    @PutMapping(value = "{username}/profile-image", consumes = {
+            MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE, "image/webp",
+            MediaType.APPLICATION_OCTET_STREAM_VALUE
+    })
+    public ResponseEntity<UserResponseDto> updateProfileImage
+            (@PathVariable("username") @ApiParam(value = "사용자 이름", example = "gildong1234")
+             String username, HttpServletRequest request) throws IOException {
+
+        String profileImageId = profileImageService
+                .saveProfileImage(request.getInputStream(), request.getContentLengthLong());
+
+        UserResponseDto userResponseDto = authenticationService.updateProfileImage(username, profileImageId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(userResponseDto);
+
+    }
+
+    @ApiOperation(value = "프로필 이미지 변경(multipart)",
+            notes = "multipart/form-data의 image part로 이미지 파일을 전송해 프로필 이미지를 변경할 수 있습니다.")
+    @PreAuthorize("isAuthenticated() and (( #username == principal.username ) or hasRole('ROLE_ADMIN'))")
+    @PutMapping(value = "{username}/profile-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UserResponseDto> updateProfileImageWithMultipart
+            (@PathVariable("username") @ApiParam(value = "사용자 이름", example = "gildong1234")
+             String username,
+             @RequestPart("image") @ApiParam(value = "프로필 이미지 파일") MultipartFile image) throws IOException {
+
+        String profileImageId;
+
+        try (InputStream content = image.getInputStream()) {
+            profileImageId = profileImageService.saveProfileImage(content, image.getSize());
+        }
+
+        UserResponseDto userResponseDto = authenticationService.updateProfileImage(username, profileImageId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(userResponseDto);
+
+    }
+
     @ApiOperation(value = "주요 회원 정보 수정", notes = "비밀번호를 입력해 하나의 중요한 회원 정보를 수정할 수 있습니다.")
     @PreAuthorize("isAuthenticated() and (( #username == principal.username ) or hasRole('ROLE_ADMIN'))")
     @PatchMapping("{username}/auth")
@@ -110,7 +186,10 @@ public class AuthenticationController {
     @ApiOperation(value = "비밀번호 재설정 요청", notes = "비밀번호를 잊어 버린 경우 인증을 통해 재설정을 요청할 수 있습니다.")
     @PostMapping("password-reset/request")
     public ResponseEntity<String> requestPasswordReset
-            (@ApiParam(value = "이메일 주소", example = "abcd@abc.com") @RequestParam String email) {
+            (@ApiParam(value = "이메일 주소", example = "abcd@abc.com") @RequestParam String email,
+             HttpServletRequest request) {
+
+        loginRateLimiter.checkPasswordResetRequest(email, request.getRemoteAddr());
 
         String token = jwtTokenProvider.generateToken(email);
         String passwordResetUrl = authenticationService.requestPasswordReset(email, token);
@@ -123,7 +202,9 @@ public class AuthenticationController {
     @PatchMapping("password-reset")
     public ResponseEntity<Void> resetPassword
             (@ApiParam(value = "비밀번호 재설정 요청에서 생성된 토큰") @RequestParam String token,
-             @RequestBody PasswordRequestDto passwordRequestDto) {
+             @RequestBody PasswordRequestDto passwordRequestDto, HttpServletRequest request) {
+
+        loginRateLimiter.checkPasswordReset(request.getRemoteAddr());
 
         authenticationService.resetPassword(token, passwordRequestDto);
 
@@ -144,6 +225,14 @@ public class AuthenticationController {
 
 
     }
+    private ResponseEntity<String> buildTokenResponse(TokenPairDto tokenPairDto) {
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.create(tokenPairDto.getRefreshToken()).toString())
+                .body(tokenPairDto.getAccessToken());
+
+    }
+
     private ResponseEntity<UserResponseDto> buildResponse(UserResponseDto userResponseDto) {
 
         URI location = ServletUriComponentsBuilder
@@ -0,0 +1,194 @@
+package personal.yeongyulgori.user.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+import personal.yeongyulgori.user.autocomplete.UserReference;
+import personal.yeongyulgori.user.model.dto.AutoCompleteResponseDto;
+import personal.yeongyulgori.user.service.AutoCompleteService;
+import personal.yeongyulgori.user.utility.StripedTokenBuckets;
+
+import javax.websocket.Session;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 검색창 하나당 연결 하나를 유지하는 스트리밍 자동완성 endpoint
+ * <p>
+ * 클라이언트는 입력창의 현재 키워드 전체를 텍스트 메시지로 보내고, 서버는 키워드와 자동완성 결과를 JSON으로 응답한다.
+ * 연결마다 자동완성 세션을 두어 직전 키워드와 공유하는 prefix까지의 탐색을 재사용한다.
+ * 허용 편집 거리는 handshake의 fuzzy 쿼리 파라미터로 지정한다.
+ * <p>
+ * 인증 없이 열리는 endpoint이므로 client IP별 동시 연결 수와 연결별 메시지 수를 token bucket으로 제한하고,
+ * 제한을 넘거나 idle timeout 동안 메시지가 없는 연결은 서버가 닫는다.
+ */
+@Component
+public class AutoCompleteWebSocketHandler extends TextWebSocketHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(AutoCompleteWebSocketHandler.class);
+
+    private static final String SESSION_ATTRIBUTE = "autoCompleteSession";
+    private static final String MAX_EDITS_ATTRIBUTE = "autoCompleteMaxEdits";
+    private static final String CLIENT_IP_ATTRIBUTE = "autoCompleteClientIp";
+    private static final int MAX_KEYWORD_LENGTH = 100;
+    private static final int MAX_MESSAGE_SIZE = 1024;
+
+    private final AutoCompleteService autoCompleteService;
+    private final ObjectMapper objectMapper;
+
+    private final int messageCapacity;
+    private final double messageRefillPerSecond;
+    private final int maxConnectionsPerIp;
+    private final long idleTimeoutMillis;
+
+    private final StripedTokenBuckets messageBuckets;
+    private final ConcurrentMap<String, Integer> connectionsPerIp = new ConcurrentHashMap<>();
+
+    private final Counter messageRejections;
+    private final Counter connectionRejections;
+
+    public AutoCompleteWebSocketHandler(
+            AutoCompleteService autoCompleteService, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${autocomplete.stream.messages.capacity:20}") int messageCapacity,
+            @Value("${autocomplete.stream.messages.refill-per-second:10}") double messageRefillPerSecond,
+            @Value("${autocomplete.stream.max-connections-per-ip:5}") int maxConnectionsPerIp,
+            @Value("${autocomplete.stream.idle-timeout-millis:60000}") long idleTimeoutMillis,
+            @Value("${autocomplete.stream.max-sessions:100000}") int maxSessions
+    ) {
+
+        this.autoCompleteService = autoCompleteService;
+        this.objectMapper = objectMapper;
+        this.messageCapacity = messageCapacity;
+        this.messageRefillPerSecond = messageRefillPerSecond;
+        this.maxConnectionsPerIp = maxConnectionsPerIp;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.messageBuckets = new StripedTokenBuckets(64, Math.max(64, maxSessions));
+
+        this.messageRejections = Counter.builder("security.rate-limit.rejections")
+                .tag("limit", "auto-complete-stream-message")
+                .register(meterRegistry);
+        this.connectionRejections = Counter.builder("security.rate-limit.rejections")
+                .tag("limit", "auto-complete-stream-connection-ip")
+                .register(meterRegistry);
+
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+
+        String clientIp = resolveClientIp(session);
+
+        if (!tryOpenConnection(clientIp)) {
+            connectionRejections.increment();
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("동시 연결 수를 초과했습니다."));
+            return;
+        }
+
+        session.getAttributes().put(CLIENT_IP_ATTRIBUTE, clientIp);
+        session.setTextMessageSizeLimit(MAX_MESSAGE_SIZE);
+
+        if (session instanceof NativeWebSocketSession) {
+            Session nativeSession = ((NativeWebSocketSession) session).getNativeSession(Session.class);
+
+            if (nativeSession != null) {
+                nativeSession.setMaxIdleTimeout(idleTimeoutMillis);
+            }
+        }
+
+        String fuzzy = session.getUri() == null ? null
+                : UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst("fuzzy");
+
+        try {
+            session.getAttributes().put(MAX_EDITS_ATTRIBUTE, fuzzy == null ? 0 : Integer.parseInt(fuzzy));
+        } catch (NumberFormatException e) {
+            session.close(CloseStatus.BAD_DATA.withReason("fuzzy 값이 올바르지 않습니다."));
+            return;
+        }
+
+        session.getAttributes().put(SESSION_ATTRIBUTE, autoCompleteService.openSession());
+
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+
+        if (!messageBuckets.tryAcquire(session.getId(), messageCapacity, messageRefillPerSecond)) {
+            messageRejections.increment();
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("메시지를 너무 자주 보냈습니다."));
+            return;
+        }
+
+        String keyword = message.getPayload();
+
+        if (keyword.length() > MAX_KEYWORD_LENGTH) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("키워드가 너무 깁니다."));
+            return;
+        }
+
+        AutoCompleteService.Session autoCompleteSession =
+                (AutoCompleteService.Session) session.getAttributes().get(SESSION_ATTRIBUTE);
+        int maxEdits = (int) session.getAttributes().get(MAX_EDITS_ATTRIBUTE);
+
+        List<UserReference> autoCompleteResults = autoCompleteSession.autoCompleteUsers(keyword, maxEdits);
+
+        session.sendMessage(new TextMessage(
+                objectMapper.writeValueAsString(AutoCompleteResponseDto.of(keyword, autoCompleteResults))));
+
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.warn("Auto-complete stream transport error, session: {}, message: {}",
+                session.getId(), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+
+        String clientIp = (String) session.getAttributes().remove(CLIENT_IP_ATTRIBUTE);
+
+        if (clientIp != null) {
+            connectionsPerIp.computeIfPresent(clientIp, (ip, count) -> count <= 1 ? null : count - 1);
+        }
+
+    }
+
+    private boolean tryOpenConnection(String clientIp) {
+
+        int count = connectionsPerIp.merge(clientIp, 1, Integer::sum);
+
+        if (count > maxConnectionsPerIp) {
+            connectionsPerIp.computeIfPresent(clientIp, (ip, current) -> current <= 1 ? null : current - 1);
+            return false;
+        }
+
+        return true;
+
+    }
+
+    private static String resolveClientIp(WebSocketSession session) {
+
+        InetSocketAddress remoteAddress = session.getRemoteAddress();
+
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return "unknown";
+        }
+
+        return remoteAddress.getAddress().getHostAddress();
+
+    }
+
+}
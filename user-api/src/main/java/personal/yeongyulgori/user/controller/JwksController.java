@@ -0,0 +1,32 @@
+package personal.yeongyulgori.user.controller;
+
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import personal.yeongyulgori.user.security.JwtSigningKeys;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private static final Duration JWKS_MAX_AGE = Duration.ofMinutes(5);
+
+    private final JwtSigningKeys jwtSigningKeys;
+
+    @ApiOperation(value = "token 검증 공개 키 조회", notes = "access token 서명을 검증할 수 있는 공개 키를 JWK Set 형식으로 조회합니다.")
+    @GetMapping(".well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(JWKS_MAX_AGE).cachePublic())
+                .body(jwtSigningKeys.getJwks());
+
+    }
+
+}
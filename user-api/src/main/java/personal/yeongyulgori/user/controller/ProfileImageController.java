@@ -0,0 +1,136 @@
+package personal.yeongyulgori.user.controller;
+
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import personal.yeongyulgori.user.service.ProfileImageService;
+import personal.yeongyulgori.user.storage.StoredImage;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequestMapping("users/v1/profile-images")
+@RequiredArgsConstructor
+public class ProfileImageController {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Duration PROFILE_IMAGE_MAX_AGE = Duration.ofDays(365);
+    private static final Duration THUMBNAIL_FALLBACK_MAX_AGE = Duration.ofMinutes(1);
+
+    private final ProfileImageService profileImageService;
+
+    /**
+     * 이미지 ID는 내용이 바뀌면 새로 발급되므로 응답을 오래 캐시해도 된다.
+     * 썸네일이 아직 만들어지지 않았으면 원본을 짧게만 캐시하도록 응답해 생성된 뒤에는 썸네일을 받게 한다.
+     * <p>
+     * 파일 저장소의 이미지는 Tomcat sendfile로 본문을 애플리케이션 메모리에 올리지 않고 전송하며,
+     * sendfile을 쓸 수 없거나 여러 구간을 요청하면 Spring의 Range 처리로 스트리밍한다.
+     */
+    @ApiOperation(value = "프로필 이미지 조회", notes = "프로필 이미지를 조회합니다. size를 지정하면 해당 크기의 정사각형 "
+            + "썸네일(48, 128, 512)을 조회합니다. Range, ETag 조건부 요청을 지원합니다.")
+    @GetMapping("{imageId}")
+    public ResponseEntity<Resource> getProfileImage(
+            @PathVariable @ApiParam(value = "프로필 이미지 ID") String imageId,
+            @RequestParam(name = "size", required = false) @ApiParam(value = "썸네일 크기", example = "48") Integer size,
+            ServletWebRequest webRequest
+    ) throws IOException {
+
+        StoredImage thumbnail = size != null ? profileImageService.findThumbnail(imageId, size).orElse(null) : null;
+        StoredImage storedImage = thumbnail != null ? thumbnail : profileImageService.getProfileImage(imageId);
+
+        Duration maxAge = size == null || thumbnail != null ? PROFILE_IMAGE_MAX_AGE : THUMBNAIL_FALLBACK_MAX_AGE;
+
+        if (webRequest.checkNotModified(storedImage.getETag(), storedImage.getLastModified().toEpochMilli())) {
+            return null;
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(storedImage.getETag());
+        headers.setLastModified(storedImage.getLastModified());
+        headers.setCacheControl(CacheControl.maxAge(maxAge).cachePublic());
+        headers.setContentType(storedImage.getContentType());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        HttpServletRequest request = webRequest.getRequest();
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && storedImage.getResource().isFile()) {
+
+            ResponseEntity<Resource> response = sendFile(request, storedImage, headers);
+
+            if (response != null) {
+                return response;
+            }
+
+        }
+
+        return ResponseEntity.ok().headers(headers).body(storedImage.getResource());
+
+    }
+
+    /**
+     * 본문 없이 헤더만 응답하고 전송할 파일 구간은 request attribute로 Tomcat에 넘긴다.
+     * 여러 구간이나 잘못된 Range는 null을 반환해 일반 응답으로 처리하게 한다.
+     */
+    private static ResponseEntity<Resource> sendFile
+            (HttpServletRequest request, StoredImage storedImage, HttpHeaders headers) throws IOException {
+
+        long contentLength = storedImage.getContentLength();
+        long start = 0;
+        long end = contentLength;
+        HttpStatus status = HttpStatus.OK;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(storedImage.getETag()))) {
+
+            try {
+
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+
+                if (ranges.size() != 1) {
+                    return null;
+                }
+
+                start = ranges.get(0).getRangeStart(contentLength);
+                end = ranges.get(0).getRangeEnd(contentLength) + 1;
+                status = HttpStatus.PARTIAL_CONTENT;
+
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + contentLength);
+
+        }
+
+        headers.setContentLength(end - start);
+
+        request.setAttribute(SENDFILE_FILENAME, storedImage.getResource().getFile().getAbsolutePath());
+        request.setAttribute(SENDFILE_START, start);
+        request.setAttribute(SENDFILE_END, end);
+
+        return ResponseEntity.status(status).headers(headers).build();
+
+    }
+
+}
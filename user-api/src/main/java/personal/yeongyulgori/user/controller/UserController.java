@@ -10,10 +10,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import personal.yeongyulgori.user.autocomplete.UserReference;
+import personal.yeongyulgori.user.model.dto.AvailabilityResponseDto;
 import personal.yeongyulgori.user.model.dto.UserResponseDto;
+import personal.yeongyulgori.user.security.ratelimit.LoginRateLimiter;
 import personal.yeongyulgori.user.service.AutoCompleteService;
+import personal.yeongyulgori.user.service.AvailabilityService;
 import personal.yeongyulgori.user.service.UserService;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.List;
 
 @RestController
@@ -23,6 +28,8 @@ public class UserController {
 
     private final UserService userService;
     private final AutoCompleteService autoCompleteService;
+    private final AvailabilityService availabilityService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @ApiOperation(value = "회원 프로필 조회", notes = "다른 회원의 프로필을 조회할 수 있습니다.")
     @GetMapping("{username}")
@@ -67,14 +74,40 @@ public class UserController {
     }
 
     @ApiOperation(value = "키워드로 다른 회원의 성명 검색",
-            notes = "성명의 앞부분 키워드를 입력해 자동 완성 결과를 조회할 수 있습니다.")
+            notes = "성명의 앞부분 키워드를 입력해 자동 완성된 회원의 id, username, 성명을 조회할 수 있습니다. " +
+                    "fuzzy 값을 지정하면 해당 편집 거리(최대 2) 이내의 오타가 있는 키워드도 자동 완성합니다.")
     @GetMapping("/auto-complete")
-    public ResponseEntity<?> autoComplete(@ApiParam(value = "키워드", example = "홍길") String keyword) {
+    public ResponseEntity<?> autoComplete(
+            @ApiParam(value = "키워드", example = "홍길") String keyword,
+            @RequestParam(name = "fuzzy", required = false, defaultValue = "0")
+            @ApiParam(value = "허용 편집 거리", example = "1") int fuzzy) {
 
-        List<String> autoCompleteResults = autoCompleteService.autoComplete(keyword);
+        List<UserReference> autoCompleteResults = autoCompleteService.autoCompleteUsers(keyword, fuzzy);
 
         return ResponseEntity.status(HttpStatus.OK).body(autoCompleteResults);
 
     }
 
+    @ApiOperation(value = "가입 정보 사용 가능 여부 확인",
+            notes = "사용자 이름, 이메일, 휴대폰 번호 중 확인할 값을 입력해 이미 가입된 값인지 확인할 수 있습니다. "
+                    + "입력하지 않은 값은 응답에서 생략됩니다. client IP별로 요청 횟수가 제한됩니다.")
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponseDto> checkAvailability(
+            @RequestParam(name = "username", required = false)
+            @ApiParam(value = "사용자 이름", example = "gildong1234") String username,
+            @RequestParam(name = "email", required = false)
+            @ApiParam(value = "이메일 주소", example = "abcd@abc.com") String email,
+            @RequestParam(name = "phoneNumber", required = false)
+            @ApiParam(value = "휴대폰 번호", example = "01012345678") String phoneNumber,
+            HttpServletRequest request) {
+
+        loginRateLimiter.checkAvailability(request.getRemoteAddr());
+
+        AvailabilityResponseDto availabilityResponseDto = availabilityService
+                .checkAvailability(username, email, phoneNumber);
+
+        return ResponseEntity.status(HttpStatus.OK).body(availabilityResponseDto);
+
+    }
+
 }
@@ -11,6 +11,7 @@ import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import personal.yeongyulgori.user.exception.general.AbstractGeneralException;
 import personal.yeongyulgori.user.exception.serious.AbstractSeriousException;
 import personal.yeongyulgori.user.exception.significant.AbstractSignificantException;
@@ -143,6 +144,21 @@ public class GlobalExceptionHandler {
 
     }
 
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    private ResponseEntity<ErrorResponse> handleMaxUploadSizeExceededException
+            (MaxUploadSizeExceededException e) {
+
+        log.info("Exception occurred: {}", e.getMessage(), e);
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .statusCode(HttpStatus.PAYLOAD_TOO_LARGE.value())
+                .message(e.getMessage())
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.resolve(errorResponse.getStatusCode()));
+
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     private ResponseEntity<ErrorResponse> handleEntityNotFoundException
             (EntityNotFoundException e) {
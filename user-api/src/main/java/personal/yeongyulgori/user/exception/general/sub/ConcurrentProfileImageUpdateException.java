@@ -0,0 +1,17 @@
+package personal.yeongyulgori.user.exception.general.sub;
+
+import org.springframework.http.HttpStatus;
+import personal.yeongyulgori.user.exception.general.AbstractGeneralException;
+
+public class ConcurrentProfileImageUpdateException extends AbstractGeneralException {
+
+    public ConcurrentProfileImageUpdateException() {
+        super("프로필 이미지가 동시에 변경되었습니다. 다시 시도해 주세요.");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.CONFLICT.value();
+    }
+
+}
@@ -0,0 +1,17 @@
+package personal.yeongyulgori.user.exception.general.sub;
+
+import org.springframework.http.HttpStatus;
+import personal.yeongyulgori.user.exception.general.AbstractGeneralException;
+
+public class NonExistentProfileImageException extends AbstractGeneralException {
+
+    public NonExistentProfileImageException(String message) {
+        super(message);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.NOT_FOUND.value();
+    }
+
+}
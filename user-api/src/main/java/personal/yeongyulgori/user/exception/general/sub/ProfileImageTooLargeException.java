@@ -0,0 +1,17 @@
+package personal.yeongyulgori.user.exception.general.sub;
+
+import org.springframework.http.HttpStatus;
+import personal.yeongyulgori.user.exception.general.AbstractGeneralException;
+
+public class ProfileImageTooLargeException extends AbstractGeneralException {
+
+    public ProfileImageTooLargeException(long maxBytes) {
+        super("프로필 이미지 크기가 너무 큽니다. 최대 크기: " + maxBytes + " bytes");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.PAYLOAD_TOO_LARGE.value();
+    }
+
+}
@@ -0,0 +1,17 @@
+package personal.yeongyulgori.user.exception.general.sub;
+
+import org.springframework.http.HttpStatus;
+import personal.yeongyulgori.user.exception.general.AbstractGeneralException;
+
+public class UnsupportedProfileImageException extends AbstractGeneralException {
+
+    public UnsupportedProfileImageException() {
+        super("지원하지 않는 이미지 형식입니다. JPEG, PNG, GIF, WebP 이미지만 등록할 수 있습니다.");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.UNSUPPORTED_MEDIA_TYPE.value();
+    }
+
+}
@@ -0,0 +1,17 @@
+package personal.yeongyulgori.user.exception.significant.sub;
+
+import org.springframework.http.HttpStatus;
+import personal.yeongyulgori.user.exception.significant.AbstractSignificantException;
+
+public class InvalidRefreshTokenException extends AbstractSignificantException {
+
+    public InvalidRefreshTokenException() {
+        super("refresh token이 유효하지 않습니다. 다시 로그인해야 합니다.");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.UNAUTHORIZED.value();
+    }
+
+}
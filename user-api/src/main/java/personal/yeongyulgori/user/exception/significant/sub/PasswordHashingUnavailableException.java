@@ -0,0 +1,17 @@
+package personal.yeongyulgori.user.exception.significant.sub;
+
+import org.springframework.http.HttpStatus;
+import personal.yeongyulgori.user.exception.significant.AbstractSignificantException;
+
+public class PasswordHashingUnavailableException extends AbstractSignificantException {
+
+    public PasswordHashingUnavailableException() {
+        super("요청이 많아 비밀번호를 확인할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+
+}
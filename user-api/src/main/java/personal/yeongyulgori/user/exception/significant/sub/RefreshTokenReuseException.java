@@ -0,0 +1,17 @@
+package personal.yeongyulgori.user.exception.significant.sub;
+
+import org.springframework.http.HttpStatus;
+import personal.yeongyulgori.user.exception.significant.AbstractSignificantException;
+
+public class RefreshTokenReuseException extends AbstractSignificantException {
+
+    public RefreshTokenReuseException() {
+        super("이미 사용된 refresh token입니다. 해당 로그인의 모든 refresh token을 폐기했으므로 다시 로그인해야 합니다.");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.UNAUTHORIZED.value();
+    }
+
+}
@@ -0,0 +1,17 @@
+package personal.yeongyulgori.user.exception.significant.sub;
+
+import org.springframework.http.HttpStatus;
+import personal.yeongyulgori.user.exception.significant.AbstractSignificantException;
+
+public class TooManyRequestsException extends AbstractSignificantException {
+
+    public TooManyRequestsException() {
+        super("요청 횟수가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+}
@@ -0,0 +1,23 @@
+package personal.yeongyulgori.user.model.dto;
+
+import lombok.Getter;
+import personal.yeongyulgori.user.autocomplete.UserReference;
+
+import java.util.List;
+
+@Getter
+public class AutoCompleteResponseDto {
+
+    private String keyword;
+    private List<UserReference> results;
+
+    private AutoCompleteResponseDto(String keyword, List<UserReference> results) {
+        this.keyword = keyword;
+        this.results = results;
+    }
+
+    public static AutoCompleteResponseDto of(String keyword, List<UserReference> results) {
+        return new AutoCompleteResponseDto(keyword, results);
+    }
+
+}
@@ -0,0 +1,29 @@
+package personal.yeongyulgori.user.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+/**
+ * 요청한 필드의 사용 가능 여부. 요청하지 않은 필드는 응답에서 생략한다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AvailabilityResponseDto {
+
+    private Boolean usernameAvailable;
+    private Boolean emailAvailable;
+    private Boolean phoneNumberAvailable;
+
+    private AvailabilityResponseDto(Boolean usernameAvailable, Boolean emailAvailable,
+                                    Boolean phoneNumberAvailable) {
+        this.usernameAvailable = usernameAvailable;
+        this.emailAvailable = emailAvailable;
+        this.phoneNumberAvailable = phoneNumberAvailable;
+    }
+
+    public static AvailabilityResponseDto of(Boolean usernameAvailable, Boolean emailAvailable,
+                                             Boolean phoneNumberAvailable) {
+        return new AvailabilityResponseDto(usernameAvailable, emailAvailable, phoneNumberAvailable);
+    }
+
+}
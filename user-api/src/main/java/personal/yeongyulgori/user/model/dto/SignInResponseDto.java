@@ -8,16 +8,20 @@ import java.util.List;
 @Getter
 public class SignInResponseDto {
 
+    private Long id;
     private String username;
     private List<Role> roles;
+    private long authVersion;
 
-    private SignInResponseDto(String username, List<Role> roles) {
+    private SignInResponseDto(Long id, String username, List<Role> roles, long authVersion) {
+        this.id = id;
         this.username = username;
         this.roles = roles;
+        this.authVersion = authVersion;
     }
 
-    public static SignInResponseDto of(String username, List<Role> roles) {
-        return new SignInResponseDto(username, roles);
+    public static SignInResponseDto of(Long id, String username, List<Role> roles, long authVersion) {
+        return new SignInResponseDto(id, username, roles, authVersion);
     }
 
 }
@@ -0,0 +1,20 @@
+package personal.yeongyulgori.user.model.dto;
+
+import lombok.Getter;
+
+@Getter
+public class TokenPairDto {
+
+    private String accessToken;
+    private String refreshToken;
+
+    private TokenPairDto(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
+    public static TokenPairDto of(String accessToken, String refreshToken) {
+        return new TokenPairDto(accessToken, refreshToken);
+    }
+
+}
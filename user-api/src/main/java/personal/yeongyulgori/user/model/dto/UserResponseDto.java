@@ -13,7 +13,6 @@ import personal.yeongyulgori.user.model.entity.embedment.Address;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Base64;
 import java.util.List;
 
 @Getter
@@ -21,6 +20,8 @@ import java.util.List;
 @Builder
 public class UserResponseDto {
 
+    private static final String PROFILE_IMAGE_URL_PREFIX = "/users/v1/profile-images/";
+
     private Long id;
     private String email;
     private String username;
@@ -29,7 +30,7 @@ public class UserResponseDto {
     private String phoneNumber;
     private Address address;
     private List<Role> roles;
-    private String profileImage;
+    private String profileImageUrl;
 
     @JsonSerialize(using = LocalDateTimeSerializer.class)
     @JsonDeserialize(using = LocalDateTimeDeserializer.class)
@@ -43,12 +44,20 @@ public class UserResponseDto {
             String email, String username, String fullName,
             List<Role> roles, LocalDateTime createdAt, LocalDateTime modifiedAt
     ) {
+        return of(email, username, fullName, roles, null, createdAt, modifiedAt);
+    }
+
+    public static UserResponseDto of(
+            String email, String username, String fullName, List<Role> roles,
+            String profileImageId, LocalDateTime createdAt, LocalDateTime modifiedAt
+    ) {
 
         return UserResponseDto.builder()
                 .email(email)
                 .username(username)
                 .fullName(fullName)
                 .roles(roles)
+                .profileImageUrl(toProfileImageUrl(profileImageId))
                 .createdAt(createdAt)
                 .modifiedAt(modifiedAt)
                 .build();
@@ -66,12 +75,15 @@ public class UserResponseDto {
                 .phoneNumber(user.getPhoneNumber())
                 .address(user.getAddress())
                 .roles(user.getRoles())
-                .profileImage(user.getProfileImage() != null ?
-                        Base64.getEncoder().encodeToString(user.getProfileImage()) : null)
+                .profileImageUrl(toProfileImageUrl(user.getProfileImageId()))
                 .createdAt(user.getCreatedAt())
                 .modifiedAt(user.getModifiedAt())
                 .build();
 
     }
 
+    private static String toProfileImageUrl(String profileImageId) {
+        return profileImageId != null ? PROFILE_IMAGE_URL_PREFIX + profileImageId : null;
+    }
+
 }
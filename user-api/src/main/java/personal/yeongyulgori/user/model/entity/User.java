@@ -24,17 +24,28 @@ import java.util.stream.Collectors;
 @Entity(name = "users")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.USERNAME_UNIQUE_CONSTRAINT, columnNames = "username"),
+        @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = User.PHONE_NUMBER_UNIQUE_CONSTRAINT, columnNames = "phoneNumber")
+}, indexes = @Index(name = "idx_users_full_name_id", columnList = "fullName, id"))
 public class User extends BaseEntity implements UserDetails {
 
+    /**
+     * 가입 경합에서 unique 제약 위반을 어떤 필드의 중복인지로 변환할 때 쓰는 제약 이름
+     */
+    public static final String USERNAME_UNIQUE_CONSTRAINT = "uk_users_username";
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+    public static final String PHONE_NUMBER_UNIQUE_CONSTRAINT = "uk_users_phone_number";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 30)
+    @Column(nullable = false, length = 30)
     private String email;
 
-    @Column(nullable = false, unique = true, length = 20)
+    @Column(nullable = false, length = 20)
     private String username;
 
     @Column(nullable = false)
@@ -46,22 +57,31 @@ public class User extends BaseEntity implements UserDetails {
     @Column(nullable = false)
     private LocalDate birthDate;
 
-    @Column(unique = true, length = 20)
+    @Column(length = 20)
     private String phoneNumber;
 
     @Embedded
     private Address address;
 
-    @Column(columnDefinition = "MEDIUMBLOB")
-    private byte[] profileImage;
+    /**
+     * 이미지 원본은 ProfileImageStore에 두고 회원 테이블에는 ID만 저장한다.
+     */
+    @Column(length = 40)
+    private String profileImageId;
 
     @ElementCollection(fetch = FetchType.EAGER)
     private List<Role> roles;
 
+    /**
+     * 비밀번호, 이메일, 권한이 바뀔 때마다 증가한다. 이전 버전으로 발급된 token은 무효로 본다.
+     */
+    @Column(nullable = false)
+    private long authVersion;
+
     @Builder
     private User(Long id, String email, String username, String password, String fullName,
-                 LocalDate birthDate, String phoneNumber, Address address, byte[] profileImage,
-                 List<Role> roles, LocalDateTime createdAt) {
+                 LocalDate birthDate, String phoneNumber, Address address, String profileImageId,
+                 List<Role> roles, long authVersion, LocalDateTime createdAt) {
 
         this.id = id;
         this.email = email.toLowerCase(Locale.ROOT);
@@ -71,8 +91,9 @@ public class User extends BaseEntity implements UserDetails {
         this.birthDate = birthDate;
         this.phoneNumber = phoneNumber;
         this.address = address;
-        this.profileImage = profileImage;
+        this.profileImageId = profileImageId;
         this.roles = roles;
+        this.authVersion = authVersion;
 
         setCreatedAt(createdAt);
 
@@ -80,10 +101,6 @@ public class User extends BaseEntity implements UserDetails {
 
     public static User from(SignUpForm signUpForm, String encodedPassword) {
 
-        byte[] decodedImage = Optional.ofNullable(signUpForm.getProfileImage())
-                .map(Base64.getDecoder()::decode)
-                .orElse(null);
-
         return User.builder()
                 .email(signUpForm.getEmail())
                 .username(signUpForm.getUsername())
@@ -93,17 +110,12 @@ public class User extends BaseEntity implements UserDetails {
                 .phoneNumber(signUpForm.getPhoneNumber())
                 .address(signUpForm.getAddress())
                 .roles(signUpForm.getRoles())
-                .profileImage(decodedImage)
                 .build();
 
     }
 
     public User withForm(String username, InformationUpdateForm informationUpdateForm) {
 
-        byte[] decodedImage = Optional.ofNullable(informationUpdateForm.getProfileImage())
-                .map(Base64.getDecoder()::decode)
-                .orElse(null);
-
         return User.builder()
                 .id(id)
                 .email(email)
@@ -126,7 +138,10 @@ public class User extends BaseEntity implements UserDetails {
                         .build()
                         : address)
                 .roles(Optional.ofNullable(informationUpdateForm.getRoles()).orElse(roles))
-                .profileImage(Optional.ofNullable(decodedImage).orElse(profileImage))
+                .profileImageId(profileImageId)
+                .authVersion(informationUpdateForm.getRoles() != null
+                        && !List.copyOf(roles).equals(informationUpdateForm.getRoles())
+                        ? authVersion + 1 : authVersion)
                 .createdAt(getCreatedAt())
                 .build();
 
@@ -144,7 +159,10 @@ public class User extends BaseEntity implements UserDetails {
                 .phoneNumber(Optional.ofNullable(crucialInformationUpdateDto.getPhoneNumber()).orElse(phoneNumber))
                 .address(address)
                 .roles(roles)
-                .profileImage(profileImage)
+                .profileImageId(profileImageId)
+                .authVersion(crucialInformationUpdateDto.getNewPassword() != null
+                        || crucialInformationUpdateDto.getEmail() != null
+                        ? authVersion + 1 : authVersion)
                 .createdAt(getCreatedAt())
                 .build();
 
@@ -162,7 +180,27 @@ public class User extends BaseEntity implements UserDetails {
                 .phoneNumber(phoneNumber)
                 .address(address)
                 .roles(roles)
-                .profileImage(profileImage)
+                .profileImageId(profileImageId)
+                .authVersion(authVersion + 1)
+                .createdAt(getCreatedAt())
+                .build();
+
+    }
+
+    public User withProfileImageId(String profileImageId) {
+
+        return User.builder()
+                .id(id)
+                .email(email)
+                .username(username)
+                .password(password)
+                .fullName(fullName)
+                .birthDate(birthDate)
+                .phoneNumber(phoneNumber)
+                .address(address)
+                .roles(roles)
+                .profileImageId(profileImageId)
+                .authVersion(authVersion)
                 .createdAt(getCreatedAt())
                 .build();
 
@@ -25,7 +25,4 @@ public class InformationUpdateForm {
     @ApiModelProperty(value = "권한", example = "[ROLE_BUSINESS_USER]")
     private List<Role> roles;
 
-    @ApiModelProperty(value = "Base64로 인코딩된 프로필 이미지 데이터 URI", example = "YourEncodedDataURI")
-    private String profileImage;
-
 }
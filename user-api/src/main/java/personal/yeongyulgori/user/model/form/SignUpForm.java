@@ -54,7 +54,4 @@ public class SignUpForm {
     @NotNull(groups = OnSignUp.class, message = "회원 분류를 선택해 주세요.")
     private List<Role> roles;
 
-    @ApiModelProperty(value = "Base64로 인코딩된 프로필 이미지 데이터 URI", example = "YourEncodedDataURI")
-    private String profileImage;
-
 }
@@ -3,11 +3,22 @@ package personal.yeongyulgori.user.model.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import personal.yeongyulgori.user.autocomplete.UserReference;
 import personal.yeongyulgori.user.model.constant.Role;
 import personal.yeongyulgori.user.model.entity.User;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -27,4 +38,57 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Page<User> findByFullNameContaining(String keyword, Pageable pageable);
 
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select new personal.yeongyulgori.user.autocomplete.UserReference(u.id, u.username, u.fullName) " +
+            "from users u")
+    Stream<UserReference> streamAllUserReferences();
+
+    /**
+     * 자동완성 사전의 스냅샷 순회와 병합할 수 있도록 성명, 회원 id 순으로 조회한다.
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select new personal.yeongyulgori.user.autocomplete.UserReference(u.id, u.username, u.fullName) " +
+            "from users u order by u.fullName, u.id")
+    Stream<UserReference> streamAllUserReferencesOrderByFullName();
+
+    @Query("select new personal.yeongyulgori.user.autocomplete.UserReference(u.id, u.username, u.fullName) " +
+            "from users u where u.id in :ids")
+    List<UserReference> findUserReferencesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select u.username as username, u.email as email, u.phoneNumber as phoneNumber from users u")
+    Stream<UserUniqueFields> streamAllUniqueFields();
+
+    /**
+     * 사용자 이름, 이메일, 전화번호 중 하나라도 일치하는 회원을 한 번의 조회로 찾는다.
+     * 전화번호가 null이면 비교 결과가 null이 되어 일치하지 않는다.
+     */
+    @Query("select u.username as username, u.email as email, u.phoneNumber as phoneNumber from users u " +
+            "where u.username = :username or u.email = :email or u.phoneNumber = :phoneNumber")
+    List<UserUniqueFields> findUniqueFieldsMatching(@Param("username") String username,
+                                                    @Param("email") String email,
+                                                    @Param("phoneNumber") String phoneNumber);
+
+    @Query("select u.authVersion from users u where u.username = :username")
+    Optional<Long> findAuthVersionByUsername(@Param("username") String username);
+
+    /**
+     * 저장된 해시가 currentPassword와 같을 때만 바꾸므로, 그 사이에 비밀번호가 변경되었으면 0을 반환한다.
+     */
+    @Modifying
+    @Query("update users u set u.password = :newPassword where u.id = :id and u.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("currentPassword") String currentPassword,
+                                  @Param("newPassword") String newPassword);
+
+    /**
+     * 조회한 이후 다른 요청이 프로필 이미지를 바꿨으면 0을 반환한다.
+     */
+    @Modifying
+    @Query("update users u set u.profileImageId = :newProfileImageId where u.id = :id " +
+            "and (u.profileImageId = :currentProfileImageId " +
+            "or (u.profileImageId is null and :currentProfileImageId is null))")
+    int updateProfileImageIdIfUnchanged(@Param("id") Long id,
+                                        @Param("currentProfileImageId") String currentProfileImageId,
+                                        @Param("newProfileImageId") String newProfileImageId);
+
 }
@@ -0,0 +1,14 @@
+package personal.yeongyulgori.user.model.repository;
+
+/**
+ * 가입 중복 검사에 필요한 unique 컬럼만 조회하는 projection
+ */
+public interface UserUniqueFields {
+
+    String getUsername();
+
+    String getEmail();
+
+    String getPhoneNumber();
+
+}
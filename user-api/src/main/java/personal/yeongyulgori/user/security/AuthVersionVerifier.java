@@ -0,0 +1,60 @@
+package personal.yeongyulgori.user.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import personal.yeongyulgori.user.model.repository.UserRepository;
+import personal.yeongyulgori.user.utility.ExpiringCache;
+
+/**
+ * access token에 담긴 인증 버전이 회원의 현재 인증 버전과 같은지 확인한다.
+ * <p>
+ * 현재 버전은 username별로 version-cache-ttl-millis 동안 캐시하므로, 비밀번호 변경이나 탈퇴가
+ * 다른 인스턴스에 반영되기까지 최대 그 시간이 걸린다.
+ * token의 버전이 캐시된 버전보다 높으면 변경 후 다시 로그인한 경우이므로 캐시를 무시하고 다시 조회한다.
+ */
+@Component
+public class AuthVersionVerifier {
+
+    private static final long NON_EXISTENT_USER = -1;
+
+    private final UserRepository userRepository;
+    private final ExpiringCache<String, Long> authVersions;
+
+    public AuthVersionVerifier(
+            UserRepository userRepository, MeterRegistry meterRegistry,
+            @Value("${security.stateless-authentication.version-cache-ttl-millis:30000}") long ttlMillis,
+            @Value("${security.stateless-authentication.version-cache-max-size:100000}") int maxSize
+    ) {
+
+        this.userRepository = userRepository;
+        this.authVersions = new ExpiringCache<>(maxSize, ttlMillis);
+
+        FunctionCounter.builder("security.auth-version.cache.hits", authVersions, ExpiringCache::hitCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("security.auth-version.cache.misses", authVersions, ExpiringCache::missCount)
+                .register(meterRegistry);
+        Gauge.builder("security.auth-version.cache.size", authVersions, ExpiringCache::size)
+                .register(meterRegistry);
+
+    }
+
+    public boolean isCurrent(String username, long authVersion) {
+
+        long currentAuthVersion = authVersions.get(username, this::findAuthVersion);
+
+        if (currentAuthVersion < authVersion) {
+            currentAuthVersion = authVersions.reload(username, this::findAuthVersion);
+        }
+
+        return currentAuthVersion == authVersion;
+
+    }
+
+    private Long findAuthVersion(String username) {
+        return userRepository.findAuthVersionByUsername(username).orElse(NON_EXISTENT_USER);
+    }
+
+}
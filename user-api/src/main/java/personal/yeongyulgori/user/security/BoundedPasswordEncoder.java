@@ -0,0 +1,115 @@
+package personal.yeongyulgori.user.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import personal.yeongyulgori.user.exception.significant.sub.PasswordHashingUnavailableException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해시 계산을 전용 thread pool에서 실행하는 PasswordEncoder
+ * <p>
+ * bcrypt는 의도적으로 느리므로 로그인이 몰리면 요청 thread가 모두 해시 계산에 묶여 다른 API까지 응답하지 못한다.
+ * 해시 계산을 코어 수만큼의 thread로 제한하고, 대기열이 가득 차거나 timeout-millis 안에 끝나지 않으면
+ * PasswordHashingUnavailableException(503)으로 바로 실패시켜 비밀번호를 확인하는 요청만 느려지게 한다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String METRIC_PREFIX = "security.password-hashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer executionTimer;
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry,
+                                  int poolSize, int queueCapacity, long timeoutMillis) {
+
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.executionTimer = Timer.builder(METRIC_PREFIX + ".executions").register(meterRegistry);
+        this.queueFullRejections = Counter.builder(METRIC_PREFIX + ".rejections")
+                .tag("reason", "queue-full")
+                .register(meterRegistry);
+        this.timeoutRejections = Counter.builder(METRIC_PREFIX + ".rejections")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * bean 종료 시 호출된다. 진행 중인 해시 계산은 중단하지 않는다.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> hashing) {
+
+        Future<T> future;
+
+        try {
+            future = executor.submit(executionTimer.wrap(hashing));
+        } catch (RejectedExecutionException e) {
+            queueFullRejections.increment();
+            throw new PasswordHashingUnavailableException();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutRejections.increment();
+            throw new PasswordHashingUnavailableException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : new IllegalStateException(e.getCause());
+        }
+
+    }
+
+}
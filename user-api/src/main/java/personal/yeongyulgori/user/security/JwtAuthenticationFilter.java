@@ -4,11 +4,10 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
@@ -29,23 +28,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    /**
+     * 공개 경로는 token을 보내더라도 검증하지 않는다.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicEndpoints.REQUEST_MATCHER.matches(request);
+    }
+
     @Override
     protected void doFilterInternal
             (HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        String token = resolveTokenFromRequest(request);
+        TokenClaims tokenClaims = jwtTokenProvider.parseToken(resolveTokenFromRequest(request));
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+        if (tokenClaims != null) {
 
             try {
 
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+                Authentication authentication = jwtTokenProvider.getAuthentication(tokenClaims);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.info(String.format("[%s] -> %s", jwtTokenProvider.getUsername(token), request.getRequestURI()));
+                log.info(String.format("[%s] -> %s", tokenClaims.getUsername(), request.getRequestURI()));
 
-            } catch (UsernameNotFoundException e) {
+            } catch (AuthenticationException e) {
                 customAuthenticationEntryPoint.commence(request, response, e);
                 return;
             }
@@ -56,7 +63,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     }
 
-    private String resolveTokenFromRequest(HttpServletRequest request) {
+    static String resolveTokenFromRequest(HttpServletRequest request) {
 
         String token = request.getHeader(TOKEN_HEADER);
 
@@ -0,0 +1,186 @@
+package personal.yeongyulgori.user.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * access token 서명에 사용하는 ES256(P-256) 키
+ * <p>
+ * 현재 서명 키는 security.jwt.signing-key 설정의 PKCS#8 개인 키와 X.509 공개 키(base64)로 만든다.
+ * 설정이 없으면 기동에 실패하며, allow-ephemeral이 켜진 테스트 환경에서만 기동 시 임시 키를 생성한다.
+ * 임시 키는 인스턴스마다 다르고 재시작하면 바뀌므로, 이전에 발급한 token을 검증할 수 없다.
+ * 키를 교체할 때는 이전 공개 키를 retired-public-keys("kid=공개 키" 목록)로 옮겨, 이전 키로 서명된 token이 만료될 때까지 검증한다.
+ * kid를 지정하지 않으면 JWK thumbprint(RFC 7638)를 사용한다.
+ */
+@Component
+public class JwtSigningKeys {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtSigningKeys.class);
+
+    private static final String CURVE = "secp256r1";
+    private static final int COORDINATE_BYTES = 32;
+
+    private final String keyId;
+    private final PrivateKey privateKey;
+    private final Map<String, PublicKey> publicKeys;
+    private final Map<String, Object> jwks;
+
+    public JwtSigningKeys(
+            @Value("${security.jwt.signing-key.kid:}") String keyId,
+            @Value("${security.jwt.signing-key.private-key:}") String privateKey,
+            @Value("${security.jwt.signing-key.public-key:}") String publicKey,
+            @Value("${security.jwt.retired-public-keys:}") String retiredPublicKeys,
+            @Value("${security.jwt.signing-key.allow-ephemeral:false}") boolean allowEphemeral
+    ) throws GeneralSecurityException {
+
+        KeyFactory keyFactory = KeyFactory.getInstance("EC");
+        PublicKey signingPublicKey;
+
+        if (StringUtils.hasText(privateKey) && StringUtils.hasText(publicKey)) {
+            this.privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKey)));
+            signingPublicKey = keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(publicKey)));
+        } else {
+
+            if (!allowEphemeral) {
+                throw new IllegalStateException("JWT 서명 키가 설정되지 않았습니다. "
+                        + "JWT_SIGNING_PRIVATE_KEY와 JWT_SIGNING_PUBLIC_KEY를 지정해야 합니다.");
+            }
+
+            log.warn("No JWT signing key configured, generated an ephemeral ES256 key. "
+                    + "Tokens will not be accepted by other instances or after a restart.");
+
+            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+            keyPairGenerator.initialize(new ECGenParameterSpec(CURVE));
+
+            KeyPair keyPair = keyPairGenerator.generateKeyPair();
+            this.privateKey = keyPair.getPrivate();
+            signingPublicKey = keyPair.getPublic();
+
+        }
+
+        this.keyId = StringUtils.hasText(keyId) ? keyId : thumbprint((ECPublicKey) signingPublicKey);
+
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        keys.put(this.keyId, signingPublicKey);
+
+        for (String retiredPublicKey : StringUtils.commaDelimitedListToStringArray(retiredPublicKeys)) {
+
+            String[] keyIdAndKey = retiredPublicKey.trim().split("=", 2);
+
+            if (keyIdAndKey.length != 2) {
+                throw new IllegalArgumentException("retired-public-keys는 'kid=공개 키' 형식이어야 합니다. value: "
+                        + retiredPublicKey);
+            }
+
+            keys.putIfAbsent(keyIdAndKey[0], keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(keyIdAndKey[1]))));
+
+        }
+
+        this.publicKeys = Collections.unmodifiableMap(keys);
+        this.jwks = buildJwks(keys);
+
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public PrivateKey getPrivateKey() {
+        return privateKey;
+    }
+
+    /**
+     * 검증에 사용할 수 있는 공개 키. 알 수 없는 kid이면 null을 반환한다.
+     */
+    public PublicKey getPublicKey(String keyId) {
+        return publicKeys.get(keyId);
+    }
+
+    /**
+     * JWK Set(RFC 7517) 문서. 키가 기동 시 고정되므로 한 번만 만들어 둔다.
+     */
+    public Map<String, Object> getJwks() {
+        return jwks;
+    }
+
+    private static Map<String, Object> buildJwks(Map<String, PublicKey> keys) {
+
+        List<Map<String, String>> jwkList = new ArrayList<>();
+
+        keys.forEach((keyId, publicKey) -> {
+
+            Map<String, String> jwk = new LinkedHashMap<>(toJwk((ECPublicKey) publicKey));
+            jwk.put("kid", keyId);
+            jwk.put("use", "sig");
+            jwk.put("alg", "ES256");
+
+            jwkList.add(Collections.unmodifiableMap(jwk));
+
+        });
+
+        return Map.of("keys", Collections.unmodifiableList(jwkList));
+
+    }
+
+    private static Map<String, String> toJwk(ECPublicKey publicKey) {
+
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("crv", "P-256");
+        jwk.put("kty", "EC");
+        jwk.put("x", encodeCoordinate(publicKey.getW().getAffineX()));
+        jwk.put("y", encodeCoordinate(publicKey.getW().getAffineY()));
+
+        return jwk;
+
+    }
+
+    private static String thumbprint(ECPublicKey publicKey) throws GeneralSecurityException {
+
+        Map<String, String> jwk = toJwk(publicKey);
+
+        String canonicalJwk = String.format("{\"crv\":\"%s\",\"kty\":\"%s\",\"x\":\"%s\",\"y\":\"%s\"}",
+                jwk.get("crv"), jwk.get("kty"), jwk.get("x"), jwk.get("y"));
+
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonicalJwk.getBytes(StandardCharsets.UTF_8));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+
+    }
+
+    private static String encodeCoordinate(BigInteger coordinate) {
+
+        byte[] bytes = coordinate.toByteArray();
+        byte[] unsigned = new byte[COORDINATE_BYTES];
+
+        int length = Math.min(bytes.length, COORDINATE_BYTES);
+        System.arraycopy(bytes, bytes.length - length, unsigned, COORDINATE_BYTES - length, length);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(unsigned);
+
+    }
+
+}
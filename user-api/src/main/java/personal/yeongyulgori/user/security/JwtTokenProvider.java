@@ -2,56 +2,94 @@ package personal.yeongyulgori.user.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.CredentialsExpiredException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import personal.yeongyulgori.user.model.constant.Role;
+import personal.yeongyulgori.user.security.revocation.TokenDenylist;
 
 import javax.annotation.PostConstruct;
-import java.util.Base64;
+import java.security.Key;
+import java.security.PublicKey;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final String KEY_USER_ID = "uid";
     private static final String KEY_ROLES = "roles";
-    private static final long LOGIN_TOKEN_EXPIRATION_TIME = 1000 * 60 * 60 * 2;
+    private static final String KEY_AUTH_VERSION = "ver";
 
     private static final String TOKEN_TYPE = "token-type";
     private static final String PASSWORD_RESET = "password-reset";
     public static final long PASSWORD_RESET_TOKEN_EXPIRATION_TIME = 1000 * 60 * 30;
     private final UserDetailsService userDetailsService;
+    private final AuthVersionVerifier authVersionVerifier;
+    private final TokenDenylist tokenDenylist;
+    private final JwtSigningKeys jwtSigningKeys;
 
-    @Value("${spring.jwt.secret}")
-    private String secretKey;
+    @Value("${security.stateless-authentication.enabled:false}")
+    private boolean statelessAuthentication;
 
+    @Value("${security.access-token.expiration-millis:900000}")
+    private long accessTokenExpirationMillis;
+
+    private JwtParser jwtParser;
+
+    /**
+     * parser는 불변이고 thread-safe하므로 기동 시 한 번만 만든다.
+     * token은 ES256으로 서명하고 header의 kid로 검증 키를 고른다. 다른 서비스는 JWKS로 공개 키를 받아 직접 검증한다.
+     * ES256 전환 이전의 kid 없는 HS256 token은 모두 만료되었으므로 받지 않는다.
+     */
     @PostConstruct
     public void init() {
-        secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
+
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    // jjwt 0.11의 SigningKeyResolver가 raw type으로 선언되어 있어 JwsHeader<?>로는 override할 수 없다.
+                    @Override
+                    @SuppressWarnings("rawtypes")
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveVerificationKey(header);
+                    }
+                })
+                .build();
+
     }
 
-    public String generateToken(String username, List<Role> roles) {
+    public String generateToken(Long userId, String username, List<Role> roles, long authVersion) {
 
         Claims claims = Jwts.claims().setSubject(username);
+        claims.put(KEY_USER_ID, userId);
         claims.put(KEY_ROLES, roles);
+        claims.put(KEY_AUTH_VERSION, authVersion);
 
         Date now = new Date();
-        Date expirationDate = new Date(now.getTime() + LOGIN_TOKEN_EXPIRATION_TIME);
+        Date expirationDate = new Date(now.getTime() + accessTokenExpirationMillis);
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, jwtSigningKeys.getKeyId())
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expirationDate)
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(jwtSigningKeys.getPrivateKey(), SignatureAlgorithm.ES256)
                 .compact();
 
     }
@@ -65,45 +103,89 @@ public class JwtTokenProvider {
         Date expirationDate = new Date(now.getTime() + PASSWORD_RESET_TOKEN_EXPIRATION_TIME);
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, jwtSigningKeys.getKeyId())
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(expirationDate)
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(jwtSigningKeys.getPrivateKey(), SignatureAlgorithm.ES256)
                 .compact();
 
     }
 
-    public Authentication getAuthentication(String token) {
+    /**
+     * stateless 모드에서는 회원을 조회하지 않고 검증된 claim으로 principal을 만든다.
+     * 이때 token의 인증 버전이 현재 버전과 다르면(비밀번호 변경, 권한 변경, 탈퇴) CredentialsExpiredException을 던진다.
+     * stateless 모드가 아니거나 버전 claim이 없는 이전 token이면 기존처럼 회원을 조회한다.
+     * 로그아웃으로 폐기된 token이면 모드와 관계없이 CredentialsExpiredException을 던진다.
+     */
+    public Authentication getAuthentication(TokenClaims tokenClaims) {
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(getUsername(token));
+        if (tokenClaims.getTokenId() != null && tokenDenylist.isRevoked(tokenClaims.getTokenId())) {
+            throw new CredentialsExpiredException("로그아웃된 token입니다. username: " + tokenClaims.getUsername());
+        }
+
+        if (statelessAuthentication && tokenClaims.getAuthVersion() != null) {
+            return getStatelessAuthentication(tokenClaims);
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(tokenClaims.getUsername());
 
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
 
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * token의 서명을 한 번 검증하고 claim을 파싱한다. token이 비어 있거나 만료되었으면 null을 반환한다.
+     */
+    public TokenClaims parseToken(String token) {
 
         if (!StringUtils.hasText(token)) {
-            return false;
+            return null;
+        }
+
+        Claims claims;
+
+        try {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException e) {
+            return null;
         }
 
-        Claims claims = parseClaims(token);
-        return !claims.getExpiration().before(new Date());
+        return TokenClaims.of(claims.getId(), claims.getSubject(), TokenClaims.toRoles(claims.get(KEY_ROLES)),
+                claims.getIssuedAt(), claims.getExpiration(), claims.get(KEY_AUTH_VERSION, Long.class));
 
     }
 
-    public String getUsername(String token) {
-        return parseClaims(token).getSubject();
+    private Key resolveVerificationKey(JwsHeader<?> header) {
+
+        if (header.getKeyId() == null) {
+            throw new SignatureException("kid가 없는 token은 검증할 수 없습니다.");
+        }
+
+        PublicKey publicKey = jwtSigningKeys.getPublicKey(header.getKeyId());
+
+        if (publicKey == null) {
+            throw new SignatureException("알 수 없는 서명 키입니다. kid: " + header.getKeyId());
+        }
+
+        return publicKey;
+
     }
 
-    private Claims parseClaims(String token) {
+    private Authentication getStatelessAuthentication(TokenClaims tokenClaims) {
 
-        try {
-            return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
+        if (!authVersionVerifier.isCurrent(tokenClaims.getUsername(), tokenClaims.getAuthVersion())) {
+            throw new CredentialsExpiredException
+                    ("token 발급 이후 회원 인증 정보가 변경되었습니다. username: " + tokenClaims.getUsername());
         }
 
+        UserDetails userDetails = User.withUsername(tokenClaims.getUsername())
+                .password("")
+                .authorities(tokenClaims.getRoles().toArray(String[]::new))
+                .build();
+
+        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+
     }
 
 }
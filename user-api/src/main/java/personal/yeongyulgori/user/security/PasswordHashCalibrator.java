@@ -0,0 +1,69 @@
+package personal.yeongyulgori.user.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * 현재 장비에서 bcrypt 해시 한 번에 걸리는 시간을 재서 목표 시간에 맞는 strength를 고른다.
+ * <p>
+ * strength가 1 오를 때마다 비용이 두 배가 되므로, 낮은 strength의 중앙값을 재고 목표 시간을 넘지 않는 가장 높은 strength를 추정한다.
+ * 장비 사양이 다른 인스턴스는 서로 다른 strength를 고를 수 있으므로, 여러 인스턴스에는 측정한 값을 설정으로 고정해 배포한다.
+ */
+public final class PasswordHashCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashCalibrator.class);
+
+    public static final int MINIMUM_BCRYPT_STRENGTH = 10;
+    private static final int MAXIMUM_BCRYPT_STRENGTH = 16;
+
+    private static final int SAMPLE_STRENGTH = 8;
+    private static final int WARMUP_COUNT = 3;
+    private static final int SAMPLE_COUNT = 7;
+    private static final String SAMPLE_PASSWORD = "password-hash-calibration";
+
+    private PasswordHashCalibrator() {
+    }
+
+    public static int calibrateBCryptStrength(long targetMillis) {
+
+        BCryptPasswordEncoder sampleEncoder = new BCryptPasswordEncoder(SAMPLE_STRENGTH);
+
+        for (int i = 0; i < WARMUP_COUNT; i++) {
+            sampleEncoder.encode(SAMPLE_PASSWORD);
+        }
+
+        long[] sampleNanos = new long[SAMPLE_COUNT];
+
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+
+            long startedAt = System.nanoTime();
+            sampleEncoder.encode(SAMPLE_PASSWORD);
+            sampleNanos[i] = System.nanoTime() - startedAt;
+
+        }
+
+        Arrays.sort(sampleNanos);
+        double sampleMillis = sampleNanos[SAMPLE_COUNT / 2] / 1_000_000.0;
+
+        int strength = MINIMUM_BCRYPT_STRENGTH;
+
+        while (strength < MAXIMUM_BCRYPT_STRENGTH
+                && estimateMillis(sampleMillis, strength + 1) <= targetMillis) {
+            strength++;
+        }
+
+        log.info("Calibrated bcrypt strength: {}, estimated hash time: {} ms, target: {} ms",
+                strength, Math.round(estimateMillis(sampleMillis, strength)), targetMillis);
+
+        return strength;
+
+    }
+
+    private static double estimateMillis(double sampleMillis, int strength) {
+        return sampleMillis * (1L << (strength - SAMPLE_STRENGTH));
+    }
+
+}
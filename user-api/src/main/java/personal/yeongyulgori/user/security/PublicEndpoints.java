@@ -0,0 +1,50 @@
+package personal.yeongyulgori.user.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인증 없이 호출할 수 있는 경로
+ * <p>
+ * 접근 허용 규칙과 JwtAuthenticationFilter가 같은 matcher를 사용하므로, 이 경로의 요청은 token을 보내더라도
+ * 파싱과 회원 조회 없이 통과한다. 인증된 회원에 따라 응답이 달라지는 API는 여기에 추가하지 않는다.
+ */
+public final class PublicEndpoints {
+
+    private static final String[] PATHS = {
+            "/", "/swagger-ui/**", "/v2/api-docs", "/swagger-resources/**",
+            "/**/signup", "/**/login", "/users/v1", "/users/v1/auto-complete", "/users/v1/auto-complete/stream",
+            "/users/v1/password-reset/**", "/users/v1/token/refresh", "/.well-known/jwks.json"
+    };
+
+    private static final String[] GET_PATHS = {
+            "/users/v1/{username}", "/users/v1/availability", "/users/v1/profile-images/{imageId}"
+    };
+
+    public static final RequestMatcher REQUEST_MATCHER = createRequestMatcher();
+
+    private PublicEndpoints() {
+    }
+
+    private static RequestMatcher createRequestMatcher() {
+
+        List<RequestMatcher> requestMatchers = new ArrayList<>();
+
+        for (String path : PATHS) {
+            requestMatchers.add(new AntPathRequestMatcher(path));
+        }
+
+        for (String path : GET_PATHS) {
+            requestMatchers.add(new AntPathRequestMatcher(path, HttpMethod.GET.name()));
+        }
+
+        return new OrRequestMatcher(requestMatchers);
+
+    }
+
+}
@@ -0,0 +1,56 @@
+package personal.yeongyulgori.user.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+
+/**
+ * refresh token을 담는 cookie
+ * <p>
+ * script에서 읽을 수 없도록 HttpOnly로, 다른 사이트의 요청에 실리지 않도록 SameSite=Strict로 발급하고,
+ * 회원 API 경로에만 전송되도록 path를 제한한다.
+ */
+@Component
+public class RefreshTokenCookie {
+
+    public static final String NAME = "refresh_token";
+    private static final String PATH = "/users/v1";
+
+    @Value("${security.refresh-token.expiration-millis:1209600000}")
+    private long refreshTokenExpirationMillis;
+
+    @Value("${security.refresh-token.cookie-secure:true}")
+    private boolean secure;
+
+    public ResponseCookie create(String refreshToken) {
+        return build(refreshToken, Duration.ofMillis(refreshTokenExpirationMillis));
+    }
+
+    public ResponseCookie expire() {
+        return build("", Duration.ZERO);
+    }
+
+    public String resolve(HttpServletRequest request) {
+
+        Cookie cookie = WebUtils.getCookie(request, NAME);
+
+        return cookie == null ? null : cookie.getValue();
+
+    }
+
+    private ResponseCookie build(String value, Duration maxAge) {
+        return ResponseCookie.from(NAME, value)
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite("Strict")
+                .path(PATH)
+                .maxAge(maxAge)
+                .build();
+    }
+
+}
@@ -0,0 +1,62 @@
+package personal.yeongyulgori.user.security;
+
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 서명과 만료 검증을 마친 access token의 claim
+ * <p>
+ * 요청마다 token을 한 번만 파싱해 만들고, 인증 정보를 만들 때 다시 파싱하지 않고 사용한다.
+ * 로그아웃 요청은 JWT 인증 filter에 도달하지 않으므로 로그아웃 handler가 직접 한 번 파싱한다.
+ */
+@Getter
+public class TokenClaims {
+
+    /**
+     * token id(jti). id claim이 없는 이전 token이면 null이다.
+     */
+    private final String tokenId;
+    private final String username;
+    private final List<String> roles;
+    private final Date issuedAt;
+    private final Date expiration;
+
+    /**
+     * 발급 시점의 회원 인증 버전. 버전 claim이 없는 이전 token이면 null이다.
+     */
+    private final Long authVersion;
+
+    private TokenClaims(String tokenId, String username, List<String> roles, Date issuedAt, Date expiration,
+                        Long authVersion) {
+        this.tokenId = tokenId;
+        this.username = username;
+        this.roles = roles;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+        this.authVersion = authVersion;
+    }
+
+    public static TokenClaims of(String tokenId, String username, List<String> roles, Date issuedAt,
+                                 Date expiration, Long authVersion) {
+        return new TokenClaims(tokenId, username, roles, issuedAt, expiration, authVersion);
+    }
+
+    /**
+     * roles claim의 원소를 문자열로 바꾼다. claim이 목록이 아니거나 없으면 빈 목록을 반환한다.
+     */
+    static List<String> toRoles(Object rolesClaim) {
+
+        if (!(rolesClaim instanceof List)) {
+            return List.of();
+        }
+
+        return ((List<?>) rolesClaim).stream()
+                .map(String::valueOf)
+                .collect(Collectors.toUnmodifiableList());
+
+    }
+
+}
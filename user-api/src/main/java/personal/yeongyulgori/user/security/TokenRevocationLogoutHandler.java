@@ -0,0 +1,81 @@
+package personal.yeongyulgori.user.security;
+
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+import org.springframework.stereotype.Component;
+import personal.yeongyulgori.user.exception.significant.sub.InvalidRefreshTokenException;
+import personal.yeongyulgori.user.security.revocation.TokenDenylist;
+import personal.yeongyulgori.user.service.RefreshTokenService;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 로그아웃 요청의 access token을 남은 유효 기간 동안 폐기하고, refresh token family를 삭제한 뒤 cookie를 만료시킨다.
+ * <p>
+ * 로그아웃 filter는 JWT 인증 filter보다 먼저 실행되므로 header의 token을 직접 검증한다.
+ * token이 없거나 유효하지 않으면 폐기할 것이 없으므로 그대로 로그아웃을 마친다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationLogoutHandler implements LogoutHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationLogoutHandler.class);
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenDenylist tokenDenylist;
+    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenCookie refreshTokenCookie;
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+
+        revokeRefreshToken(request, response);
+        revokeAccessToken(request);
+
+    }
+
+    private void revokeRefreshToken(HttpServletRequest request, HttpServletResponse response) {
+
+        String refreshToken = refreshTokenCookie.resolve(request);
+
+        if (refreshToken == null) {
+            return;
+        }
+
+        try {
+            refreshTokenService.revokeRefreshToken(refreshToken);
+        } catch (InvalidRefreshTokenException e) {
+            log.debug("Ignoring malformed refresh token on logout");
+        }
+
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshTokenCookie.expire().toString());
+
+    }
+
+    private void revokeAccessToken(HttpServletRequest request) {
+
+        TokenClaims tokenClaims;
+
+        try {
+            tokenClaims = jwtTokenProvider.parseToken(JwtAuthenticationFilter.resolveTokenFromRequest(request));
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+
+        if (tokenClaims == null || tokenClaims.getTokenId() == null) {
+            return;
+        }
+
+        tokenDenylist.revoke(tokenClaims.getTokenId(), tokenClaims.getExpiration().getTime());
+
+        log.info(String.format("[%s] logged out", tokenClaims.getUsername()));
+
+    }
+
+}
@@ -0,0 +1,74 @@
+package personal.yeongyulgori.user.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import personal.yeongyulgori.user.utility.ExpiringCache;
+
+import java.util.function.Function;
+
+/**
+ * username별 principal 캐시
+ * <p>
+ * 인증 정보가 바뀌는 작업은 evict를 호출해야 한다. 트랜잭션 안에서 호출하면 커밋 후에 한 번 더 비워,
+ * 커밋 전에 다른 요청이 이전 값을 다시 적재한 경우도 제거한다.
+ * ttl-millis는 다른 인스턴스에서의 변경이 반영되기까지의 최대 시간이다.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final ExpiringCache<String, UserPrincipal> principals;
+
+    public UserDetailsCache(
+            MeterRegistry meterRegistry,
+            @Value("${security.user-details-cache.ttl-millis:60000}") long ttlMillis,
+            @Value("${security.user-details-cache.max-size:10000}") int maxSize
+    ) {
+
+        this.principals = new ExpiringCache<>(maxSize, ttlMillis);
+
+        FunctionCounter.builder("security.user-details.cache.hits", principals, ExpiringCache::hitCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("security.user-details.cache.misses", principals, ExpiringCache::missCount)
+                .register(meterRegistry);
+        Gauge.builder("security.user-details.cache.size", principals, ExpiringCache::size)
+                .register(meterRegistry);
+
+    }
+
+    public UserPrincipal get(String username, Function<String, UserPrincipal> loader) {
+        return principals.get(username, loader);
+    }
+
+    public void evict(String username) {
+
+        principals.invalidate(username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principals.invalidate(username);
+                }
+            });
+        }
+
+    }
+
+    public void clear() {
+        principals.clear();
+    }
+
+    public long hitCount() {
+        return principals.hitCount();
+    }
+
+    public long missCount() {
+        return principals.missCount();
+    }
+
+}
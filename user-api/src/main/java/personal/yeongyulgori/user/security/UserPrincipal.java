@@ -0,0 +1,62 @@
+package personal.yeongyulgori.user.security;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import personal.yeongyulgori.user.model.entity.User;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증에 필요한 값만 담은 불변 principal
+ * <p>
+ * 프로필 이미지 등 회원 엔티티의 나머지 상태를 들고 있지 않으므로 캐시에 오래 보관해도 부담이 적다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString(exclude = "password")
+public class UserPrincipal implements UserDetails {
+
+    private final String username;
+    private final String password;
+    private final List<GrantedAuthority> authorities;
+
+    private UserPrincipal(String username, String password, List<GrantedAuthority> authorities) {
+        this.username = username;
+        this.password = password;
+        this.authorities = authorities;
+    }
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getUsername(), user.getPassword(), List.copyOf(user.getAuthorities()));
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+}
@@ -0,0 +1,38 @@
+package personal.yeongyulgori.user.security.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import personal.yeongyulgori.user.utility.StripedTokenBuckets;
+
+/**
+ * token bucket을 JVM 메모리에 보관하는 저장소. 제한은 인스턴스별로 적용된다.
+ */
+@Component
+@ConditionalOnProperty(name = "security.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final int STRIPE_COUNT = 64;
+
+    private final StripedTokenBuckets buckets;
+
+    public InMemoryRateLimitStore(
+            MeterRegistry meterRegistry,
+            @Value("${security.rate-limit.max-keys:100000}") int maxKeys
+    ) {
+
+        this.buckets = new StripedTokenBuckets(STRIPE_COUNT, maxKeys);
+
+        Gauge.builder("security.rate-limit.buckets", buckets, StripedTokenBuckets::size)
+                .register(meterRegistry);
+
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int capacity, double refillPerSecond) {
+        return buckets.tryAcquire(key, capacity, refillPerSecond);
+    }
+
+}
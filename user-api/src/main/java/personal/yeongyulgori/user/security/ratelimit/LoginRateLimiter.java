@@ -0,0 +1,107 @@
+package personal.yeongyulgori.user.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import personal.yeongyulgori.user.exception.significant.sub.TooManyRequestsException;
+
+import java.util.Locale;
+
+/**
+ * 로그인과 비밀번호 재설정 요청 횟수를 계정과 client IP별로 제한한다.
+ * <p>
+ * 비밀번호 확인이나 회원 조회 전에 호출해, 제한을 넘은 요청은 해시 계산과 DB 조회 없이
+ * TooManyRequestsException(429)으로 거절한다. IP 제한을 먼저 확인하므로 IP에서 거절된 요청은 계정의 token을 쓰지 않는다.
+ * 로그인의 계정 제한은 계정과 client IP 쌍마다 적용해, 다른 IP에서 피해자의 계정으로 요청을 보내도 피해자의 로그인은 막히지 않는다.
+ * 가입 여부를 답하는 가입 가능 여부 확인도 계정 열거에 쓰일 수 있으므로 client IP별로 제한한다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final RateLimitStore rateLimitStore;
+
+    private final Limit loginAccount;
+    private final Limit loginIp;
+    private final Limit passwordResetAccount;
+    private final Limit passwordResetIp;
+    private final Limit availabilityIp;
+
+    public LoginRateLimiter(
+            RateLimitStore rateLimitStore, MeterRegistry meterRegistry,
+            @Value("${security.rate-limit.login.account.capacity:5}") int loginAccountCapacity,
+            @Value("${security.rate-limit.login.account.refill-per-minute:5}") double loginAccountRefill,
+            @Value("${security.rate-limit.login.ip.capacity:30}") int loginIpCapacity,
+            @Value("${security.rate-limit.login.ip.refill-per-minute:30}") double loginIpRefill,
+            @Value("${security.rate-limit.password-reset.account.capacity:3}") int passwordResetAccountCapacity,
+            @Value("${security.rate-limit.password-reset.account.refill-per-minute:1}") double passwordResetAccountRefill,
+            @Value("${security.rate-limit.password-reset.ip.capacity:10}") int passwordResetIpCapacity,
+            @Value("${security.rate-limit.password-reset.ip.refill-per-minute:10}") double passwordResetIpRefill,
+            @Value("${security.rate-limit.availability.ip.capacity:20}") int availabilityIpCapacity,
+            @Value("${security.rate-limit.availability.ip.refill-per-minute:20}") double availabilityIpRefill
+    ) {
+
+        this.rateLimitStore = rateLimitStore;
+
+        this.loginAccount = new Limit("login-account", loginAccountCapacity, loginAccountRefill, meterRegistry);
+        this.loginIp = new Limit("login-ip", loginIpCapacity, loginIpRefill, meterRegistry);
+        this.passwordResetAccount = new Limit("password-reset-account",
+                passwordResetAccountCapacity, passwordResetAccountRefill, meterRegistry);
+        this.passwordResetIp = new Limit("password-reset-ip",
+                passwordResetIpCapacity, passwordResetIpRefill, meterRegistry);
+        this.availabilityIp = new Limit("availability-ip", availabilityIpCapacity, availabilityIpRefill, meterRegistry);
+
+    }
+
+    public void checkSignIn(String emailOrUsername, String clientIp) {
+        acquire(loginIp, clientIp);
+        acquire(loginAccount, normalize(emailOrUsername) + "|" + clientIp);
+    }
+
+    public void checkPasswordResetRequest(String email, String clientIp) {
+        acquire(passwordResetIp, clientIp);
+        acquire(passwordResetAccount, normalize(email));
+    }
+
+    public void checkPasswordReset(String clientIp) {
+        acquire(passwordResetIp, clientIp);
+    }
+
+    public void checkAvailability(String clientIp) {
+        acquire(availabilityIp, clientIp);
+    }
+
+    private void acquire(Limit limit, String key) {
+
+        if (!rateLimitStore.tryAcquire(limit.name + ":" + key, limit.capacity, limit.refillPerSecond)) {
+            limit.rejections.increment();
+            throw new TooManyRequestsException();
+        }
+
+    }
+
+    private static String normalize(String emailOrUsername) {
+        return emailOrUsername == null ? "" : emailOrUsername.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Limit {
+
+        private final String name;
+        private final int capacity;
+        private final double refillPerSecond;
+        private final Counter rejections;
+
+        private Limit(String name, int capacity, double refillPerMinute, MeterRegistry meterRegistry) {
+
+            this.name = name;
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerMinute / 60;
+            this.rejections = Counter.builder("security.rate-limit.rejections")
+                    .tag("limit", name)
+                    .register(meterRegistry);
+
+        }
+
+    }
+
+}
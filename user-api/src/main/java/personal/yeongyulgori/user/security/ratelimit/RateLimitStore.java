@@ -0,0 +1,13 @@
+package personal.yeongyulgori.user.security.ratelimit;
+
+/**
+ * key별 token bucket 저장소
+ */
+public interface RateLimitStore {
+
+    /**
+     * key의 bucket에서 token 하나를 꺼낸다. bucket이 비어 있으면 false를 반환한다.
+     */
+    boolean tryAcquire(String key, int capacity, double refillPerSecond);
+
+}
@@ -0,0 +1,53 @@
+package personal.yeongyulgori.user.security.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * token bucket을 Redis hash로 보관해 모든 인스턴스가 같은 제한을 공유하는 저장소
+ * <p>
+ * 충전과 차감은 Redis 서버 시간을 기준으로 Lua script 안에서 원자적으로 수행하고,
+ * bucket이 가득 찰 시간이 지나면 key가 만료된다.
+ */
+@Component
+@ConditionalOnProperty(name = "security.rate-limit.store", havingValue = "redis")
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) "
+                    + "local refillPerMillis = tonumber(ARGV[2]) "
+                    + "local time = redis.call('TIME') "
+                    + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+                    + "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'refilledAt') "
+                    + "local tokens = tonumber(bucket[1]) or capacity "
+                    + "local refilledAt = tonumber(bucket[2]) or now "
+                    + "tokens = math.min(capacity, tokens + math.max(0, now - refilledAt) * refillPerMillis) "
+                    + "local acquired = 0 "
+                    + "if tokens >= 1 then "
+                    + "tokens = tokens - 1 "
+                    + "acquired = 1 "
+                    + "end "
+                    + "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'refilledAt', now) "
+                    + "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refillPerMillis)) "
+                    + "return acquired", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisRateLimitStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int capacity, double refillPerSecond) {
+        return Long.valueOf(1).equals(stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + key),
+                String.valueOf(capacity), String.valueOf(refillPerSecond / 1000)));
+    }
+
+}
@@ -0,0 +1,67 @@
+package personal.yeongyulgori.user.security.refresh;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * refresh token family를 JVM 메모리에 보관하는 저장소. 단일 인스턴스 배포와 테스트에 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "security.refresh-token.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, RefreshTokenFamily> families = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(RefreshTokenFamily refreshTokenFamily) {
+        families.put(refreshTokenFamily.getFamilyId(), refreshTokenFamily);
+    }
+
+    @Override
+    public Optional<RefreshTokenFamily> findById(String familyId) {
+        return Optional.ofNullable(families.get(familyId))
+                .filter(family -> !family.isExpired(System.currentTimeMillis()));
+    }
+
+    @Override
+    public boolean rotate(String familyId, String expectedTokenHash, String newTokenHash) {
+
+        boolean[] rotated = new boolean[1];
+        long now = System.currentTimeMillis();
+
+        families.computeIfPresent(familyId, (id, family) -> {
+
+            if (family.isExpired(now) || !family.getTokenHash().equals(expectedTokenHash)) {
+                return family;
+            }
+
+            rotated[0] = true;
+
+            return family.withTokenHash(newTokenHash);
+
+        });
+
+        return rotated[0];
+
+    }
+
+    @Override
+    public void delete(String familyId) {
+        families.remove(familyId);
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-token.purge-interval-millis:60000}")
+    public void purgeExpired() {
+
+        long now = System.currentTimeMillis();
+
+        families.values().removeIf(family -> family.isExpired(now));
+
+    }
+
+}
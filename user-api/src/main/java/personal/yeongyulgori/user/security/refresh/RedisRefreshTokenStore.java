@@ -0,0 +1,81 @@
+package personal.yeongyulgori.user.security.refresh;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * refresh token family를 Redis hash로 보관하는 저장소
+ * <p>
+ * key는 family의 만료 시각에 함께 만료되고, 회전은 Lua script로 비교와 교체를 원자적으로 수행한다.
+ */
+@Component
+@ConditionalOnProperty(name = "security.refresh-token.store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh-token-family:";
+
+    private static final String USERNAME = "username";
+    private static final String AUTH_VERSION = "authVersion";
+    private static final String TOKEN_HASH = "tokenHash";
+    private static final String EXPIRES_AT = "expiresAt";
+
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], 'username', ARGV[1], 'authVersion', ARGV[2], "
+                    + "'tokenHash', ARGV[3], 'expiresAt', ARGV[4]) "
+                    + "redis.call('PEXPIREAT', KEYS[1], ARGV[4]) "
+                    + "return 1", Long.class);
+
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'tokenHash') == ARGV[1] then "
+                    + "redis.call('HSET', KEYS[1], 'tokenHash', ARGV[2]) "
+                    + "return 1 "
+                    + "end "
+                    + "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisRefreshTokenStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public void save(RefreshTokenFamily refreshTokenFamily) {
+        stringRedisTemplate.execute(SAVE_SCRIPT, List.of(KEY_PREFIX + refreshTokenFamily.getFamilyId()),
+                refreshTokenFamily.getUsername(), String.valueOf(refreshTokenFamily.getAuthVersion()),
+                refreshTokenFamily.getTokenHash(), String.valueOf(refreshTokenFamily.getExpiresAtMillis()));
+    }
+
+    @Override
+    public Optional<RefreshTokenFamily> findById(String familyId) {
+
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(KEY_PREFIX + familyId);
+
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(RefreshTokenFamily.of(familyId, (String) fields.get(USERNAME),
+                Long.parseLong((String) fields.get(AUTH_VERSION)), (String) fields.get(TOKEN_HASH),
+                Long.parseLong((String) fields.get(EXPIRES_AT))));
+
+    }
+
+    @Override
+    public boolean rotate(String familyId, String expectedTokenHash, String newTokenHash) {
+        return Long.valueOf(1).equals(stringRedisTemplate.execute(ROTATE_SCRIPT, List.of(KEY_PREFIX + familyId),
+                expectedTokenHash, newTokenHash));
+    }
+
+    @Override
+    public void delete(String familyId) {
+        stringRedisTemplate.delete(KEY_PREFIX + familyId);
+    }
+
+}
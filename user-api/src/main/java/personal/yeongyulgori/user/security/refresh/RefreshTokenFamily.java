@@ -0,0 +1,41 @@
+package personal.yeongyulgori.user.security.refresh;
+
+import lombok.Getter;
+
+/**
+ * 한 번의 로그인에서 이어지는 refresh token들의 묶음
+ * <p>
+ * 가장 최근에 발급한 refresh token의 해시만 보관한다. 회전할 때마다 해시가 바뀌고, 만료 시각은 로그인 시점에 고정된다.
+ */
+@Getter
+public class RefreshTokenFamily {
+
+    private final String familyId;
+    private final String username;
+    private final long authVersion;
+    private final String tokenHash;
+    private final long expiresAtMillis;
+
+    private RefreshTokenFamily(String familyId, String username, long authVersion, String tokenHash,
+                               long expiresAtMillis) {
+        this.familyId = familyId;
+        this.username = username;
+        this.authVersion = authVersion;
+        this.tokenHash = tokenHash;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public static RefreshTokenFamily of(String familyId, String username, long authVersion, String tokenHash,
+                                        long expiresAtMillis) {
+        return new RefreshTokenFamily(familyId, username, authVersion, tokenHash, expiresAtMillis);
+    }
+
+    public RefreshTokenFamily withTokenHash(String tokenHash) {
+        return new RefreshTokenFamily(familyId, username, authVersion, tokenHash, expiresAtMillis);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+
+}
@@ -0,0 +1,24 @@
+package personal.yeongyulgori.user.security.refresh;
+
+import java.util.Optional;
+
+/**
+ * refresh token family를 만료 시각까지 보관하는 저장소
+ * <p>
+ * security.refresh-token.store 설정으로 구현체를 선택한다. redis는 모든 인스턴스가 공유하고,
+ * memory(기본값)는 같은 JVM 안에서만 유효하므로 단일 인스턴스 배포와 테스트에 사용한다.
+ */
+public interface RefreshTokenStore {
+
+    void save(RefreshTokenFamily refreshTokenFamily);
+
+    Optional<RefreshTokenFamily> findById(String familyId);
+
+    /**
+     * 현재 token 해시가 expectedTokenHash일 때만 newTokenHash로 바꾼다. 같은 token으로 동시에 회전하면 하나만 성공한다.
+     */
+    boolean rotate(String familyId, String expectedTokenHash, String newTokenHash);
+
+    void delete(String familyId);
+
+}
@@ -0,0 +1,55 @@
+package personal.yeongyulgori.user.security.revocation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 폐기 token id를 JVM 메모리에 보관하는 저장소. 단일 인스턴스 배포와 테스트에 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "security.revocation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private final Map<String, Long> expirations = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void revoke(String tokenId, long expiresAtMillis) {
+
+        expirations.put(tokenId, expiresAtMillis);
+
+        subscribers.forEach(subscriber -> subscriber.accept(tokenId));
+
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+
+        Long expiresAtMillis = expirations.get(tokenId);
+
+        return expiresAtMillis != null && expiresAtMillis > System.currentTimeMillis();
+
+    }
+
+    @Override
+    public void forEachRevoked(Consumer<String> consumer) {
+
+        long now = System.currentTimeMillis();
+
+        expirations.entrySet().removeIf(entry -> entry.getValue() <= now);
+        expirations.keySet().forEach(consumer);
+
+    }
+
+    @Override
+    public void subscribe(Consumer<String> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+}
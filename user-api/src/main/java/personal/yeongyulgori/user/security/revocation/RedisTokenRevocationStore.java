@@ -0,0 +1,79 @@
+package personal.yeongyulgori.user.security.revocation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * 폐기 token id를 Redis key로 보관하는 저장소
+ * <p>
+ * key는 token이 만료되는 시각에 함께 만료되고, 새로 폐기된 id는 pub/sub 채널로 모든 인스턴스에 알린다.
+ */
+@Component
+@ConditionalOnProperty(name = "security.revocation.store", havingValue = "redis")
+public class RedisTokenRevocationStore implements TokenRevocationStore {
+
+    private static final String KEY_PREFIX = "revoked-token:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChannelTopic channelTopic;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisTokenRevocationStore(
+            StringRedisTemplate stringRedisTemplate, RedisMessageListenerContainer listenerContainer,
+            @Value("${security.revocation.channel:revoked-tokens}") String channel
+    ) {
+
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channelTopic = new ChannelTopic(channel);
+        this.listenerContainer = listenerContainer;
+
+    }
+
+    @Override
+    public void revoke(String tokenId, long expiresAtMillis) {
+
+        long ttlMillis = expiresAtMillis - System.currentTimeMillis();
+
+        if (ttlMillis <= 0) {
+            return;
+        }
+
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", Duration.ofMillis(ttlMillis));
+        stringRedisTemplate.convertAndSend(channelTopic.getTopic(), tokenId);
+
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + tokenId));
+    }
+
+    @Override
+    public void forEachRevoked(Consumer<String> consumer) {
+
+        ScanOptions scanOptions = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+
+        try (Cursor<String> cursor = stringRedisTemplate.scan(scanOptions)) {
+            cursor.forEachRemaining(key -> consumer.accept(key.substring(KEY_PREFIX.length())));
+        }
+
+    }
+
+    @Override
+    public void subscribe(Consumer<String> subscriber) {
+        listenerContainer.addMessageListener((Message message, byte[] pattern) ->
+                subscriber.accept(new String(message.getBody(), StandardCharsets.UTF_8)), channelTopic);
+    }
+
+}
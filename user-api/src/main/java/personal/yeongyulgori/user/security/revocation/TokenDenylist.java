@@ -0,0 +1,114 @@
+package personal.yeongyulgori.user.security.revocation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import personal.yeongyulgori.user.utility.BloomFilter;
+
+/**
+ * 폐기된 access token을 판별한다.
+ * <p>
+ * 인스턴스마다 폐기 token id의 bloom filter를 두어, 폐기되지 않은 token은 저장소를 조회하지 않고 판별한다.
+ * bloom filter가 포함할 수도 있다고 답한 경우에만 저장소를 조회하므로 오탐은 저장소 조회 한 번으로 끝난다.
+ * 다른 인스턴스에서 폐기한 id는 저장소 구독으로 받아 추가하고, 만료된 id를 비우기 위해 주기적으로 새로 만든다.
+ * 저장소에서 목록을 읽지 못해 bloom filter가 불완전하면 모든 token을 저장소에서 확인한다.
+ */
+@Component
+public class TokenDenylist {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenDenylist.class);
+
+    private final TokenRevocationStore tokenRevocationStore;
+    private final long expectedRevocations;
+    private final double falsePositiveProbability;
+
+    private final Counter checkCounter;
+    private final Counter storeLookupCounter;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile BloomFilter rebuildingBloomFilter;
+    private volatile boolean complete;
+
+    public TokenDenylist(
+            TokenRevocationStore tokenRevocationStore, MeterRegistry meterRegistry,
+            @Value("${security.revocation.expected-revocations:100000}") long expectedRevocations,
+            @Value("${security.revocation.false-positive-probability:0.01}") double falsePositiveProbability
+    ) {
+
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveProbability = falsePositiveProbability;
+
+        this.checkCounter = Counter.builder("security.revocation.checks").register(meterRegistry);
+        this.storeLookupCounter = Counter.builder("security.revocation.store.lookups").register(meterRegistry);
+
+        this.bloomFilter = new BloomFilter(expectedRevocations, falsePositiveProbability);
+
+        tokenRevocationStore.subscribe(this::remember);
+
+        rebuild();
+
+    }
+
+    public void revoke(String tokenId, long expiresAtMillis) {
+
+        tokenRevocationStore.revoke(tokenId, expiresAtMillis);
+
+        remember(tokenId);
+
+    }
+
+    public boolean isRevoked(String tokenId) {
+
+        checkCounter.increment();
+
+        if (complete && !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+
+        storeLookupCounter.increment();
+
+        return tokenRevocationStore.isRevoked(tokenId);
+
+    }
+
+    @Scheduled(initialDelayString = "${security.revocation.rebuild-interval-millis:3600000}",
+            fixedDelayString = "${security.revocation.rebuild-interval-millis:3600000}")
+    public void rebuild() {
+
+        BloomFilter rebuiltBloomFilter = new BloomFilter(expectedRevocations, falsePositiveProbability);
+        rebuildingBloomFilter = rebuiltBloomFilter;
+
+        try {
+
+            tokenRevocationStore.forEachRevoked(rebuiltBloomFilter::add);
+
+            bloomFilter = rebuiltBloomFilter;
+            complete = true;
+
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild revoked token bloom filter, keeping the previous one. complete: {}",
+                    complete, e);
+        } finally {
+            rebuildingBloomFilter = null;
+        }
+
+    }
+
+    private void remember(String tokenId) {
+
+        bloomFilter.add(tokenId);
+
+        BloomFilter rebuilding = rebuildingBloomFilter;
+
+        if (rebuilding != null) {
+            rebuilding.add(tokenId);
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package personal.yeongyulgori.user.security.revocation;
+
+import java.util.function.Consumer;
+
+/**
+ * 폐기된 access token id(jti)를 token의 남은 유효 기간 동안 보관하는 저장소
+ * <p>
+ * security.revocation.store 설정으로 구현체를 선택한다. redis는 모든 인스턴스가 공유하고,
+ * memory(기본값)는 같은 JVM 안에서만 유효하므로 단일 인스턴스 배포와 테스트에 사용한다.
+ */
+public interface TokenRevocationStore {
+
+    void revoke(String tokenId, long expiresAtMillis);
+
+    boolean isRevoked(String tokenId);
+
+    /**
+     * 아직 만료되지 않은 폐기 token id를 모두 순회한다.
+     */
+    void forEachRevoked(Consumer<String> consumer);
+
+    /**
+     * 어느 인스턴스에서든 새로 폐기된 token id를 전달받는다.
+     */
+    void subscribe(Consumer<String> subscriber);
+
+}
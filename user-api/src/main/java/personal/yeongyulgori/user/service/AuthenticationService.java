@@ -18,6 +18,8 @@ public interface AuthenticationService {
 
     UserResponseDto updateUserInformation(String username, InformationUpdateForm informationUpdateForm);
 
+    UserResponseDto updateProfileImage(String username, String profileImageId);
+
     void updateCrucialUserInformation(String username, CrucialInformationUpdateDto crucialInformationUpdateDto);
 
     String requestPasswordReset(String email, String token);
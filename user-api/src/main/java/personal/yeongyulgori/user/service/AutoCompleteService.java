@@ -1,13 +1,36 @@
 package personal.yeongyulgori.user.service;
 
+import personal.yeongyulgori.user.autocomplete.UserReference;
+
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AutoCompleteService {
 
-    void addAutoCompleteKeyWord(String username);
+    void addAutoCompleteKeyWord(UserReference userReference);
 
     List<String> autoComplete(String keyword);
 
-    void deleteAutoCompleteKeyword(String keyword);
+    List<String> fuzzyAutoComplete(String keyword, int maxEdits);
+
+    List<UserReference> autoCompleteUsers(String keyword, int maxEdits);
+
+    /**
+     * 한 입력창의 연속된 키워드를 이어서 자동완성하는 세션을 연다.
+     */
+    Session openSession();
+
+    void deleteAutoCompleteKeyword(UserReference userReference);
+
+    void reloadAutoCompleteKeywords(Stream<UserReference> userReferences);
+
+    /**
+     * 직전 키워드의 조회 위치를 기억하는 자동완성 세션. 단일 스레드에서만 사용해야 한다.
+     */
+    interface Session {
+
+        List<UserReference> autoCompleteUsers(String keyword, int maxEdits);
+
+    }
 
 }
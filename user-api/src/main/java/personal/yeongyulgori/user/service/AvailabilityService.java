@@ -0,0 +1,9 @@
+package personal.yeongyulgori.user.service;
+
+import personal.yeongyulgori.user.model.dto.AvailabilityResponseDto;
+
+public interface AvailabilityService {
+
+    AvailabilityResponseDto checkAvailability(String username, String email, String phoneNumber);
+
+}
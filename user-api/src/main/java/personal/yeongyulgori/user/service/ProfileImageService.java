@@ -0,0 +1,20 @@
+package personal.yeongyulgori.user.service;
+
+import personal.yeongyulgori.user.storage.StoredImage;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+public interface ProfileImageService {
+
+    String saveProfileImage(InputStream content, long contentLength);
+
+    StoredImage getProfileImage(String imageId);
+
+    Optional<StoredImage> findThumbnail(String imageId, int size);
+
+    void attachProfileImage(String imageId);
+
+    void deleteProfileImage(String imageId);
+
+}
@@ -0,0 +1,14 @@
+package personal.yeongyulgori.user.service;
+
+import personal.yeongyulgori.user.model.dto.SignInResponseDto;
+import personal.yeongyulgori.user.model.dto.TokenPairDto;
+
+public interface RefreshTokenService {
+
+    TokenPairDto issueTokens(SignInResponseDto signInResponseDto);
+
+    TokenPairDto refreshTokens(String refreshToken);
+
+    void revokeRefreshToken(String refreshToken);
+
+}
@@ -2,17 +2,30 @@ package personal.yeongyulgori.user.service.impl;
 
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import personal.yeongyulgori.user.autocomplete.UserReference;
+import personal.yeongyulgori.user.autocomplete.sync.AutoCompleteChangeEvent;
+import personal.yeongyulgori.user.availability.UserAvailabilityFilter;
+import personal.yeongyulgori.user.exception.general.sub.ConcurrentProfileImageUpdateException;
 import personal.yeongyulgori.user.exception.general.sub.DuplicateUserException;
 import personal.yeongyulgori.user.exception.general.sub.DuplicateUsernameException;
 import personal.yeongyulgori.user.exception.serious.sub.NonExistentUserException;
 import personal.yeongyulgori.user.exception.significant.sub.IncorrectPasswordException;
+import personal.yeongyulgori.user.exception.significant.sub.PasswordHashingUnavailableException;
 import personal.yeongyulgori.user.exception.significant.sub.TokenExpiredException;
 import personal.yeongyulgori.user.model.dto.CrucialInformationUpdateDto;
 import personal.yeongyulgori.user.model.dto.PasswordRequestDto;
@@ -25,14 +38,20 @@ import personal.yeongyulgori.user.model.form.SignInForm;
 import personal.yeongyulgori.user.model.form.SignUpForm;
 import personal.yeongyulgori.user.model.repository.PasswordResetTokenRepository;
 import personal.yeongyulgori.user.model.repository.UserRepository;
+import personal.yeongyulgori.user.model.repository.UserUniqueFields;
+import personal.yeongyulgori.user.security.UserDetailsCache;
+import personal.yeongyulgori.user.security.UserPrincipal;
 import personal.yeongyulgori.user.service.AuthenticationService;
-import personal.yeongyulgori.user.service.AutoCompleteService;
+import personal.yeongyulgori.user.service.ProfileImageService;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
 
 import static org.springframework.transaction.annotation.Isolation.READ_COMMITTED;
-import static org.springframework.transaction.annotation.Isolation.REPEATABLE_READ;
+import static org.springframework.transaction.annotation.Propagation.SUPPORTS;
 
 /**
  * 회원 서비스
@@ -42,10 +61,18 @@ import static org.springframework.transaction.annotation.Isolation.REPEATABLE_RE
 @Transactional(isolation = READ_COMMITTED, timeout = 10)
 public class AuthenticationServiceImpl implements AuthenticationService, UserDetailsService {
 
-    private final AutoCompleteService autoCompleteService;
+    private static final Logger log = LoggerFactory.getLogger(AuthenticationServiceImpl.class);
+
+    private static final int SHORT_TRANSACTION_TIMEOUT_SECONDS = 5;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final ProfileImageService profileImageService;
+    private final UserAvailabilityFilter userAvailabilityFilter;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${spring.redis.host}")
     private String ec2Ip;
@@ -53,35 +80,70 @@ public class AuthenticationServiceImpl implements AuthenticationService, UserDet
     @Value(("${server.port}"))
     private String serverPort;
 
+    /**
+     * username으로 조회한 principal은 캐시하고, 캐시에 있으면 트랜잭션을 열지 않는다.
+     */
     @Override
+    @Transactional(propagation = SUPPORTS, readOnly = true)
     public UserDetails loadUserByUsername(String emailOrUsername) throws UsernameNotFoundException {
-        return validateUserExists(emailOrUsername);
+
+        if (emailOrUsername.contains("@")) {
+            return UserPrincipal.from(validateUserExists(emailOrUsername));
+        }
+
+        return userDetailsCache.get(emailOrUsername, username -> UserPrincipal.from(validateUserExists(username)));
+
     }
 
+    /**
+     * 중복 검사는 한 번의 조회로 끝내고, 동시에 가입한 요청과의 경합은 unique 제약 위반으로 판정한다.
+     * 비밀번호 해시는 트랜잭션을 열기 전에 계산한다.
+     */
     @Override
-    @Transactional(isolation = REPEATABLE_READ, timeout = 20)
+    @Transactional(propagation = SUPPORTS)
     public UserResponseDto signUpUser(SignUpForm signUpForm) {
 
-        validateNotDuplicateUser(signUpForm.getUsername(), signUpForm.getEmail(), signUpForm.getPhoneNumber());
+        inShortTransaction(true, () -> {
+            validateNotDuplicateUser(signUpForm.getUsername(), signUpForm.getEmail(), signUpForm.getPhoneNumber());
+            return null;
+        });
+
+        String encodedPassword = passwordEncoder.encode(signUpForm.getPassword());
+
+        User savedUser;
+
+        try {
+            savedUser = inShortTransaction(false,
+                    () -> userRepository.saveAndFlush(User.from(signUpForm, encodedPassword)));
+        } catch (DataIntegrityViolationException e) {
+            throw toDuplicateUserException(e, signUpForm);
+        }
 
-        User savedUser = userRepository.save(User.from(signUpForm, passwordEncoder.encode(signUpForm.getPassword())));
+        rememberUniqueFields(savedUser);
 
-        autoCompleteService.addAutoCompleteKeyWord(savedUser.getFullName());
+        applicationEventPublisher.publishEvent(AutoCompleteChangeEvent.added(UserReference.from(savedUser)));
 
         return UserResponseDto.of(savedUser.getEmail(), savedUser.getUsername(), savedUser.getFullName(),
                 savedUser.getRoles(), savedUser.getCreatedAt(), savedUser.getModifiedAt());
 
     }
 
+    /**
+     * 이전 strength로 저장된 비밀번호 해시는 로그인에 성공하면 현재 설정으로 다시 해시해 저장한다.
+     * 회원 조회와 해시 갱신은 각각 짧은 트랜잭션으로 실행하고, 비밀번호 확인은 그 사이에 트랜잭션 없이 한다.
+     */
     @Override
-    @Transactional(isolation = READ_COMMITTED, readOnly = true, timeout = 10)
+    @Transactional(propagation = SUPPORTS)
     public SignInResponseDto signInUser(SignInForm signInForm) {
 
-        User signedUpUser = validateUserExists(signInForm.getEmailOrUsername());
+        User signedUpUser = inShortTransaction(true, () -> validateUserExists(signInForm.getEmailOrUsername()));
 
         validatePasswordIsCorrect(signInForm.getPassword(), signedUpUser.getPassword());
 
-        return SignInResponseDto.of(signedUpUser.getUsername(), signedUpUser.getRoles());
+        upgradePasswordEncoding(signInForm.getPassword(), signedUpUser);
+
+        return SignInResponseDto.of(signedUpUser.getId(), signedUpUser.getUsername(), signedUpUser.getRoles(),
+                signedUpUser.getAuthVersion());
 
     }
 
@@ -105,16 +167,53 @@ public class AuthenticationServiceImpl implements AuthenticationService, UserDet
 
         User updatedUser = userRepository.save(user.withForm(username, informationUpdateForm));
 
+        rememberUniqueFields(updatedUser);
+
+        userDetailsCache.evict(user.getUsername());
+
+        UserReference userReference = UserReference.from(user);
+        UserReference updatedUserReference = UserReference.from(updatedUser);
+
+        if (!userReference.equals(updatedUserReference)) {
+            applicationEventPublisher.publishEvent(AutoCompleteChangeEvent.removed(userReference));
+            applicationEventPublisher.publishEvent(AutoCompleteChangeEvent.added(updatedUserReference));
+        }
+
         return UserResponseDto.from(updatedUser);
 
     }
 
+    /**
+     * 이미지는 업로드가 끝난 뒤 저장소에 먼저 저장되어 있으므로, 여기서는 회원이 참조하는 ID만 바꾼다.
+     */
     @Override
+    public UserResponseDto updateProfileImage(String username, String profileImageId) {
+
+        profileImageService.attachProfileImage(profileImageId);
+
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new NonExistentUserException("해당 회원이 존재하지 않습니다. username: " + username));
+
+        if (userRepository.updateProfileImageIdIfUnchanged
+                (user.getId(), user.getProfileImageId(), profileImageId) == 0) {
+            throw new ConcurrentProfileImageUpdateException();
+        }
+
+        if (user.getProfileImageId() != null) {
+            profileImageService.deleteProfileImage(user.getProfileImageId());
+        }
+
+        return UserResponseDto.from(user.withProfileImageId(profileImageId));
+
+    }
+
+    @Override
+    @Transactional(propagation = SUPPORTS)
     public void updateCrucialUserInformation
             (String username, CrucialInformationUpdateDto crucialInformationUpdateDto) {
 
-        User user = userRepository.findById(crucialInformationUpdateDto.getId())
-                .orElseThrow(() -> new NonExistentUserException("해당 회원이 존재하지 않습니다. username: " + username));
+        User user = inShortTransaction(true, () -> userRepository.findById(crucialInformationUpdateDto.getId())
+                .orElseThrow(() -> new NonExistentUserException("해당 회원이 존재하지 않습니다. username: " + username)));
 
         validatePasswordIsCorrect(crucialInformationUpdateDto.getPassword(), user.getPassword());
 
@@ -123,7 +222,10 @@ public class AuthenticationServiceImpl implements AuthenticationService, UserDet
                     .setNewPassword(passwordEncoder.encode(crucialInformationUpdateDto.getNewPassword()));
         }
 
-        userRepository.save(user.withCrucialData(crucialInformationUpdateDto));
+        rememberUniqueFields(inShortTransaction(false,
+                () -> userRepository.save(user.withCrucialData(crucialInformationUpdateDto))));
+
+        userDetailsCache.evict(user.getUsername());
 
     }
 
@@ -152,44 +254,109 @@ public class AuthenticationServiceImpl implements AuthenticationService, UserDet
         User changedUser = user.withPassword(passwordRequestDto);
         userRepository.save(changedUser);
 
+        userDetailsCache.evict(user.getUsername());
+
         passwordResetTokenRepository.delete(passwordResetToken);
 
     }
 
     @Override
+    @Transactional(propagation = SUPPORTS)
     public void deleteUser(String username, PasswordRequestDto passwordRequestDto) {
 
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new NonExistentUserException("해당 회원이 존재하지 않습니다. username: " + username));
+        User user = inShortTransaction(true, () -> userRepository.findByUsername(username)
+                .orElseThrow(() -> new NonExistentUserException("해당 회원이 존재하지 않습니다. username: " + username)));
 
         validatePasswordIsCorrect(passwordRequestDto.getPassword(), user.getPassword());
 
-        userRepository.delete(user);
+        inShortTransaction(false, () -> {
+            userRepository.delete(user);
+            return null;
+        });
 
-        boolean isFullNameRemained = userRepository.existsByFullName(user.getFullName());
-
-        if (!isFullNameRemained) {
-            autoCompleteService.deleteAutoCompleteKeyword(user.getFullName());
+        if (user.getProfileImageId() != null) {
+            profileImageService.deleteProfileImage(user.getProfileImageId());
         }
 
+        userDetailsCache.evict(user.getUsername());
+
+        applicationEventPublisher.publishEvent(AutoCompleteChangeEvent.removed(UserReference.from(user)));
+
+    }
+
+    /**
+     * 비밀번호 해시 계산은 대기열에서 수 초까지 기다릴 수 있으므로, 해시를 계산하는 메서드는 트랜잭션을 열지 않고
+     * DB 작업만 이 짧은 트랜잭션으로 감싼다. 호출한 쪽에 트랜잭션이 있으면 그 트랜잭션에 참여한다.
+     */
+    private <T> T inShortTransaction(boolean readOnly, Supplier<T> action) {
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        transactionTemplate.setTimeout(SHORT_TRANSACTION_TIMEOUT_SECONDS);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status -> action.get());
+
+    }
+
+    /**
+     * 새로 사용하게 된 값을 바로 추가해, 커밋 전이라도 사용 가능하다고 답하지 않게 한다.
+     * 롤백되거나 비워진 값은 bloom filter를 새로 만들 때 빠진다.
+     */
+    private void rememberUniqueFields(User user) {
+        userAvailabilityFilter.remember(user.getUsername(), user.getEmail(), user.getPhoneNumber());
     }
 
     private void validateNotDuplicateUser(String username, String email, String phoneNumber) {
 
-        if (userRepository.existsByUsername(username)) {
+        List<UserUniqueFields> duplicates = userRepository
+                .findUniqueFieldsMatching(username, email.toLowerCase(Locale.ROOT), phoneNumber);
+
+        if (duplicates.stream().anyMatch(duplicate -> username.equals(duplicate.getUsername()))) {
             throw new DuplicateUsernameException("중복된 사용자 이름입니다. username: " + username);
         }
 
-        if (userRepository.existsByEmail(email)) {
+        if (duplicates.stream().anyMatch(duplicate -> email.equalsIgnoreCase(duplicate.getEmail()))) {
             throw new DuplicateUserException("이미 가입된 이메일입니다. email: " + email);
         }
 
-        if (userRepository.existsByPhoneNumber(phoneNumber)) {
+        if (phoneNumber != null
+                && duplicates.stream().anyMatch(duplicate -> phoneNumber.equals(duplicate.getPhoneNumber()))) {
             throw new DuplicateUserException("이미 가입된 전화번호입니다. phoneNumber: " + phoneNumber);
         }
 
     }
 
+    /**
+     * 위반한 제약 이름으로 중복된 필드를 판단한다. 알 수 없는 제약이면 원래 예외를 그대로 던진다.
+     */
+    private RuntimeException toDuplicateUserException(DataIntegrityViolationException e, SignUpForm signUpForm) {
+
+        String constraintName = e.getCause() instanceof ConstraintViolationException ?
+                ((ConstraintViolationException) e.getCause()).getConstraintName() : null;
+
+        if (constraintName == null) {
+            return e;
+        }
+
+        String normalizedConstraintName = constraintName.toLowerCase(Locale.ROOT);
+
+        if (normalizedConstraintName.contains(User.USERNAME_UNIQUE_CONSTRAINT)) {
+            return new DuplicateUsernameException("중복된 사용자 이름입니다. username: " + signUpForm.getUsername());
+        }
+
+        if (normalizedConstraintName.contains(User.EMAIL_UNIQUE_CONSTRAINT)) {
+            return new DuplicateUserException("이미 가입된 이메일입니다. email: " + signUpForm.getEmail());
+        }
+
+        if (normalizedConstraintName.contains(User.PHONE_NUMBER_UNIQUE_CONSTRAINT)) {
+            return new DuplicateUserException("이미 가입된 전화번호입니다. phoneNumber: " + signUpForm.getPhoneNumber());
+        }
+
+        return e;
+
+    }
+
     private void validatePasswordIsCorrect(String password1, String password2) {
 
         if (!passwordEncoder.matches(password1, password2)) {
@@ -198,6 +365,31 @@ public class AuthenticationServiceImpl implements AuthenticationService, UserDet
 
     }
 
+    /**
+     * 다시 해시하지 못해도 로그인은 이미 성공했으므로 실패시키지 않고, 다음 로그인에서 다시 시도한다.
+     * 인증 정보가 바뀐 것은 아니므로 인증 버전은 올리지 않는다.
+     */
+    private void upgradePasswordEncoding(String rawPassword, User user) {
+
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+
+        try {
+
+            String upgradedPassword = passwordEncoder.encode(rawPassword);
+
+            if (inShortTransaction(false, () -> userRepository
+                    .updatePasswordIfUnchanged(user.getId(), user.getPassword(), upgradedPassword)) == 1) {
+                userDetailsCache.evict(user.getUsername());
+            }
+
+        } catch (PasswordHashingUnavailableException e) {
+            log.warn("Skipped password hash upgrade, username: {}, reason: {}", user.getUsername(), e.getMessage());
+        }
+
+    }
+
     private User validateUserExists(String emailOrUsername) {
 
         return emailOrUsername.contains("@")
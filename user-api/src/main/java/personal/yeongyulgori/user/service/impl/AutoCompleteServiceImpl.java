@@ -2,45 +2,172 @@ package personal.yeongyulgori.user.service.impl;
 
 
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.collections4.Trie;
 import org.springframework.stereotype.Service;
+import personal.yeongyulgori.user.autocomplete.AutoCompleteDictionary;
+import personal.yeongyulgori.user.autocomplete.HangulAutoCompleteIndex;
+import personal.yeongyulgori.user.autocomplete.UserReference;
+import personal.yeongyulgori.user.autocomplete.UserReferences;
 import personal.yeongyulgori.user.exception.serious.sub.AutoCompleteValueNotFoundException;
 import personal.yeongyulgori.user.service.AutoCompleteService;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static personal.yeongyulgori.user.configuration.TrieConfig.AUTO_COMPLETE_CANDIDATE_SIZE;
 
 @Service
 @RequiredArgsConstructor
 public class AutoCompleteServiceImpl implements AutoCompleteService {
 
-    private final Trie trie;
+    private static final int MAX_FUZZY_EDITS = 2;
+    private static final int MAX_USERS_PER_FULL_NAME = 5;
+
+    private final AutoCompleteDictionary autoCompleteDictionary;
+    private final HangulAutoCompleteIndex hangulAutoCompleteIndex;
 
     @Override
-    public void addAutoCompleteKeyWord(String fullName) {
-        trie.put(fullName, "PRESENT");
+    public void addAutoCompleteKeyWord(UserReference userReference) {
+
+        if (autoCompleteDictionary.add(userReference)) {
+            hangulAutoCompleteIndex.add(userReference.getFullName());
+        }
+
     }
 
+    /**
+     * 음절 prefix가 일치하는 성명을 먼저 조회하고, 결과가 부족하면 초성 또는 자모 색인의 결과로 채운다.
+     */
     @Override
     public List<String> autoComplete(String keyword) {
+        return autoComplete(keyword, autoCompleteDictionary::topKeys);
+    }
+
+    private List<String> autoComplete(String keyword, AutoCompleteDictionary.Cursor cursor) {
+
+        List<String> autoCompleteResults = cursor.topKeys(keyword, AUTO_COMPLETE_CANDIDATE_SIZE);
 
-        List<String> autoCompleteResults = (List<String>) trie.prefixMap(keyword).keySet()
-                .stream()
-                .limit(10)
-                .collect(Collectors.toList());
+        if (autoCompleteResults.size() == AUTO_COMPLETE_CANDIDATE_SIZE) {
+            return autoCompleteResults;
+        }
+
+        Set<String> mergedResults = new LinkedHashSet<>(autoCompleteResults);
+
+        for (String fullName : hangulAutoCompleteIndex.autoComplete(keyword, AUTO_COMPLETE_CANDIDATE_SIZE)) {
+
+            if (mergedResults.size() == AUTO_COMPLETE_CANDIDATE_SIZE) {
+                break;
+            }
+
+            mergedResults.add(fullName);
+
+        }
 
-        return autoCompleteResults;
+        return new ArrayList<>(mergedResults);
 
     }
 
+    /**
+     * 일반 자동완성 결과가 부족하면 편집 거리가 maxEdits 이하인 성명으로 채운다.
+     * 허용 편집 거리는 최대 2이며, 키워드 전체가 바뀌지 않도록 키워드 길이보다 작게 제한한다.
+     */
     @Override
-    public void deleteAutoCompleteKeyword(String fullName) {
+    public List<String> fuzzyAutoComplete(String keyword, int maxEdits) {
+        return fuzzyAutoComplete(keyword, maxEdits, autoCompleteDictionary::topKeys);
+    }
+
+    private List<String> fuzzyAutoComplete(String keyword, int maxEdits, AutoCompleteDictionary.Cursor cursor) {
+
+        List<String> autoCompleteResults = autoComplete(keyword, cursor);
+        int allowedEdits = Math.min(Math.min(maxEdits, MAX_FUZZY_EDITS), keyword.length() - 1);
+
+        if (autoCompleteResults.size() == AUTO_COMPLETE_CANDIDATE_SIZE || allowedEdits <= 0) {
+            return autoCompleteResults;
+        }
+
+        Set<String> mergedResults = new LinkedHashSet<>(autoCompleteResults);
+
+        for (String fullName : autoCompleteDictionary.fuzzyTopKeys(keyword, allowedEdits, AUTO_COMPLETE_CANDIDATE_SIZE)) {
+
+            if (mergedResults.size() == AUTO_COMPLETE_CANDIDATE_SIZE) {
+                break;
+            }
+
+            mergedResults.add(fullName);
 
-        if (!trie.containsKey(fullName)) {
-            throw new AutoCompleteValueNotFoundException("해당 자동완성 성명이 존재하지 않습니다. fullName: " + fullName);
         }
 
-        trie.remove(fullName);
+        return new ArrayList<>(mergedResults);
+
+    }
+
+    /**
+     * 자동완성된 성명마다 회원 참조를 최대 5개씩 펼쳐 반환하므로, 클라이언트는 추가 검색 없이 회원을 구별하고 선택할 수 있다.
+     */
+    @Override
+    public List<UserReference> autoCompleteUsers(String keyword, int maxEdits) {
+        return autoCompleteUsers(keyword, maxEdits, autoCompleteDictionary::topKeys);
+    }
+
+    /**
+     * 세션은 사전의 cursor를 보관해, 직전 키워드와 공유하는 prefix까지의 탐색을 다음 키워드에서 재사용한다.
+     */
+    @Override
+    public Session openSession() {
+
+        AutoCompleteDictionary.Cursor cursor = autoCompleteDictionary.cursor();
+
+        return (keyword, maxEdits) -> autoCompleteUsers(keyword, maxEdits, cursor);
+
+    }
+
+    private List<UserReference> autoCompleteUsers(String keyword, int maxEdits, AutoCompleteDictionary.Cursor cursor) {
+
+        List<String> fullNames = maxEdits > 0
+                ? fuzzyAutoComplete(keyword, maxEdits, cursor) : autoComplete(keyword, cursor);
+        List<UserReference> userReferences = new ArrayList<>();
+
+        for (String fullName : fullNames) {
+
+            UserReferences references = autoCompleteDictionary.references(fullName);
+
+            for (int i = 0; i < Math.min(references.size(), MAX_USERS_PER_FULL_NAME); i++) {
+                userReferences.add(references.get(i));
+            }
+
+        }
+
+        return userReferences;
+
+    }
+
+    @Override
+    public void deleteAutoCompleteKeyword(UserReference userReference) {
+
+        if (!autoCompleteDictionary.remove(userReference)) {
+            throw new AutoCompleteValueNotFoundException("해당 자동완성 회원이 존재하지 않습니다. id: "
+                    + userReference.getId() + ", fullName: " + userReference.getFullName());
+        }
+
+        hangulAutoCompleteIndex.remove(userReference.getFullName());
+
+    }
+
+    @Override
+    public void reloadAutoCompleteKeywords(Stream<UserReference> userReferences) {
+
+        AutoCompleteDictionary.Loader loader = autoCompleteDictionary.loader();
+        HangulAutoCompleteIndex.Reloader hangulReloader = hangulAutoCompleteIndex.reloader();
+
+        userReferences.forEach(userReference -> {
+            loader.add(userReference);
+            hangulReloader.add(userReference.getFullName());
+        });
+
+        loader.apply();
+        hangulReloader.apply();
 
     }
 
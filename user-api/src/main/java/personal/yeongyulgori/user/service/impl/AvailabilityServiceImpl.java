@@ -0,0 +1,76 @@
+package personal.yeongyulgori.user.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import personal.yeongyulgori.user.availability.UniqueField;
+import personal.yeongyulgori.user.availability.UserAvailabilityFilter;
+import personal.yeongyulgori.user.model.dto.AvailabilityResponseDto;
+import personal.yeongyulgori.user.model.repository.UserRepository;
+import personal.yeongyulgori.user.service.AvailabilityService;
+
+import java.util.function.Predicate;
+
+import static org.springframework.transaction.annotation.Propagation.SUPPORTS;
+
+/**
+ * 가입 양식 입력 중 사용 가능 여부 확인 서비스
+ * <p>
+ * bloom filter에 없는 값은 DB를 조회하지 않고 사용 가능하다고 답하고, 있을 수도 있는 값만 DB에서 확인한다.
+ */
+@Service
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    private final UserRepository userRepository;
+    private final UserAvailabilityFilter userAvailabilityFilter;
+
+    private final Counter filterCounter;
+    private final Counter databaseCounter;
+
+    public AvailabilityServiceImpl(UserRepository userRepository, UserAvailabilityFilter userAvailabilityFilter,
+                                   MeterRegistry meterRegistry) {
+
+        this.userRepository = userRepository;
+        this.userAvailabilityFilter = userAvailabilityFilter;
+
+        this.filterCounter = Counter.builder("users.availability.checks")
+                .tag("source", "filter").register(meterRegistry);
+        this.databaseCounter = Counter.builder("users.availability.checks")
+                .tag("source", "database").register(meterRegistry);
+
+    }
+
+    /**
+     * DB 조회가 필요할 때만 repository의 트랜잭션을 사용하도록 트랜잭션을 열지 않는다.
+     */
+    @Override
+    @Transactional(propagation = SUPPORTS, readOnly = true)
+    public AvailabilityResponseDto checkAvailability(String username, String email, String phoneNumber) {
+
+        return AvailabilityResponseDto.of(
+                isAvailable(UniqueField.USERNAME, username, userRepository::existsByUsername),
+                isAvailable(UniqueField.EMAIL, email, userRepository::existsByEmail),
+                isAvailable(UniqueField.PHONE_NUMBER, phoneNumber, userRepository::existsByPhoneNumber)
+        );
+
+    }
+
+    private Boolean isAvailable(UniqueField uniqueField, String value, Predicate<String> existsInDatabase) {
+
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        if (!userAvailabilityFilter.mightBeTaken(uniqueField, value)) {
+            filterCounter.increment();
+            return true;
+        }
+
+        databaseCounter.increment();
+
+        return !existsInDatabase.test(uniqueField.normalize(value));
+
+    }
+
+}
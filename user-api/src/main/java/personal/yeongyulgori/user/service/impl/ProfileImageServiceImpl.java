@@ -0,0 +1,171 @@
+package personal.yeongyulgori.user.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import personal.yeongyulgori.user.exception.general.sub.NonExistentProfileImageException;
+import personal.yeongyulgori.user.exception.general.sub.ProfileImageTooLargeException;
+import personal.yeongyulgori.user.exception.general.sub.UnsupportedProfileImageException;
+import personal.yeongyulgori.user.service.ProfileImageService;
+import personal.yeongyulgori.user.storage.ProfileImageFormat;
+import personal.yeongyulgori.user.storage.ProfileImageStore;
+import personal.yeongyulgori.user.storage.ProfileImageThumbnailGenerator;
+import personal.yeongyulgori.user.storage.SizeLimitedInputStream;
+import personal.yeongyulgori.user.storage.StoredImage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static personal.yeongyulgori.user.storage.ProfileImageFormat.SIGNATURE_LENGTH;
+
+/**
+ * 프로필 이미지 서비스
+ * <p>
+ * 업로드는 DB 연결을 잡지 않도록 트랜잭션 밖에서 저장하고, 회원 정보를 바꾸는 트랜잭션의 결과에 맞춰 정리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProfileImageServiceImpl implements ProfileImageService {
+
+    private static final Pattern IMAGE_ID_PATTERN = Pattern.compile("[0-9a-f]{32}\\.[a-z]{3,4}");
+
+    private final ProfileImageStore profileImageStore;
+    private final ProfileImageThumbnailGenerator profileImageThumbnailGenerator;
+
+    @Value("${storage.profile-image.max-size-bytes}")
+    private long maxSizeBytes;
+
+    /**
+     * 본문을 메모리에 모으지 않고 저장소로 바로 흘려 보낸다. 크기를 알 수 있으면 읽기 전에 상한을 확인한다.
+     */
+    @Override
+    public String saveProfileImage(InputStream content, long contentLength) {
+
+        if (contentLength > maxSizeBytes) {
+            throw new ProfileImageTooLargeException(maxSizeBytes);
+        }
+
+        try {
+
+            BufferedInputStream bufferedContent =
+                    new BufferedInputStream(new SizeLimitedInputStream(content, maxSizeBytes));
+            ProfileImageFormat profileImageFormat = detectFormat(bufferedContent);
+
+            String imageId = UUID.randomUUID().toString().replace("-", "") + "." + profileImageFormat.getExtension();
+
+            profileImageStore.save(imageId, bufferedContent);
+
+            return imageId;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("프로필 이미지를 저장하지 못했습니다.", e);
+        }
+
+    }
+
+    @Override
+    public StoredImage getProfileImage(String imageId) {
+
+        validateImageId(imageId);
+
+        return profileImageStore.find(imageId)
+                .orElseThrow(() -> new NonExistentProfileImageException
+                        ("해당 프로필 이미지가 존재하지 않습니다. imageId: " + imageId));
+
+    }
+
+    /**
+     * 썸네일은 비동기로 만들어지므로, 아직 없으면 빈 값을 반환하고 원본 응답은 호출하는 쪽에서 결정한다.
+     */
+    @Override
+    public Optional<StoredImage> findThumbnail(String imageId, int size) {
+
+        validateImageId(imageId);
+
+        if (!profileImageThumbnailGenerator.supportsSize(size)) {
+            throw new IllegalArgumentException("지원하지 않는 썸네일 크기입니다. size: " + size);
+        }
+
+        return profileImageStore.find(ProfileImageThumbnailGenerator.thumbnailId(imageId, size));
+
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 썸네일과 함께 지워서, 롤백되면 회원이 계속 참조하는 이미지가 사라지지 않게 한다.
+     */
+    @Override
+    public void deleteProfileImage(String imageId) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteWithThumbnails(imageId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteWithThumbnails(imageId);
+            }
+        });
+
+    }
+
+    /**
+     * 회원 정보가 이미지를 참조하도록 커밋되면 썸네일 생성을 요청하고, 롤백되면 이미지를 지워
+     * 어디에도 연결되지 않은 파일을 남기지 않는다.
+     */
+    @Override
+    public void attachProfileImage(String imageId) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            profileImageThumbnailGenerator.submit(imageId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    profileImageThumbnailGenerator.submit(imageId);
+                } else {
+                    profileImageStore.delete(imageId);
+                }
+            }
+        });
+
+    }
+
+    private void validateImageId(String imageId) {
+
+        if (!IMAGE_ID_PATTERN.matcher(imageId).matches()) {
+            throw new NonExistentProfileImageException("해당 프로필 이미지가 존재하지 않습니다. imageId: " + imageId);
+        }
+
+    }
+
+    private void deleteWithThumbnails(String imageId) {
+        profileImageStore.delete(imageId);
+        profileImageThumbnailGenerator.deleteThumbnails(imageId);
+    }
+
+    private static ProfileImageFormat detectFormat(BufferedInputStream content) throws IOException {
+
+        byte[] header = new byte[SIGNATURE_LENGTH];
+
+        content.mark(SIGNATURE_LENGTH);
+        int length = content.readNBytes(header, 0, SIGNATURE_LENGTH);
+        content.reset();
+
+        return ProfileImageFormat.detect(header, length)
+                .orElseThrow(UnsupportedProfileImageException::new);
+
+    }
+
+}
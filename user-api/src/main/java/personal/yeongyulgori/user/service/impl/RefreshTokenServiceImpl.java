@@ -0,0 +1,151 @@
+package personal.yeongyulgori.user.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import personal.yeongyulgori.user.exception.significant.sub.InvalidRefreshTokenException;
+import personal.yeongyulgori.user.exception.significant.sub.RefreshTokenReuseException;
+import personal.yeongyulgori.user.model.dto.SignInResponseDto;
+import personal.yeongyulgori.user.model.dto.TokenPairDto;
+import personal.yeongyulgori.user.model.entity.User;
+import personal.yeongyulgori.user.model.repository.UserRepository;
+import personal.yeongyulgori.user.security.JwtTokenProvider;
+import personal.yeongyulgori.user.security.refresh.RefreshTokenFamily;
+import personal.yeongyulgori.user.security.refresh.RefreshTokenStore;
+import personal.yeongyulgori.user.service.RefreshTokenService;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.springframework.transaction.annotation.Isolation.READ_COMMITTED;
+
+/**
+ * refresh token 서비스
+ * <p>
+ * refresh token은 "familyId.secret" 형식이고, 저장소에는 secret의 SHA-256 해시만 보관한다.
+ * 사용할 때마다 새로운 secret으로 회전하며, 이미 회전된 secret이 다시 제시되면 탈취된 것으로 보고 family 전체를 폐기한다.
+ * 로그인 이후 비밀번호, 이메일, 권한이 바뀌었거나 탈퇴한 회원의 family도 폐기한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenServiceImpl.class);
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final int SECRET_BYTES = 32;
+    private static final char SEPARATOR = '.';
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserRepository userRepository;
+
+    @Value("${security.refresh-token.expiration-millis:1209600000}")
+    private long refreshTokenExpirationMillis;
+
+    @Override
+    public TokenPairDto issueTokens(SignInResponseDto signInResponseDto) {
+
+        String familyId = UUID.randomUUID().toString();
+        String secret = generateSecret();
+
+        refreshTokenStore.save(RefreshTokenFamily.of(familyId, signInResponseDto.getUsername(),
+                signInResponseDto.getAuthVersion(), hash(secret),
+                System.currentTimeMillis() + refreshTokenExpirationMillis));
+
+        String accessToken = jwtTokenProvider.generateToken(signInResponseDto.getId(),
+                signInResponseDto.getUsername(), signInResponseDto.getRoles(), signInResponseDto.getAuthVersion());
+
+        return TokenPairDto.of(accessToken, familyId + SEPARATOR + secret);
+
+    }
+
+    @Override
+    @Transactional(isolation = READ_COMMITTED, readOnly = true, timeout = 10)
+    public TokenPairDto refreshTokens(String refreshToken) {
+
+        String familyId = parseFamilyId(refreshToken);
+        String secret = refreshToken.substring(familyId.length() + 1);
+
+        RefreshTokenFamily refreshTokenFamily = refreshTokenStore.findById(familyId)
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        String newSecret = generateSecret();
+
+        if (!refreshTokenStore.rotate(familyId, hash(secret), hash(newSecret))) {
+
+            refreshTokenStore.delete(familyId);
+
+            log.warn("Refresh token reuse detected, token family was revoked. username: {}, familyId: {}",
+                    refreshTokenFamily.getUsername(), familyId);
+
+            throw new RefreshTokenReuseException();
+
+        }
+
+        User user = userRepository.findByUsername(refreshTokenFamily.getUsername())
+                .filter(foundUser -> foundUser.getAuthVersion() == refreshTokenFamily.getAuthVersion())
+                .orElseThrow(() -> {
+                    refreshTokenStore.delete(familyId);
+                    return new InvalidRefreshTokenException();
+                });
+
+        String accessToken = jwtTokenProvider.generateToken(user.getId(), user.getUsername(), user.getRoles(),
+                user.getAuthVersion());
+
+        return TokenPairDto.of(accessToken, familyId + SEPARATOR + newSecret);
+
+    }
+
+    @Override
+    public void revokeRefreshToken(String refreshToken) {
+
+        String familyId = parseFamilyId(refreshToken);
+        String secret = refreshToken.substring(familyId.length() + 1);
+
+        refreshTokenStore.findById(familyId)
+                .filter(refreshTokenFamily -> refreshTokenFamily.getTokenHash().equals(hash(secret)))
+                .ifPresent(refreshTokenFamily -> refreshTokenStore.delete(familyId));
+
+    }
+
+    private String parseFamilyId(String refreshToken) {
+
+        int separatorIndex = refreshToken == null ? -1 : refreshToken.indexOf(SEPARATOR);
+
+        if (separatorIndex <= 0 || separatorIndex == refreshToken.length() - 1) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        return refreshToken.substring(0, separatorIndex);
+
+    }
+
+    private String generateSecret() {
+
+        byte[] bytes = new byte[SECRET_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+    }
+
+    private String hash(String secret) {
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+
+    }
+
+}
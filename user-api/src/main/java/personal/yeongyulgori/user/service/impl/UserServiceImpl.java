@@ -35,7 +35,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new EntityNotFoundException("해당 회원이 존재하지 않습니다. username: " + username));
 
         return UserResponseDto.of(user.getEmail(), user.getUsername(), user.getFullName(),
-                user.getRoles(), user.getCreatedAt(), user.getModifiedAt());
+                user.getRoles(), user.getProfileImageId(), user.getCreatedAt(), user.getModifiedAt());
 
     }
 
@@ -47,7 +47,7 @@ public class UserServiceImpl implements UserService {
 
         List<UserResponseDto> userResponseDtos = users.getContent().stream()
                 .map(user -> UserResponseDto.of(user.getEmail(), user.getUsername(), user.getFullName(),
-                        user.getRoles(), user.getCreatedAt(), user.getModifiedAt()))
+                        user.getRoles(), user.getProfileImageId(), user.getCreatedAt(), user.getModifiedAt()))
                 .collect(Collectors.toList());
 
         return new PageImpl<>(userResponseDtos, pageable, users.getTotalElements());
@@ -0,0 +1,107 @@
+package personal.yeongyulgori.user.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+
+/**
+ * 프로필 이미지를 로컬 디스크에 파일로 보관하는 저장소
+ * <p>
+ * 임시 파일에 끝까지 쓴 뒤 이름을 바꿔 공개하므로 읽는 쪽은 완성된 파일만 본다.
+ * 파일로 노출되는 Resource는 응답 시 sendfile로 커널에서 바로 전송할 수 있다.
+ * 컨테이너로 배포할 때는 directory를 호스트 볼륨으로 마운트해야 재배포와 재시작 후에도 이미지가 남는다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.profile-image.store", havingValue = "file", matchIfMissing = true)
+public class FileSystemProfileImageStore implements ProfileImageStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSystemProfileImageStore.class);
+
+    private final Path directory;
+
+    public FileSystemProfileImageStore(@Value("${storage.profile-image.directory}") String directory) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public StoredImage save(String imageId, InputStream content) throws IOException {
+
+        Path path = resolve(imageId);
+
+        Files.createDirectories(path.getParent());
+
+        Path temporaryPath = Files.createTempFile(path.getParent(), "upload-", ".tmp");
+
+        try {
+            Files.copy(content, temporaryPath, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryPath);
+            throw e;
+        }
+
+        return toStoredImage(imageId, path, Files.readAttributes(path, BasicFileAttributes.class));
+
+    }
+
+    @Override
+    public Optional<StoredImage> find(String imageId) {
+
+        Path path = resolve(imageId);
+
+        try {
+            return Optional.of(toStoredImage(imageId, path, Files.readAttributes(path, BasicFileAttributes.class)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Failed to read profile image attributes, imageId: {}", imageId, e);
+            return Optional.empty();
+        }
+
+    }
+
+    @Override
+    public void delete(String imageId) {
+
+        try {
+            Files.deleteIfExists(resolve(imageId));
+        } catch (IOException e) {
+            log.warn("Failed to delete profile image, imageId: {}", imageId, e);
+        }
+
+    }
+
+    /**
+     * 한 디렉터리에 파일이 몰리지 않도록 ID 앞 두 글자로 하위 디렉터리를 나눈다.
+     */
+    private Path resolve(String imageId) {
+
+        Path path = directory.resolve(imageId.substring(0, 2)).resolve(imageId).normalize();
+
+        if (!path.startsWith(directory)) {
+            throw new IllegalArgumentException("프로필 이미지 ID가 올바르지 않습니다. imageId: " + imageId);
+        }
+
+        return path;
+
+    }
+
+    private static StoredImage toStoredImage(String imageId, Path path, BasicFileAttributes attributes) {
+        return StoredImage.of(imageId, new FileSystemResource(path), attributes.size(),
+                attributes.lastModifiedTime().toInstant());
+    }
+
+}
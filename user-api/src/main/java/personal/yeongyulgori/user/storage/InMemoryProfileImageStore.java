@@ -0,0 +1,46 @@
+package personal.yeongyulgori.user.storage;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 객체 저장소 대신 프로필 이미지를 JVM 메모리에 보관하는 저장소. 테스트와 로컬 실행에 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.profile-image.store", havingValue = "memory")
+public class InMemoryProfileImageStore implements ProfileImageStore {
+
+    private final Map<String, StoredImage> images = new ConcurrentHashMap<>();
+
+    @Override
+    public StoredImage save(String imageId, InputStream content) throws IOException {
+
+        byte[] bytes = content.readAllBytes();
+
+        StoredImage storedImage = StoredImage.of(imageId, new ByteArrayResource(bytes), bytes.length, Instant.now());
+
+        images.put(imageId, storedImage);
+
+        return storedImage;
+
+    }
+
+    @Override
+    public Optional<StoredImage> find(String imageId) {
+        return Optional.ofNullable(images.get(imageId));
+    }
+
+    @Override
+    public void delete(String imageId) {
+        images.remove(imageId);
+    }
+
+}
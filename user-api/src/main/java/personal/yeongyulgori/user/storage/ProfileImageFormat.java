@@ -0,0 +1,67 @@
+package personal.yeongyulgori.user.storage;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 프로필 이미지로 받는 형식. 선언된 Content-Type 대신 파일 앞부분의 signature로 판별한다.
+ */
+@Getter
+public enum ProfileImageFormat {
+
+    JPEG("jpg", MediaType.IMAGE_JPEG, new int[]{0xFF, 0xD8, 0xFF}),
+    PNG("png", MediaType.IMAGE_PNG, new int[]{0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}),
+    GIF("gif", MediaType.IMAGE_GIF, new int[]{'G', 'I', 'F', '8'}),
+    WEBP("webp", MediaType.parseMediaType("image/webp"),
+            new int[]{'R', 'I', 'F', 'F', -1, -1, -1, -1, 'W', 'E', 'B', 'P'});
+
+    public static final int SIGNATURE_LENGTH = 12;
+
+    private final String extension;
+    private final MediaType mediaType;
+    private final int[] signature;
+
+    ProfileImageFormat(String extension, MediaType mediaType, int[] signature) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+        this.signature = signature;
+    }
+
+    public static Optional<ProfileImageFormat> detect(byte[] header, int length) {
+        return Arrays.stream(values())
+                .filter(format -> format.matches(header, length))
+                .findFirst();
+    }
+
+    public static Optional<ProfileImageFormat> fromFileName(String fileName) {
+
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1);
+
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equals(extension))
+                .findFirst();
+
+    }
+
+    private boolean matches(byte[] header, int length) {
+
+        if (length < signature.length) {
+            return false;
+        }
+
+        for (int i = 0; i < signature.length; i++) {
+
+            if (signature[i] >= 0 && (header[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+
+        }
+
+        return true;
+
+    }
+
+}
@@ -0,0 +1,23 @@
+package personal.yeongyulgori.user.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * 프로필 이미지 원본을 회원 테이블 밖에 보관하는 저장소
+ * <p>
+ * 이미지 ID는 내용이 바뀔 때마다 새로 발급하므로, 한 번 저장한 이미지는 수정하지 않고 삭제만 한다.
+ */
+public interface ProfileImageStore {
+
+    /**
+     * content를 끝까지 읽어 저장한다. 쓰기 도중 실패하면 일부만 기록된 이미지는 남기지 않는다.
+     */
+    StoredImage save(String imageId, InputStream content) throws IOException;
+
+    Optional<StoredImage> find(String imageId);
+
+    void delete(String imageId);
+
+}
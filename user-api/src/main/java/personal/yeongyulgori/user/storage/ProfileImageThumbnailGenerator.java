@@ -0,0 +1,235 @@
+package personal.yeongyulgori.user.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로필 이미지 원본으로 정사각형 썸네일을 만들어 원본과 같은 저장소에 저장한다.
+ * <p>
+ * 이미지 디코딩은 메모리와 CPU를 많이 쓰므로 고정 크기의 thread pool에서 처리하고, 대기열이 가득 차면
+ * 작업을 버린다. 썸네일이 없는 동안에는 원본을 대신 응답하므로 버려도 기능은 유지된다.
+ * 큰 원본은 가장 큰 썸네일의 두 배 정도로만 subsampling해서 읽어 디코딩 메모리를 줄인다.
+ */
+@Component
+public class ProfileImageThumbnailGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileImageThumbnailGenerator.class);
+
+    private static final String METRIC_PREFIX = "storage.profile-image.thumbnails";
+
+    private final ProfileImageStore profileImageStore;
+    private final int[] sizes;
+    private final ThreadPoolExecutor executor;
+
+    private final Counter generated;
+    private final Counter failed;
+    private final Counter unsupported;
+    private final Counter rejected;
+
+    public ProfileImageThumbnailGenerator(ProfileImageStore profileImageStore, MeterRegistry meterRegistry,
+                                          @Value("${storage.profile-image.thumbnail.sizes}") int[] sizes,
+                                          @Value("${storage.profile-image.thumbnail.pool-size}") int poolSize,
+                                          @Value("${storage.profile-image.thumbnail.queue-capacity}")
+                                          int queueCapacity) {
+
+        this.profileImageStore = profileImageStore;
+        this.sizes = Arrays.stream(sizes).boxed()
+                .sorted((size1, size2) -> size2 - size1)
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("profile-thumbnail-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.generated = Counter.builder(METRIC_PREFIX).tag("result", "generated").register(meterRegistry);
+        this.failed = Counter.builder(METRIC_PREFIX).tag("result", "failed").register(meterRegistry);
+        this.unsupported = Counter.builder(METRIC_PREFIX).tag("result", "unsupported").register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX).tag("result", "rejected").register(meterRegistry);
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+
+    }
+
+    public static String thumbnailId(String imageId, int size) {
+
+        int extensionIndex = imageId.lastIndexOf('.');
+
+        String extension = ProfileImageFormat.fromFileName(imageId)
+                .filter(format -> format == ProfileImageFormat.JPEG)
+                .map(ProfileImageFormat::getExtension)
+                .orElse(ProfileImageFormat.PNG.getExtension());
+
+        return imageId.substring(0, extensionIndex) + "_" + size + "." + extension;
+
+    }
+
+    public boolean supportsSize(int size) {
+        return Arrays.stream(sizes).anyMatch(supportedSize -> supportedSize == size);
+    }
+
+    public void submit(String imageId) {
+
+        try {
+            executor.execute(() -> generate(imageId));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Skipped profile thumbnail generation, queue is full. imageId: {}", imageId);
+        }
+
+    }
+
+    public void deleteThumbnails(String imageId) {
+
+        for (int size : sizes) {
+            profileImageStore.delete(thumbnailId(imageId, size));
+        }
+
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void generate(String imageId) {
+
+        Optional<StoredImage> original = profileImageStore.find(imageId);
+
+        if (original.isEmpty()) {
+            return;
+        }
+
+        try (InputStream content = original.get().getResource().getInputStream();
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(content)) {
+
+            Iterator<ImageReader> imageReaders = ImageIO.getImageReaders(imageInputStream);
+
+            if (!imageReaders.hasNext()) {
+                unsupported.increment();
+                return;
+            }
+
+            boolean opaque = ProfileImageFormat.fromFileName(imageId)
+                    .filter(format -> format == ProfileImageFormat.JPEG)
+                    .isPresent();
+
+            BufferedImage thumbnail = cropToSquare(read(imageReaders.next(), imageInputStream));
+
+            for (int size : sizes) {
+
+                thumbnail = resize(thumbnail, Math.min(size, thumbnail.getWidth()), opaque);
+
+                profileImageStore.save(thumbnailId(imageId, size),
+                        new ByteArrayInputStream(encode(thumbnail, opaque)));
+
+            }
+
+            if (profileImageStore.find(imageId).isEmpty()) {
+                deleteThumbnails(imageId);
+                return;
+            }
+
+            generated.increment();
+
+        } catch (IOException | RuntimeException e) {
+            failed.increment();
+            log.warn("Failed to generate profile thumbnails, imageId: {}", imageId, e);
+        }
+
+    }
+
+    private BufferedImage read(ImageReader imageReader, ImageInputStream imageInputStream) throws IOException {
+
+        try {
+
+            imageReader.setInput(imageInputStream, true, true);
+
+            int shortSide = Math.min(imageReader.getWidth(0), imageReader.getHeight(0));
+            int subsampling = Math.max(1, shortSide / (sizes[0] * 2));
+
+            ImageReadParam imageReadParam = imageReader.getDefaultReadParam();
+            imageReadParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+            return imageReader.read(0, imageReadParam);
+
+        } finally {
+            imageReader.dispose();
+        }
+
+    }
+
+    private static BufferedImage cropToSquare(BufferedImage image) {
+
+        int side = Math.min(image.getWidth(), image.getHeight());
+
+        return image.getSubimage((image.getWidth() - side) / 2, (image.getHeight() - side) / 2, side, side);
+
+    }
+
+    /**
+     * 한 번에 크게 줄이면 bilinear 보간이 픽셀을 건너뛰어 화질이 떨어지므로 절반씩 나눠 줄인다.
+     */
+    private static BufferedImage resize(BufferedImage image, int side, boolean opaque) {
+
+        BufferedImage resized = image;
+
+        do {
+
+            int next = Math.max(side, resized.getWidth() / 2);
+
+            BufferedImage target = new BufferedImage(next, next,
+                    opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+
+            Graphics2D graphics = target.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(resized, 0, 0, next, next, null);
+            graphics.dispose();
+
+            resized = target;
+
+        } while (resized.getWidth() > side);
+
+        return resized;
+
+    }
+
+    private static byte[] encode(BufferedImage image, boolean opaque) throws IOException {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ImageIO.write(image, opaque ? "jpg" : "png", outputStream);
+
+        return outputStream.toByteArray();
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package personal.yeongyulgori.user.storage;
+
+import personal.yeongyulgori.user.exception.general.sub.ProfileImageTooLargeException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 읽은 바이트 수가 maxBytes를 넘는 순간 ProfileImageTooLargeException을 던지는 스트림
+ * <p>
+ * 요청 본문을 끝까지 받기 전에 중단하므로, 큰 업로드도 상한만큼만 읽고 거절된다.
+ */
+public class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private long readBytes;
+    private long markedBytes;
+
+    public SizeLimitedInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+
+        int value = super.read();
+
+        if (value != -1) {
+            count(1);
+        }
+
+        return value;
+
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+
+        int length = super.read(b, off, len);
+
+        if (length > 0) {
+            count(length);
+        }
+
+        return length;
+
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+
+        long skipped = super.skip(n);
+
+        count(skipped);
+
+        return skipped;
+
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        super.mark(readLimit);
+        markedBytes = readBytes;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        super.reset();
+        readBytes = markedBytes;
+    }
+
+    private void count(long length) {
+
+        readBytes += length;
+
+        if (readBytes > maxBytes) {
+            throw new ProfileImageTooLargeException(maxBytes);
+        }
+
+    }
+
+}
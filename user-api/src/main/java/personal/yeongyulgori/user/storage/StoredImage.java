@@ -0,0 +1,43 @@
+package personal.yeongyulgori.user.storage;
+
+import lombok.Getter;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+
+import java.time.Instant;
+
+/**
+ * 저장된 프로필 이미지와 응답 헤더에 필요한 메타데이터
+ * <p>
+ * 이미지 ID가 내용과 함께 바뀌므로 ID를 그대로 강한 ETag로 사용한다.
+ */
+@Getter
+public class StoredImage {
+
+    private final String imageId;
+    private final Resource resource;
+    private final long contentLength;
+    private final Instant lastModified;
+
+    private StoredImage(String imageId, Resource resource, long contentLength, Instant lastModified) {
+        this.imageId = imageId;
+        this.resource = resource;
+        this.contentLength = contentLength;
+        this.lastModified = lastModified;
+    }
+
+    public static StoredImage of(String imageId, Resource resource, long contentLength, Instant lastModified) {
+        return new StoredImage(imageId, resource, contentLength, lastModified);
+    }
+
+    public String getETag() {
+        return "\"" + imageId + "\"";
+    }
+
+    public MediaType getContentType() {
+        return ProfileImageFormat.fromFileName(imageId)
+                .map(ProfileImageFormat::getMediaType)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+}
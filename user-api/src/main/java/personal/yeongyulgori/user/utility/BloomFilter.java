@@ -0,0 +1,110 @@
+package personal.yeongyulgori.user.utility;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 원소를 위한 thread-safe bloom filter
+ * <p>
+ * mightContain이 false이면 추가된 적이 없는 원소이고, true이면 추가되었을 수 있는 원소이다.
+ * 예상 원소 수만큼 추가했을 때 오탐률이 falsePositiveProbability가 되도록 비트 수와 해시 함수 수를 정한다.
+ * 원소를 제거할 수 없으므로, 원소가 만료되는 용도에서는 주기적으로 새로 만들어 교체한다.
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+
+        if (expectedInsertions <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("expectedInsertions는 양수, falsePositiveProbability는 0과 1 사이여야 합니다. "
+                    + "expectedInsertions: " + expectedInsertions
+                    + ", falsePositiveProbability: " + falsePositiveProbability);
+        }
+
+        long optimalBitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN2 * LN2));
+        int words = Math.toIntExact(Math.max(1, (optimalBitSize + Long.SIZE - 1) / Long.SIZE));
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * LN2));
+
+    }
+
+    public void add(CharSequence value) {
+
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+
+            if ((bits.get(word) & mask) == 0) {
+                bits.getAndAccumulate(word, mask, (current, bit) -> current | bit);
+            }
+
+        }
+
+    }
+
+    public boolean mightContain(CharSequence value) {
+
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+
+        }
+
+        return true;
+
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * FNV-1a로 누적한 값을 섞어 하위 비트까지 고르게 분포시킨다.
+     */
+    private static long hash(CharSequence value) {
+
+        long hash = 0xCBF29CE484222325L;
+
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+
+        return mix(hash);
+
+    }
+
+    private static long mix(long hash) {
+
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+
+    }
+
+}
@@ -0,0 +1,129 @@
+package personal.yeongyulgori.user.utility;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 최대 크기와 만료 시간이 정해진 thread-safe 캐시
+ * <p>
+ * 만료된 항목은 조회할 때 loader로 다시 적재하고, loader가 null을 반환하면 캐시하지 않는다.
+ * 크기를 넘으면 만료된 항목을 먼저 비우고, 그래도 넘으면 임의의 항목을 최대 크기의 90%까지 비운다.
+ * 같은 key를 동시에 적재하면 loader가 여러 번 호출될 수 있다.
+ */
+public class ExpiringCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ExpiringCache(int maxSize, long ttlMillis) {
+
+        if (maxSize <= 0 || ttlMillis < 0) {
+            throw new IllegalArgumentException("maxSize는 양수, ttlMillis는 0 이상이어야 합니다. maxSize: "
+                    + maxSize + ", ttlMillis: " + ttlMillis);
+        }
+
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+
+        if (entry != null && entry.expiresAt - now > 0) {
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+
+        return load(key, loader, now);
+
+    }
+
+    /**
+     * 캐시된 값을 무시하고 다시 적재한다.
+     */
+    public V reload(K key, Function<? super K, ? extends V> loader) {
+
+        misses.increment();
+
+        return load(key, loader, System.nanoTime());
+
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private V load(K key, Function<? super K, ? extends V> loader, long now) {
+
+        V value = loader.apply(key);
+
+        if (value == null) {
+            entries.remove(key);
+            return null;
+        }
+
+        entries.put(key, new Entry<>(value, now + ttlNanos));
+
+        if (entries.size() > maxSize) {
+            evict(now);
+        }
+
+        return value;
+
+    }
+
+    private void evict(long now) {
+
+        entries.values().removeIf(entry -> entry.expiresAt - now <= 0);
+
+        int target = maxSize - maxSize / 10;
+        Iterator<K> iterator = entries.keySet().iterator();
+
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
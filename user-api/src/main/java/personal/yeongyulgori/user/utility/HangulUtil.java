@@ -0,0 +1,166 @@
+package personal.yeongyulgori.user.utility;
+
+/**
+ * 한글 음절을 초성 및 자모 단위로 분해한다.
+ * <p>
+ * 자모 분해 시 겹모음(ㅘ)과 겹받침(ㄺ)은 두벌식 자판의 입력 순서대로 나누므로(ㅗㅏ, ㄹㄱ),
+ * 입력 도중의 문자열("홍기")을 분해한 결과가 완성된 문자열("홍길동")을 분해한 결과의 접두어가 된다.
+ */
+public class HangulUtil {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char COMPATIBILITY_CONSONANT_BEGIN = 'ㄱ';
+    private static final char COMPATIBILITY_CONSONANT_END = 'ㅎ';
+    private static final char COMPATIBILITY_JAMO_BEGIN = 'ㄱ';
+    private static final char COMPATIBILITY_JAMO_END = 'ㅣ';
+
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSUNGS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final String[] JUNGSEONGS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONGS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /**
+     * 호환용 자모(ㄱ~ㅣ) 중 겹자모의 분해 결과. 분해되지 않는 자모는 null이다.
+     */
+    private static final String[] COMPATIBILITY_JAMO_DECOMPOSITIONS =
+            new String[COMPATIBILITY_JAMO_END - COMPATIBILITY_JAMO_BEGIN + 1];
+
+    static {
+        putCompatibilityJamoDecomposition('ㄳ', "ㄱㅅ");
+        putCompatibilityJamoDecomposition('ㄵ', "ㄴㅈ");
+        putCompatibilityJamoDecomposition('ㄶ', "ㄴㅎ");
+        putCompatibilityJamoDecomposition('ㄺ', "ㄹㄱ");
+        putCompatibilityJamoDecomposition('ㄻ', "ㄹㅁ");
+        putCompatibilityJamoDecomposition('ㄼ', "ㄹㅂ");
+        putCompatibilityJamoDecomposition('ㄽ', "ㄹㅅ");
+        putCompatibilityJamoDecomposition('ㄾ', "ㄹㅌ");
+        putCompatibilityJamoDecomposition('ㄿ', "ㄹㅍ");
+        putCompatibilityJamoDecomposition('ㅀ', "ㄹㅎ");
+        putCompatibilityJamoDecomposition('ㅄ', "ㅂㅅ");
+        putCompatibilityJamoDecomposition('ㅘ', "ㅗㅏ");
+        putCompatibilityJamoDecomposition('ㅙ', "ㅗㅐ");
+        putCompatibilityJamoDecomposition('ㅚ', "ㅗㅣ");
+        putCompatibilityJamoDecomposition('ㅝ', "ㅜㅓ");
+        putCompatibilityJamoDecomposition('ㅞ', "ㅜㅔ");
+        putCompatibilityJamoDecomposition('ㅟ', "ㅜㅣ");
+        putCompatibilityJamoDecomposition('ㅢ', "ㅡㅣ");
+    }
+
+    private static void putCompatibilityJamoDecomposition(char jamo, String decomposition) {
+        COMPATIBILITY_JAMO_DECOMPOSITIONS[jamo - COMPATIBILITY_JAMO_BEGIN] = decomposition;
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼다. 예: "홍길동" -> "ㅎㄱㄷ". 한글 음절이 아닌 문자는 그대로 둔다.
+     */
+    public static String toChosung(String text) {
+
+        StringBuilder chosung = new StringBuilder(text.length());
+
+        for (int i = 0; i < text.length(); i++) {
+
+            char character = text.charAt(i);
+
+            if (isSyllable(character)) {
+                chosung.append(CHOSUNGS.charAt((character - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+            } else {
+                chosung.append(character);
+            }
+
+        }
+
+        return chosung.toString();
+
+    }
+
+    /**
+     * 한글 음절과 겹자모를 자모 단위로 분해한다. 예: "홍기" -> "ㅎㅗㅇㄱㅣ". 한글이 아닌 문자는 그대로 둔다.
+     */
+    public static String toJamo(String text) {
+
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+
+        for (int i = 0; i < text.length(); i++) {
+
+            char character = text.charAt(i);
+
+            if (isSyllable(character)) {
+
+                int offset = character - SYLLABLE_BEGIN;
+
+                jamo.append(CHOSUNGS.charAt(offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)))
+                        .append(JUNGSEONGS[offset % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT])
+                        .append(JONGSEONGS[offset % JONGSEONG_COUNT]);
+
+            } else if (isCompatibilityJamo(character)
+                    && COMPATIBILITY_JAMO_DECOMPOSITIONS[character - COMPATIBILITY_JAMO_BEGIN] != null) {
+                jamo.append(COMPATIBILITY_JAMO_DECOMPOSITIONS[character - COMPATIBILITY_JAMO_BEGIN]);
+            } else {
+                jamo.append(character);
+            }
+
+        }
+
+        return jamo.toString();
+
+    }
+
+    /**
+     * 문자열이 초성 자음(ㄱ~ㅎ)으로만 이루어져 있는지 확인한다.
+     */
+    public static boolean isChosungOnly(String text) {
+
+        if (text.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < text.length(); i++) {
+
+            char character = text.charAt(i);
+
+            if (character < COMPATIBILITY_CONSONANT_BEGIN || character > COMPATIBILITY_CONSONANT_END) {
+                return false;
+            }
+
+        }
+
+        return true;
+
+    }
+
+    public static boolean containsHangul(String text) {
+
+        for (int i = 0; i < text.length(); i++) {
+
+            char character = text.charAt(i);
+
+            if (isSyllable(character) || isCompatibilityJamo(character)) {
+                return true;
+            }
+
+        }
+
+        return false;
+
+    }
+
+    private static boolean isSyllable(char character) {
+        return character >= SYLLABLE_BEGIN && character <= SYLLABLE_END;
+    }
+
+    private static boolean isCompatibilityJamo(char character) {
+        return character >= COMPATIBILITY_JAMO_BEGIN && character <= COMPATIBILITY_JAMO_END;
+    }
+
+}
@@ -0,0 +1,126 @@
+package personal.yeongyulgori.user.utility;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * key별 token bucket을 보관하는 thread-safe 저장소
+ * <p>
+ * key의 해시로 고른 stripe 하나만 잠그므로 서로 다른 key는 대부분 경합하지 않는다.
+ * 각 stripe는 최근에 사용하지 않은 bucket부터 비우는 LRU 맵이어서 전체 bucket 수가 maxKeys를 넘지 않는다.
+ * 비워진 bucket은 다음 요청 때 가득 찬 상태로 다시 만들어진다.
+ */
+public class StripedTokenBuckets {
+
+    private final Stripe[] stripes;
+    private final LongSupplier nanoClock;
+
+    public StripedTokenBuckets(int stripeCount, int maxKeys) {
+        this(stripeCount, maxKeys, System::nanoTime);
+    }
+
+    StripedTokenBuckets(int stripeCount, int maxKeys, LongSupplier nanoClock) {
+
+        if (stripeCount <= 0 || maxKeys < stripeCount) {
+            throw new IllegalArgumentException("stripeCount는 양수, maxKeys는 stripeCount 이상이어야 합니다. stripeCount: "
+                    + stripeCount + ", maxKeys: " + maxKeys);
+        }
+
+        this.stripes = new Stripe[stripeCount];
+        this.nanoClock = nanoClock;
+
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(maxKeys / stripeCount);
+        }
+
+    }
+
+    /**
+     * bucket에 token이 남아 있으면 하나를 꺼내고 true를 반환한다.
+     * bucket은 capacity개까지 채워지고, 초당 refillPerSecond개씩 다시 채워진다.
+     */
+    public boolean tryAcquire(String key, int capacity, double refillPerSecond) {
+
+        Stripe stripe = stripes[Math.floorMod(spread(key.hashCode()), stripes.length)];
+        long now = nanoClock.getAsLong();
+
+        synchronized (stripe) {
+
+            Bucket bucket = stripe.buckets.get(key);
+
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            }
+
+            return bucket.tryAcquire(capacity, refillPerSecond, now);
+
+        }
+
+    }
+
+    public int size() {
+
+        int size = 0;
+
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+
+        return size;
+
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static class Stripe {
+
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+
+    }
+
+    private static class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        private boolean tryAcquire(int capacity, double refillPerSecond, long now) {
+
+            double elapsedSeconds = (double) (now - refilledAt) / TimeUnit.SECONDS.toNanos(1);
+
+            tokens = Math.min(capacity, tokens + elapsedSeconds * refillPerSecond);
+            refilledAt = now;
+
+            if (tokens < 1) {
+                return false;
+            }
+
+            tokens--;
+
+            return true;
+
+        }
+
+    }
+
+}
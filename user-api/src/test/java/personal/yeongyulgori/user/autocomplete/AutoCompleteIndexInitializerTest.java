@@ -0,0 +1,96 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import personal.yeongyulgori.user.model.entity.User;
+import personal.yeongyulgori.user.model.repository.UserRepository;
+import personal.yeongyulgori.user.service.AutoCompleteService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static personal.yeongyulgori.user.model.constant.Role.ROLE_GENERAL_USER;
+import static personal.yeongyulgori.user.testutil.TestConstant.*;
+import static personal.yeongyulgori.user.testutil.TestObjectFactory.createUser;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class AutoCompleteIndexInitializerTest {
+
+    @Autowired
+    private AutoCompleteIndexInitializer autoCompleteIndexInitializer;
+
+    @Autowired
+    private AutoCompleteService autoCompleteService;
+
+    @Autowired
+    private AutoCompleteDictionary autoCompleteDictionary;
+
+    @Autowired
+    private ConcurrentTrie<UserReferences> trie;
+
+    @Autowired
+    private HangulAutoCompleteIndex hangulAutoCompleteIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        trie.clear();
+        hangulAutoCompleteIndex.clear();
+    }
+
+    @DisplayName("회원 테이블과 대조해 색인에만 있는 회원은 제거하고 색인에 없는 회원은 추가한다.")
+    @Test
+    void reconcileWithDatabase() {
+
+        // given
+        User user1 = userRepository.save(createUser(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1,
+                BIRTH_DATE1, PHONE_NUMBER1, List.of(ROLE_GENERAL_USER)));
+
+        User user2 = userRepository.save(createUser(EMAIL2, USERNAME2, PASSWORD2, FULL_NAME2,
+                BIRTH_DATE2, PHONE_NUMBER2, List.of(ROLE_GENERAL_USER)));
+
+        UserReference deletedUserReference = UserReference.of(user2.getId() + 100, USERNAME3, FULL_NAME3);
+        UserReference renamedUserReference = UserReference.of(user2.getId(), USERNAME2, FULL_NAME4);
+
+        autoCompleteService.addAutoCompleteKeyWord(deletedUserReference);
+        autoCompleteService.addAutoCompleteKeyWord(renamedUserReference);
+
+        // when
+        autoCompleteIndexInitializer.reconcileWithDatabase();
+
+        // then
+        assertThat(autoCompleteDictionary.references(FULL_NAME1).asList()).containsExactly(UserReference.from(user1));
+        assertThat(autoCompleteDictionary.references(FULL_NAME2).asList()).containsExactly(UserReference.from(user2));
+        assertThat(autoCompleteDictionary.references(FULL_NAME3).isEmpty()).isTrue();
+        assertThat(autoCompleteDictionary.references(FULL_NAME4).isEmpty()).isTrue();
+
+    }
+
+    @DisplayName("성명과 회원 id가 같고 username만 다른 색인 참조는 회원 테이블의 참조로 교체한다.")
+    @Test
+    void reconcileChangedUsername() {
+
+        // given
+        User user = userRepository.save(createUser(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1,
+                BIRTH_DATE1, PHONE_NUMBER1, List.of(ROLE_GENERAL_USER)));
+
+        autoCompleteService.addAutoCompleteKeyWord(UserReference.of(user.getId(), USERNAME2, FULL_NAME1));
+
+        // when
+        autoCompleteIndexInitializer.reconcileWithDatabase();
+
+        // then
+        assertThat(autoCompleteDictionary.references(FULL_NAME1).asList()).containsExactly(UserReference.from(user));
+
+    }
+
+}
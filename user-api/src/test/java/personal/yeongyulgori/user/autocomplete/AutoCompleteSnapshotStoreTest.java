@@ -0,0 +1,85 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static personal.yeongyulgori.user.testutil.TestConstant.*;
+
+class AutoCompleteSnapshotStoreTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @DisplayName("자동완성 색인을 스냅샷 파일로 기록하고 성명별 회원 참조와 함께 다시 읽어 올 수 있다.")
+    @Test
+    void writeAndReadSnapshot() throws IOException {
+
+        // given
+        Path snapshotPath = temporaryDirectory.resolve("auto-complete.snapshot");
+        AutoCompleteSnapshotStore autoCompleteSnapshotStore = new AutoCompleteSnapshotStore(snapshotPath.toString());
+
+        UserReference userReference1 = UserReference.of(1, USERNAME1, FULL_NAME1);
+        UserReference userReference2 = UserReference.of(2, USERNAME2, FULL_NAME2);
+        UserReference userReference3 = UserReference.of(3, USERNAME3, FULL_NAME1);
+        UserReference userReference4 = UserReference.of(4, USERNAME4, FULL_NAME5);
+
+        ConcurrentTrie<UserReferences> trie = new ConcurrentTrie<>(10, UserReferences::size);
+        trie.put(FULL_NAME1, UserReferences.of(userReference3, userReference1));
+        trie.put(FULL_NAME2, UserReferences.of(userReference2));
+        trie.put(FULL_NAME5, UserReferences.of(userReference4));
+
+        // when
+        autoCompleteSnapshotStore.write(trie.snapshot());
+
+        List<UserReference> userReferences;
+
+        try (Stream<UserReference> stream = autoCompleteSnapshotStore.readUserReferences()) {
+            userReferences = stream.collect(Collectors.toList());
+        }
+
+        // then
+        assertThat(autoCompleteSnapshotStore.exists()).isTrue();
+        assertThat(userReferences).containsExactly(userReference2, userReference1, userReference3, userReference4);
+
+    }
+
+    @DisplayName("스냅샷 경로를 설정하지 않으면 스냅샷을 사용하지 않는다.")
+    @Test
+    void disabledWithoutPath() {
+
+        // given, when
+        AutoCompleteSnapshotStore autoCompleteSnapshotStore = new AutoCompleteSnapshotStore("");
+
+        // then
+        assertThat(autoCompleteSnapshotStore.isEnabled()).isFalse();
+        assertThat(autoCompleteSnapshotStore.exists()).isFalse();
+
+    }
+
+    @DisplayName("형식이 올바르지 않은 스냅샷 파일을 읽으면 IOException이 발생한다.")
+    @Test
+    void readCorruptedSnapshot() throws IOException {
+
+        // given
+        Path snapshotPath = temporaryDirectory.resolve("auto-complete.snapshot");
+        Files.write(snapshotPath, new byte[]{1, 2, 3});
+
+        AutoCompleteSnapshotStore autoCompleteSnapshotStore = new AutoCompleteSnapshotStore(snapshotPath.toString());
+
+        // when, then
+        assertThatThrownBy(autoCompleteSnapshotStore::readUserReferences)
+                .isInstanceOf(IOException.class);
+
+    }
+
+}
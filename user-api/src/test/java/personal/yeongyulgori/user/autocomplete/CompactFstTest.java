@@ -0,0 +1,164 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static personal.yeongyulgori.user.testutil.TestConstant.*;
+
+class CompactFstTest {
+
+    @DisplayName("정렬된 성명과 가중치로 FST를 구성하고 가중치를 조회할 수 있다.")
+    @Test
+    void buildAndGetWeight() {
+
+        // given, when
+        CompactFst compactFst = CompactFst.builder()
+                .add(FULL_NAME2, 1)
+                .add(FULL_NAME1, 3)
+                .add(FULL_NAME5, 2)
+                .build();
+
+        // then
+        assertThat(compactFst.size()).isEqualTo(3);
+        assertThat(compactFst.weight(FULL_NAME1)).isEqualTo(3);
+        assertThat(compactFst.weight(FULL_NAME2)).isEqualTo(1);
+        assertThat(compactFst.weight(FRONT_PART_OF_NAME)).isZero();
+        assertThat(compactFst.weight(FULL_NAME3)).isZero();
+
+    }
+
+    @DisplayName("prefix로 시작하는 성명을 가중치가 높은 순으로 조회할 수 있다.")
+    @Test
+    void topKeys() {
+
+        // given
+        CompactFst compactFst = CompactFst.builder()
+                .add(FULL_NAME2, 5)
+                .add(FULL_NAME1, 1)
+                .add(FULL_NAME5, 2)
+                .add(FULL_NAME6, 1)
+                .build();
+
+        // when
+        List<String> keys = compactFst.topKeys(FRONT_PART_OF_NAME, 10).stream()
+                .map(CompactFst.Match::getKey)
+                .collect(Collectors.toList());
+
+        List<String> limitedKeys = compactFst.topKeys("", 2).stream()
+                .map(CompactFst.Match::getKey)
+                .collect(Collectors.toList());
+
+        // then
+        assertThat(keys).containsExactly(FULL_NAME5, FULL_NAME1, FULL_NAME6);
+        assertThat(limitedKeys).containsExactly(FULL_NAME2, FULL_NAME5);
+        assertThat(compactFst.topKeys("박", 10)).isEmpty();
+
+    }
+
+    @DisplayName("접미사가 같은 상태를 공유하므로 key가 늘어도 사전 크기가 비례해서 늘지 않는다.")
+    @Test
+    void sharedSuffixes() {
+
+        // given
+        CompactFst.Builder singleBuilder = CompactFst.builder().add(FULL_NAME1, 1);
+        CompactFst.Builder sharedBuilder = CompactFst.builder();
+
+        for (String fullName : List.of(FULL_NAME2, FULL_NAME3, FULL_NAME4, FULL_NAME1)) {
+            sharedBuilder.add(fullName, 1);
+        }
+
+        // when
+        CompactFst single = singleBuilder.build();
+        CompactFst shared = sharedBuilder.build();
+
+        // then
+        assertThat(shared.size()).isEqualTo(4);
+        assertThat(shared.sizeInBytes()).isLessThan(single.sizeInBytes() * 2);
+
+    }
+
+    @DisplayName("모든 성명과 가중치를 사전 순으로 순회할 수 있다.")
+    @Test
+    void forEach() {
+
+        // given
+        CompactFst compactFst = CompactFst.builder()
+                .add(FULL_NAME2, 1)
+                .add(FULL_NAME1, 3)
+                .add(FULL_NAME5, 2)
+                .build();
+
+        Map<String, Integer> entries = new LinkedHashMap<>();
+
+        // when
+        compactFst.forEach(entries::put);
+
+        // then
+        assertThat(entries).containsExactly(Map.entry(FULL_NAME2, 1), Map.entry(FULL_NAME1, 3),
+                Map.entry(FULL_NAME5, 2));
+
+    }
+
+    @DisplayName("성명의 사전 순 번호를 순회 순서와 같게 조회할 수 있다.")
+    @Test
+    void ordinal() {
+
+        // given
+        CompactFst compactFst = CompactFst.builder()
+                .add(FULL_NAME2, 1)
+                .add(FRONT_PART_OF_NAME, 1)
+                .add(FULL_NAME1, 3)
+                .add(FULL_NAME5, 2)
+                .build();
+
+        // when, then
+        assertThat(compactFst.ordinal(FULL_NAME2)).isEqualTo(0);
+        assertThat(compactFst.ordinal(FRONT_PART_OF_NAME)).isEqualTo(1);
+        assertThat(compactFst.ordinal(FULL_NAME1)).isEqualTo(2);
+        assertThat(compactFst.ordinal(FULL_NAME5)).isEqualTo(3);
+        assertThat(compactFst.ordinal(FULL_NAME3)).isEqualTo(-1);
+        assertThat(compactFst.ordinal("홍")).isEqualTo(-1);
+
+    }
+
+    @DisplayName("편집 거리 이내의 prefix를 가진 성명을 조회할 수 있다.")
+    @Test
+    void fuzzyKeys() {
+
+        // given
+        CompactFst compactFst = CompactFst.builder()
+                .add(FULL_NAME2, 1)
+                .add(FULL_NAME3, 1)
+                .add(FULL_NAME1, 1)
+                .build();
+
+        // when
+        Map<String, Integer> distances = compactFst.fuzzyKeys("홍깉동", 1, 10).stream()
+                .collect(Collectors.toMap(CompactFst.Match::getKey, CompactFst.Match::getDistance));
+
+        // then
+        assertThat(distances).containsOnly(Map.entry(FULL_NAME1, 1));
+
+    }
+
+    @DisplayName("정렬되지 않은 순서로 성명을 입력하면 IllegalArgumentException이 발생한다.")
+    @Test
+    void addUnsortedKey() {
+
+        // given
+        CompactFst.Builder builder = CompactFst.builder().add(FULL_NAME1, 1);
+
+        // when, then
+        assertThatThrownBy(() -> builder.add(FULL_NAME2, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+    }
+
+}
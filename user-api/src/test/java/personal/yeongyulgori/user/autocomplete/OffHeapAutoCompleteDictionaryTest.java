@@ -0,0 +1,172 @@
+package personal.yeongyulgori.user.autocomplete;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static personal.yeongyulgori.user.testutil.TestConstant.*;
+
+class OffHeapAutoCompleteDictionaryTest {
+
+    private OffHeapAutoCompleteDictionary offHeapAutoCompleteDictionary;
+
+    @BeforeEach
+    void setUp() {
+
+        offHeapAutoCompleteDictionary = new OffHeapAutoCompleteDictionary();
+
+        AutoCompleteDictionary.Loader loader = offHeapAutoCompleteDictionary.loader();
+
+        for (UserReference userReference : List.of(user(1, FULL_NAME1), user(2, FULL_NAME5), user(3, FULL_NAME2),
+                user(4, FULL_NAME1), user(5, FULL_NAME6))) {
+            loader.add(userReference);
+        }
+
+        loader.apply();
+
+    }
+
+    @DisplayName("적재한 성명을 회원 수가 많은 순으로 자동완성할 수 있다.")
+    @Test
+    void topKeys() {
+
+        // given, when
+        List<String> keys = offHeapAutoCompleteDictionary.topKeys(FRONT_PART_OF_NAME, 10);
+
+        // then
+        assertThat(offHeapAutoCompleteDictionary.size()).isEqualTo(4);
+        assertThat(keys).containsExactly(FULL_NAME1, FULL_NAME5, FULL_NAME6);
+        assertThat(offHeapAutoCompleteDictionary.references(FULL_NAME1).asList())
+                .containsExactly(user(1, FULL_NAME1), user(4, FULL_NAME1));
+
+    }
+
+    @DisplayName("병합 전의 등록과 삭제도 자동완성 결과에 바로 반영된다.")
+    @Test
+    void topKeysWithDelta() {
+
+        // given
+        offHeapAutoCompleteDictionary.add(user(6, FULL_NAME6));
+        offHeapAutoCompleteDictionary.add(user(7, FULL_NAME6));
+        offHeapAutoCompleteDictionary.add(user(8, FRONT_PART_OF_NAME + "자"));
+
+        // when
+        boolean isRemoved = offHeapAutoCompleteDictionary.remove(user(2, FULL_NAME5));
+        boolean isRemovedAgain = offHeapAutoCompleteDictionary.remove(user(2, FULL_NAME5));
+
+        // then
+        assertThat(isRemoved).isTrue();
+        assertThat(isRemovedAgain).isFalse();
+        assertThat(offHeapAutoCompleteDictionary.size()).isEqualTo(4);
+        assertThat(offHeapAutoCompleteDictionary.topKeys(FRONT_PART_OF_NAME, 10))
+                .containsExactly(FULL_NAME6, FULL_NAME1, FRONT_PART_OF_NAME + "자");
+
+    }
+
+    @DisplayName("변경분을 병합해도 자동완성 결과와 스냅샷 내용은 같다.")
+    @Test
+    void mergeDelta() {
+
+        // given
+        offHeapAutoCompleteDictionary.add(user(6, FULL_NAME6));
+        offHeapAutoCompleteDictionary.add(user(7, FULL_NAME6));
+        offHeapAutoCompleteDictionary.add(user(8, FULL_NAME3));
+        offHeapAutoCompleteDictionary.remove(user(2, FULL_NAME5));
+
+        List<String> keysBeforeMerge = offHeapAutoCompleteDictionary.topKeys(FRONT_PART_OF_NAME, 10);
+        Map<String, Integer> entriesBeforeMerge = entries(offHeapAutoCompleteDictionary.snapshot());
+
+        // when
+        offHeapAutoCompleteDictionary.mergeDelta();
+
+        // then
+        assertThat(offHeapAutoCompleteDictionary.topKeys(FRONT_PART_OF_NAME, 10)).isEqualTo(keysBeforeMerge);
+        assertThat(entries(offHeapAutoCompleteDictionary.snapshot())).isEqualTo(entriesBeforeMerge);
+        assertThat(entriesBeforeMerge).containsExactly(Map.entry(FULL_NAME2, 1), Map.entry(FULL_NAME3, 1),
+                Map.entry(FULL_NAME1, 2), Map.entry(FULL_NAME6, 3));
+        assertThat(offHeapAutoCompleteDictionary.references(FULL_NAME6).asList())
+                .containsExactly(user(5, FULL_NAME6), user(6, FULL_NAME6), user(7, FULL_NAME6));
+
+    }
+
+    @DisplayName("같은 회원의 참조를 다시 등록하면 병합 전후 모두 회원 수 변화 없이 교체된다.")
+    @Test
+    void replaceReference() {
+
+        // given
+        UserReference changedUserReference = UserReference.of(1, "changed", FULL_NAME1);
+
+        // when
+        boolean isAdded = offHeapAutoCompleteDictionary.add(changedUserReference);
+        boolean isAddedAgain = offHeapAutoCompleteDictionary.add(user(4, FULL_NAME1));
+
+        // then
+        assertThat(isAdded).isFalse();
+        assertThat(isAddedAgain).isFalse();
+        assertThat(offHeapAutoCompleteDictionary.references(FULL_NAME1).asList())
+                .containsExactly(changedUserReference, user(4, FULL_NAME1));
+        assertThat(entries(offHeapAutoCompleteDictionary.snapshot())).containsEntry(FULL_NAME1, 2);
+
+        offHeapAutoCompleteDictionary.mergeDelta();
+
+        assertThat(offHeapAutoCompleteDictionary.references(FULL_NAME1).asList())
+                .containsExactly(changedUserReference, user(4, FULL_NAME1));
+        assertThat(offHeapAutoCompleteDictionary.remove(changedUserReference)).isTrue();
+        assertThat(offHeapAutoCompleteDictionary.references(FULL_NAME1).asList())
+                .containsExactly(user(4, FULL_NAME1));
+
+    }
+
+    @DisplayName("오타가 포함된 키워드로도 변경분을 포함해 자동완성할 수 있다.")
+    @Test
+    void fuzzyTopKeys() {
+
+        // given
+        offHeapAutoCompleteDictionary.add(user(6, FULL_NAME3));
+
+        // when
+        List<String> keys = offHeapAutoCompleteDictionary.fuzzyTopKeys("훙길동", 1, 10);
+
+        // then
+        assertThat(keys).containsExactly(FULL_NAME1, FULL_NAME2, FULL_NAME3);
+        assertThat(offHeapAutoCompleteDictionary.fuzzyTopKeys("김길", 0, 10)).containsExactly(FULL_NAME3);
+
+    }
+
+    @DisplayName("변경이 없으면 같은 스냅샷으로 판단한다.")
+    @Test
+    void isSameSnapshot() {
+
+        // given
+        DictionarySnapshot<UserReferences> snapshot = offHeapAutoCompleteDictionary.snapshot();
+
+        // when
+        boolean isSameBeforeUpdate = snapshot.isSameAs(offHeapAutoCompleteDictionary.snapshot());
+        offHeapAutoCompleteDictionary.add(user(6, FULL_NAME4));
+        boolean isSameAfterUpdate = snapshot.isSameAs(offHeapAutoCompleteDictionary.snapshot());
+
+        // then
+        assertThat(isSameBeforeUpdate).isTrue();
+        assertThat(isSameAfterUpdate).isFalse();
+
+    }
+
+    private static UserReference user(long id, String fullName) {
+        return UserReference.of(id, "user" + id, fullName);
+    }
+
+    private Map<String, Integer> entries(DictionarySnapshot<UserReferences> snapshot) {
+
+        Map<String, Integer> entries = new LinkedHashMap<>();
+        snapshot.forEach((fullName, references) -> entries.put(fullName, references.size()));
+
+        return entries;
+
+    }
+
+}
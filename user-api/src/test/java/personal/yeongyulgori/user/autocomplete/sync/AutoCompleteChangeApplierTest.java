@@ -0,0 +1,137 @@
+package personal.yeongyulgori.user.autocomplete.sync;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import personal.yeongyulgori.user.autocomplete.ConcurrentTrie;
+import personal.yeongyulgori.user.autocomplete.HangulAutoCompleteIndex;
+import personal.yeongyulgori.user.autocomplete.UserReference;
+import personal.yeongyulgori.user.autocomplete.UserReferences;
+import personal.yeongyulgori.user.service.AutoCompleteService;
+
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static personal.yeongyulgori.user.testutil.TestConstant.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class AutoCompleteChangeApplierTest {
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AutoCompleteService autoCompleteService;
+
+    @Autowired
+    private ConcurrentTrie<UserReferences> trie;
+
+    @Autowired
+    private HangulAutoCompleteIndex hangulAutoCompleteIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AutoCompleteChangeTransport autoCompleteChangeTransport;
+
+    @Autowired
+    private AutoCompleteChangeApplier autoCompleteChangeApplier;
+
+    @AfterEach
+    void tearDown() {
+        trie.clear();
+        hangulAutoCompleteIndex.clear();
+    }
+
+    @DisplayName("커밋된 트랜잭션에서 발행한 변경 이벤트는 자동완성 색인에 적용된다.")
+    @Test
+    void applyCommittedChanges() throws InterruptedException {
+
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            applicationEventPublisher.publishEvent(AutoCompleteChangeEvent.added(UserReference.of(1, USERNAME1, FULL_NAME1)));
+            applicationEventPublisher.publishEvent(AutoCompleteChangeEvent.added(UserReference.of(3, USERNAME3, FULL_NAME5)));
+        });
+
+        transactionTemplate.executeWithoutResult(status ->
+                applicationEventPublisher.publishEvent(AutoCompleteChangeEvent.removed(UserReference.of(3, USERNAME3, FULL_NAME5))));
+
+        // then
+        awaitUntil(() -> trie.size() == 1);
+
+        assertThat(autoCompleteService.autoComplete(FRONT_PART_OF_NAME)).containsExactly(FULL_NAME1);
+        assertThat(meterRegistry.get("autocomplete.sync.lag").gauge().value()).isGreaterThanOrEqualTo(0);
+        assertThat(meterRegistry.get("autocomplete.sync.applied").counter().count()).isGreaterThanOrEqualTo(3);
+
+    }
+
+    @DisplayName("롤백된 트랜잭션에서 발행한 변경 이벤트는 자동완성 색인에 적용되지 않는다.")
+    @Test
+    void ignoreRolledBackChanges() throws InterruptedException {
+
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            applicationEventPublisher.publishEvent(AutoCompleteChangeEvent.added(UserReference.of(2, USERNAME2, FULL_NAME2)));
+            status.setRollbackOnly();
+        });
+
+        applicationEventPublisher.publishEvent(AutoCompleteChangeEvent.added(UserReference.of(1, USERNAME1, FULL_NAME1)));
+
+        // then
+        awaitUntil(() -> trie.containsKey(FULL_NAME1));
+
+        assertThat(trie.containsKey(FULL_NAME2)).isFalse();
+
+    }
+
+    @DisplayName("전송 계층으로 받은 다른 인스턴스의 이벤트는 적용하고, 자신이 발행한 이벤트는 다시 적용하지 않는다.")
+    @Test
+    void applyOnlyOtherInstanceChanges() throws InterruptedException {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(UserReference.of(1, USERNAME1, FULL_NAME1));
+
+        // when
+        autoCompleteChangeTransport.publish(AutoCompleteChangeEvent.removed(UserReference.of(1, USERNAME1, FULL_NAME1))
+                .withOrigin(autoCompleteChangeApplier.getInstanceId()));
+        autoCompleteChangeTransport.publish(AutoCompleteChangeEvent.added(UserReference.of(2, USERNAME2, FULL_NAME2))
+                .withOrigin("other-instance"));
+
+        // then
+        awaitUntil(() -> trie.containsKey(FULL_NAME2));
+
+        assertThat(trie.containsKey(FULL_NAME1)).isTrue();
+
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(condition.getAsBoolean()).isTrue();
+
+    }
+
+}
@@ -7,14 +7,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import personal.yeongyulgori.user.exception.significant.sub.TooManyRequestsException;
 import personal.yeongyulgori.user.model.constant.Role;
 import personal.yeongyulgori.user.model.dto.CrucialInformationUpdateDto;
 import personal.yeongyulgori.user.model.dto.PasswordRequestDto;
 import personal.yeongyulgori.user.model.dto.SignInResponseDto;
+import personal.yeongyulgori.user.model.dto.TokenPairDto;
 import personal.yeongyulgori.user.model.dto.UserResponseDto;
 import personal.yeongyulgori.user.model.entity.User;
 import personal.yeongyulgori.user.model.entity.embedment.Address;
@@ -25,18 +28,29 @@ import personal.yeongyulgori.user.model.repository.UserRepository;
 import personal.yeongyulgori.user.security.CustomAuthenticationEntryPoint;
 import personal.yeongyulgori.user.security.JwtAuthenticationFilter;
 import personal.yeongyulgori.user.security.JwtTokenProvider;
+import personal.yeongyulgori.user.security.RefreshTokenCookie;
+import personal.yeongyulgori.user.security.ratelimit.LoginRateLimiter;
 import personal.yeongyulgori.user.service.AuthenticationService;
 import personal.yeongyulgori.user.service.AutoCompleteService;
+import personal.yeongyulgori.user.service.ProfileImageService;
+import personal.yeongyulgori.user.service.RefreshTokenService;
 
+import javax.servlet.http.Cookie;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static personal.yeongyulgori.user.model.constant.Role.ROLE_BUSINESS_USER;
 import static personal.yeongyulgori.user.model.constant.Role.ROLE_GENERAL_USER;
@@ -45,6 +59,7 @@ import static personal.yeongyulgori.user.testutil.TestObjectFactory.*;
 
 @ActiveProfiles("test")
 @WebMvcTest(controllers = AuthenticationController.class)
+@Import(RefreshTokenCookie.class)
 class AuthenticationControllerTest {
 
     @Autowired
@@ -71,9 +86,18 @@ class AuthenticationControllerTest {
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+
+    @MockBean
+    private LoginRateLimiter loginRateLimiter;
+
     @MockBean
     private CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
+    @MockBean
+    private ProfileImageService profileImageService;
+
     @AfterEach
     void tearDown() {
         userRepository.deleteAllInBatch();
@@ -117,16 +141,79 @@ class AuthenticationControllerTest {
                         PHONE_NUMBER1, List.of(Role.ROLE_GENERAL_USER));
 
         when(authenticationService.signInUser(any(SignInForm.class)))
-                .thenReturn(SignInResponseDto.of(USERNAME1, List.of(Role.ROLE_GENERAL_USER)));
+                .thenReturn(SignInResponseDto.of(1L, USERNAME1, List.of(Role.ROLE_GENERAL_USER), 0));
         ;
 
+        when(refreshTokenService.issueTokens(any(SignInResponseDto.class)))
+                .thenReturn(TokenPairDto.of(ACCESS_TOKEN, REFRESH_TOKEN));
+
         // when, then
         mockMvc.perform(post("/users/v1/login")
                         .with(csrf())
                         .content(objectMapper.writeValueAsString(signUpForm))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(content().string(ACCESS_TOKEN))
+                .andExpect(cookie().value(RefreshTokenCookie.NAME, REFRESH_TOKEN))
+                .andExpect(cookie().httpOnly(RefreshTokenCookie.NAME, true));
+
+    }
+
+    @DisplayName("로그인 요청 횟수 제한을 넘으면 비밀번호를 확인하지 않고 429 상태 코드를 반환한다.")
+    @Test
+    @WithMockUser
+    void signInUserOverRateLimit() throws Exception {
+
+        // given
+        SignUpForm signUpForm = enterUserFormWithAddress
+                (EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1, BIRTH_DATE1,
+                        PHONE_NUMBER1, List.of(Role.ROLE_GENERAL_USER));
+
+        doThrow(new TooManyRequestsException()).when(loginRateLimiter).checkSignIn(any(), any());
+
+        // when, then
+        mockMvc.perform(post("/users/v1/login")
+                        .with(csrf())
+                        .content(objectMapper.writeValueAsString(signUpForm))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isTooManyRequests());
+
+        verify(authenticationService, never()).signInUser(any(SignInForm.class));
+
+    }
+
+    @DisplayName("refresh token cookie로 access token을 갱신하면 새로운 refresh token cookie를 받는다.")
+    @Test
+    @WithMockUser
+    void refreshToken() throws Exception {
+
+        // given
+        when(refreshTokenService.refreshTokens(REFRESH_TOKEN))
+                .thenReturn(TokenPairDto.of(ACCESS_TOKEN, ROTATED_REFRESH_TOKEN));
+
+        // when, then
+        mockMvc.perform(post("/users/v1/token/refresh")
+                        .with(csrf())
+                        .cookie(new Cookie(RefreshTokenCookie.NAME, REFRESH_TOKEN)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().string(ACCESS_TOKEN))
+                .andExpect(cookie().value(RefreshTokenCookie.NAME, ROTATED_REFRESH_TOKEN));
+
+    }
+
+    @DisplayName("refresh token cookie 없이 access token을 갱신하려 하면 401 상태 코드를 반환한다.")
+    @Test
+    @WithMockUser
+    void refreshTokenWithoutCookie() throws Exception {
+
+        // when, then
+        mockMvc.perform(post("/users/v1/token/refresh")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
 
     }
 
@@ -227,6 +314,31 @@ class AuthenticationControllerTest {
 
     }
 
+    @DisplayName("이미지 파일을 요청 본문으로 전송해 프로필 이미지를 변경할 수 있다.")
+    @Test
+    @WithMockUser(username = USERNAME1)
+    void updateProfileImage() throws Exception {
+
+        // given
+        byte[] image = Base64.getDecoder().decode(TEST_IMAGE);
+        String profileImageId = "0123456789abcdef0123456789abcdef.jpg";
+
+        when(profileImageService.saveProfileImage(any(), eq((long) image.length))).thenReturn(profileImageId);
+        when(authenticationService.updateProfileImage(USERNAME1, profileImageId))
+                .thenReturn(UserResponseDto.builder().username(USERNAME1).build());
+
+        // when, then
+        mockMvc.perform(put("/users/v1/{username}/profile-image", USERNAME1)
+                        .with(csrf())
+                        .content(image)
+                        .contentType(MediaType.IMAGE_JPEG))
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        verify(authenticationService).updateProfileImage(USERNAME1, profileImageId);
+
+    }
+
     @DisplayName("하나의 수정할 변수를 입력해 중요한 회원 정보를 수정할 수 있다.")
     @Test
     @WithMockUser
@@ -0,0 +1,186 @@
+package personal.yeongyulgori.user.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import personal.yeongyulgori.user.autocomplete.ConcurrentTrie;
+import personal.yeongyulgori.user.autocomplete.HangulAutoCompleteIndex;
+import personal.yeongyulgori.user.autocomplete.UserReference;
+import personal.yeongyulgori.user.autocomplete.UserReferences;
+import personal.yeongyulgori.user.service.AutoCompleteService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static personal.yeongyulgori.user.testutil.TestConstant.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AutoCompleteWebSocketHandlerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AutoCompleteService autoCompleteService;
+
+    @Autowired
+    private ConcurrentTrie<UserReferences> trie;
+
+    @Autowired
+    private HangulAutoCompleteIndex hangulAutoCompleteIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        trie.clear();
+        hangulAutoCompleteIndex.clear();
+    }
+
+    @DisplayName("하나의 WebSocket 연결에서 키워드를 보낼 때마다 자동완성 결과를 받을 수 있다.")
+    @Test
+    void streamAutoComplete() throws Exception {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(UserReference.of(1, USERNAME1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(UserReference.of(2, USERNAME2, FULL_NAME5));
+
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+
+        WebSocketSession session = connect("", messages);
+
+        // when
+        session.sendMessage(new TextMessage("홍"));
+        JsonNode response1 = objectMapper.readTree(messages.poll(5, TimeUnit.SECONDS));
+
+        session.sendMessage(new TextMessage("홍길숙"));
+        JsonNode response2 = objectMapper.readTree(messages.poll(5, TimeUnit.SECONDS));
+
+        session.close();
+
+        // then
+        assertThat(response1.get("keyword").asText()).isEqualTo("홍");
+        assertThat(response1.get("results")).hasSize(2);
+        assertThat(response1.get("results").get(0).get("username").asText()).isEqualTo(USERNAME1);
+        assertThat(response2.get("results")).hasSize(1);
+        assertThat(response2.get("results").get(0).get("id").asLong()).isEqualTo(2);
+        assertThat(response2.get("results").get(0).get("fullName").asText()).isEqualTo(FULL_NAME5);
+
+    }
+
+    @DisplayName("handshake에서 fuzzy 값을 지정하면 오타가 포함된 키워드도 자동완성한다.")
+    @Test
+    void streamFuzzyAutoComplete() throws Exception {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(UserReference.of(1, USERNAME1, FULL_NAME1));
+
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+
+        WebSocketSession session = connect("?fuzzy=1", messages);
+
+        // when
+        session.sendMessage(new TextMessage("홍깉동"));
+        JsonNode response = objectMapper.readTree(messages.poll(5, TimeUnit.SECONDS));
+
+        session.close();
+
+        // then
+        assertThat(response.get("results")).hasSize(1);
+        assertThat(response.get("results").get(0).get("username").asText()).isEqualTo(USERNAME1);
+
+    }
+
+    @DisplayName("한 연결에서 허용량보다 많은 메시지를 연달아 보내면 서버가 연결을 닫는다.")
+    @Test
+    void closeSessionSendingTooManyMessages() throws Exception {
+
+        // given
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        BlockingQueue<CloseStatus> closeStatuses = new LinkedBlockingQueue<>();
+
+        WebSocketSession session = connect("", messages, closeStatuses);
+
+        // when
+        for (int i = 0; i < 30 && session.isOpen(); i++) {
+            session.sendMessage(new TextMessage("홍"));
+        }
+
+        CloseStatus closeStatus = closeStatuses.poll(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(closeStatus).isNotNull();
+        assertThat(closeStatus.getCode()).isEqualTo(CloseStatus.POLICY_VIOLATION.getCode());
+        assertThat(messages.size()).isLessThan(30);
+
+    }
+
+    @DisplayName("같은 IP에서 허용된 수보다 많이 연결하면 초과한 연결을 닫는다.")
+    @Test
+    void closeConnectionsOverPerIpLimit() throws Exception {
+
+        // given
+        List<WebSocketSession> sessions = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            sessions.add(connect("", new LinkedBlockingQueue<>(), new LinkedBlockingQueue<>()));
+        }
+
+        BlockingQueue<CloseStatus> closeStatuses = new LinkedBlockingQueue<>();
+
+        // when
+        connect("", new LinkedBlockingQueue<>(), closeStatuses);
+        CloseStatus closeStatus = closeStatuses.poll(5, TimeUnit.SECONDS);
+
+        for (WebSocketSession session : sessions) {
+            session.close();
+        }
+
+        // then
+        assertThat(closeStatus).isNotNull();
+        assertThat(closeStatus.getCode()).isEqualTo(CloseStatus.POLICY_VIOLATION.getCode());
+
+    }
+
+    private WebSocketSession connect(String query, BlockingQueue<String> messages) throws Exception {
+        return connect(query, messages, new LinkedBlockingQueue<>());
+    }
+
+    private WebSocketSession connect(
+            String query, BlockingQueue<String> messages, BlockingQueue<CloseStatus> closeStatuses
+    ) throws Exception {
+
+        return new StandardWebSocketClient().doHandshake(new TextWebSocketHandler() {
+
+            @Override
+            protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+                messages.add(message.getPayload());
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+                closeStatuses.add(status);
+            }
+
+        }, "ws://localhost:" + port + "/users/v1/auto-complete/stream" + query).get(5, TimeUnit.SECONDS);
+
+    }
+
+}
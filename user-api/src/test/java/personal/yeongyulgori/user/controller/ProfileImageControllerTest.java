@@ -0,0 +1,175 @@
+package personal.yeongyulgori.user.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import personal.yeongyulgori.user.model.repository.UserRepository;
+import personal.yeongyulgori.user.security.AuthVersionVerifier;
+import personal.yeongyulgori.user.security.CustomAuthenticationEntryPoint;
+import personal.yeongyulgori.user.security.JwtAuthenticationFilter;
+import personal.yeongyulgori.user.security.JwtSigningKeys;
+import personal.yeongyulgori.user.security.JwtTokenProvider;
+import personal.yeongyulgori.user.security.revocation.TokenDenylist;
+import personal.yeongyulgori.user.service.ProfileImageService;
+import personal.yeongyulgori.user.storage.StoredImage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static personal.yeongyulgori.user.testutil.TestObjectFactory.TEST_IMAGE;
+
+@ActiveProfiles("test")
+@WebMvcTest(controllers = ProfileImageController.class)
+@Import({JwtTokenProvider.class, JwtSigningKeys.class, JwtAuthenticationFilter.class, CustomAuthenticationEntryPoint.class})
+class ProfileImageControllerTest {
+
+    private static final String IMAGE_ID = "0123456789abcdef0123456789abcdef.jpg";
+    private static final byte[] IMAGE = Base64.getDecoder().decode(TEST_IMAGE);
+    private static final Instant LAST_MODIFIED = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProfileImageService profileImageService;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private AuthVersionVerifier authVersionVerifier;
+
+    @MockBean
+    private TokenDenylist tokenDenylist;
+
+    @DisplayName("프로필 이미지를 ETag, 캐시 헤더와 함께 조회할 수 있다.")
+    @Test
+    @WithMockUser
+    void getProfileImage() throws Exception {
+
+        // given
+        when(profileImageService.getProfileImage(IMAGE_ID)).thenReturn(StoredImage.of(IMAGE_ID,
+                new ByteArrayResource(IMAGE), IMAGE.length, LAST_MODIFIED));
+
+        // when, then
+        mockMvc.perform(get("/users/v1/profile-images/{imageId}", IMAGE_ID))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + IMAGE_ID + "\""))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/jpeg"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public"))
+                .andExpect(content().bytes(IMAGE));
+
+    }
+
+    @DisplayName("썸네일이 아직 만들어지지 않았으면 원본을 짧은 캐시 기간으로 응답한다.")
+    @Test
+    @WithMockUser
+    void getProfileImageBeforeThumbnailGenerated() throws Exception {
+
+        // given
+        when(profileImageService.findThumbnail(IMAGE_ID, 48)).thenReturn(Optional.empty());
+        when(profileImageService.getProfileImage(IMAGE_ID)).thenReturn(StoredImage.of(IMAGE_ID,
+                new ByteArrayResource(IMAGE), IMAGE.length, LAST_MODIFIED));
+
+        // when, then
+        mockMvc.perform(get("/users/v1/profile-images/{imageId}", IMAGE_ID)
+                        .queryParam("size", "48"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"))
+                .andExpect(content().bytes(IMAGE));
+
+    }
+
+    @DisplayName("If-None-Match가 ETag와 같으면 본문 없이 304를 응답한다.")
+    @Test
+    @WithMockUser
+    void getProfileImageNotModified() throws Exception {
+
+        // given
+        when(profileImageService.getProfileImage(IMAGE_ID)).thenReturn(StoredImage.of(IMAGE_ID,
+                new ByteArrayResource(IMAGE), IMAGE.length, LAST_MODIFIED));
+
+        // when, then
+        mockMvc.perform(get("/users/v1/profile-images/{imageId}", IMAGE_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + IMAGE_ID + "\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+    }
+
+    @DisplayName("Range를 지정하면 해당 구간만 206으로 응답한다.")
+    @Test
+    @WithMockUser
+    void getProfileImageRange() throws Exception {
+
+        // given
+        when(profileImageService.getProfileImage(IMAGE_ID)).thenReturn(StoredImage.of(IMAGE_ID,
+                new ByteArrayResource(IMAGE), IMAGE.length, LAST_MODIFIED));
+
+        // when, then
+        mockMvc.perform(get("/users/v1/profile-images/{imageId}", IMAGE_ID)
+                        .header(HttpHeaders.RANGE, "bytes=0-3"))
+                .andDo(print())
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-3/" + IMAGE.length))
+                .andExpect(content().bytes(new byte[]{IMAGE[0], IMAGE[1], IMAGE[2], IMAGE[3]}));
+
+    }
+
+    @DisplayName("sendfile을 지원하면 파일 이미지의 본문은 쓰지 않고 전송할 구간만 Tomcat에 넘긴다.")
+    @Test
+    @WithMockUser
+    void getProfileImageWithSendfile(@TempDir Path directory) throws Exception {
+
+        // given
+        Path file = Files.write(directory.resolve(IMAGE_ID), IMAGE);
+
+        when(profileImageService.getProfileImage(IMAGE_ID)).thenReturn(StoredImage.of(IMAGE_ID,
+                new FileSystemResource(file), IMAGE.length, LAST_MODIFIED));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/users/v1/profile-images/{imageId}", IMAGE_ID)
+                        .requestAttr(ProfileImageController.SENDFILE_SUPPORT, true)
+                        .header(HttpHeaders.RANGE, "bytes=10-"))
+                .andDo(print())
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE,
+                        "bytes 10-" + (IMAGE.length - 1) + "/" + IMAGE.length))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, IMAGE.length - 10))
+                .andReturn();
+
+        // then
+        assertThat(mvcResult.getResponse().getContentAsByteArray()).isEmpty();
+        assertThat(mvcResult.getRequest().getAttribute(ProfileImageController.SENDFILE_FILENAME))
+                .isEqualTo(file.toAbsolutePath().toString());
+        assertThat(mvcResult.getRequest().getAttribute(ProfileImageController.SENDFILE_START)).isEqualTo(10L);
+        assertThat(mvcResult.getRequest().getAttribute(ProfileImageController.SENDFILE_END))
+                .isEqualTo((long) IMAGE.length);
+
+    }
+
+}
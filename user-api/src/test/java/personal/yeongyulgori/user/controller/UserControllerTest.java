@@ -13,22 +13,35 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import personal.yeongyulgori.user.exception.significant.sub.TooManyRequestsException;
+import personal.yeongyulgori.user.model.dto.AvailabilityResponseDto;
 import personal.yeongyulgori.user.model.dto.UserResponseDto;
 import personal.yeongyulgori.user.model.entity.User;
 import personal.yeongyulgori.user.model.repository.UserRepository;
+import personal.yeongyulgori.user.security.AuthVersionVerifier;
 import personal.yeongyulgori.user.security.CustomAuthenticationEntryPoint;
 import personal.yeongyulgori.user.security.JwtAuthenticationFilter;
+import personal.yeongyulgori.user.security.JwtSigningKeys;
 import personal.yeongyulgori.user.security.JwtTokenProvider;
+import personal.yeongyulgori.user.security.ratelimit.LoginRateLimiter;
+import personal.yeongyulgori.user.security.revocation.TokenDenylist;
+import personal.yeongyulgori.user.autocomplete.UserReference;
 import personal.yeongyulgori.user.service.AutoCompleteService;
+import personal.yeongyulgori.user.service.AvailabilityService;
 import personal.yeongyulgori.user.service.UserService;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static personal.yeongyulgori.user.model.constant.Role.*;
 import static personal.yeongyulgori.user.testutil.TestConstant.*;
@@ -36,7 +49,7 @@ import static personal.yeongyulgori.user.testutil.TestObjectFactory.createUserWi
 
 @ActiveProfiles("test")
 @WebMvcTest(controllers = UserController.class)
-@Import({JwtTokenProvider.class, JwtAuthenticationFilter.class, CustomAuthenticationEntryPoint.class})
+@Import({JwtTokenProvider.class, JwtSigningKeys.class, JwtAuthenticationFilter.class, CustomAuthenticationEntryPoint.class})
 class UserControllerTest {
 
     @Autowired
@@ -51,9 +64,21 @@ class UserControllerTest {
     @MockBean
     private AutoCompleteService autoCompleteService;
 
+    @MockBean
+    private AvailabilityService availabilityService;
+
     @MockBean
     private UserRepository userRepository;
 
+    @MockBean
+    private AuthVersionVerifier authVersionVerifier;
+
+    @MockBean
+    private TokenDenylist tokenDenylist;
+
+    @MockBean
+    private LoginRateLimiter loginRateLimiter;
+
     @DisplayName("사용자 이름을 입력하면 다른 회원의 프로필을 조회할 수 있다.")
     @Test
     @WithMockUser
@@ -176,9 +201,9 @@ class UserControllerTest {
 
         userRepository.saveAll(List.of(user1, user2, user3));
 
-        List<String> autoCompleteResults = new ArrayList<>();
+        List<UserReference> autoCompleteResults = new ArrayList<>();
 
-        when(autoCompleteService.autoComplete(keyword)).thenReturn(autoCompleteResults);
+        when(autoCompleteService.autoCompleteUsers(keyword, 0)).thenReturn(autoCompleteResults);
 
         // when, then
         mockMvc.perform(get("/users/v1/auto-complete"))
@@ -187,4 +212,91 @@ class UserControllerTest {
 
     }
 
+    @DisplayName("fuzzy 값을 지정하면 오타가 포함된 키워드로 회원 자동완성 목록을 조회할 수 있다.")
+    @Test
+    @WithMockUser
+    void fuzzyAutoComplete() throws Exception {
+
+        // given
+        String keyword = "홍깉";
+
+        when(autoCompleteService.autoCompleteUsers(keyword, 1)).thenReturn(List.of(
+                UserReference.of(1, USERNAME1, FULL_NAME1), UserReference.of(3, USERNAME3, FULL_NAME5)));
+
+        // when, then
+        mockMvc.perform(get("/users/v1/auto-complete")
+                        .param("keyword", keyword)
+                        .param("fuzzy", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].username").value(USERNAME1))
+                .andExpect(jsonPath("$[0].fullName").value(FULL_NAME1))
+                .andExpect(jsonPath("$[1].username").value(USERNAME3))
+                .andExpect(jsonPath("$[1].fullName").value(FULL_NAME5));
+
+        verify(autoCompleteService).autoCompleteUsers(keyword, 1);
+
+    }
+
+    @DisplayName("공개 경로는 유효하지 않은 token을 보내더라도 token을 검증하지 않고 응답한다.")
+    @Test
+    @WithMockUser
+    void autoCompleteWithInvalidBearerToken() throws Exception {
+
+        // given
+        String keyword = "홍길";
+
+        when(autoCompleteService.autoCompleteUsers(keyword, 0)).thenReturn(List.of(
+                UserReference.of(1, USERNAME1, FULL_NAME1)));
+
+        // when, then
+        mockMvc.perform(get("/users/v1/auto-complete")
+                        .param("keyword", keyword)
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, JwtAuthenticationFilter.TOKEN_PREFIX + "invalid"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].username").value(USERNAME1));
+
+    }
+
+    @DisplayName("사용자 이름과 이메일을 입력하면 가입에 사용할 수 있는지 확인할 수 있다.")
+    @Test
+    @WithMockUser
+    void checkAvailability() throws Exception {
+
+        // given
+        when(availabilityService.checkAvailability(USERNAME1, EMAIL1, null))
+                .thenReturn(AvailabilityResponseDto.of(false, true, null));
+
+        // when, then
+        mockMvc.perform(get("/users/v1/availability")
+                        .param("username", USERNAME1)
+                        .param("email", EMAIL1))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usernameAvailable").value(false))
+                .andExpect(jsonPath("$.emailAvailable").value(true))
+                .andExpect(jsonPath("$.phoneNumberAvailable").doesNotExist());
+
+    }
+
+    @DisplayName("같은 IP에서 가입 가능 여부를 너무 자주 확인하면 조회하지 않고 TooManyRequestsException이 발생한다.")
+    @Test
+    @WithMockUser
+    void rejectTooManyAvailabilityChecks() throws Exception {
+
+        // given
+        doThrow(new TooManyRequestsException()).when(loginRateLimiter).checkAvailability(any());
+
+        // when, then
+        mockMvc.perform(get("/users/v1/availability")
+                        .param("email", EMAIL1))
+                .andDo(print())
+                .andExpect(status().isTooManyRequests());
+
+        verify(availabilityService, never()).checkAvailability(any(), any(), any());
+
+    }
+
 }
@@ -1,11 +1,13 @@
 package personal.yeongyulgori.user.model.repository;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +21,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.api.AssertionsForClassTypes.tuple;
 import static personal.yeongyulgori.user.model.constant.Role.*;
 import static personal.yeongyulgori.user.testutil.TestConstant.*;
@@ -233,6 +236,59 @@ class UserRepositoryTest {
 
     }
 
+    @DisplayName("사용자 이름, 이메일, 휴대폰 번호 중 하나라도 일치하는 회원을 한 번에 찾을 수 있다.")
+    @Test
+    void findUniqueFieldsMatching() {
+
+        // given
+        User user1 = createUser(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1,
+                BIRTH_DATE1, PHONE_NUMBER1, List.of(ROLE_GENERAL_USER));
+
+        User user2 = createUser(EMAIL2, USERNAME2, PASSWORD2, FULL_NAME2,
+                BIRTH_DATE2, null, List.of(ROLE_BUSINESS_USER));
+
+        userRepository.saveAll(List.of(user1, user2));
+
+        // when
+        List<UserUniqueFields> duplicates1 = userRepository
+                .findUniqueFieldsMatching(USERNAME3, EMAIL2, PHONE_NUMBER1);
+        List<UserUniqueFields> duplicates2 = userRepository
+                .findUniqueFieldsMatching(USERNAME3, EMAIL3, null);
+
+        // then
+        assertThat(duplicates1).hasSize(2)
+                .extracting("username", "email", "phoneNumber")
+                .containsExactlyInAnyOrder(
+                        tuple(USERNAME1, EMAIL1, PHONE_NUMBER1),
+                        tuple(USERNAME2, EMAIL2, null)
+                );
+
+        assertThat(duplicates2).isEmpty();
+
+    }
+
+    @DisplayName("중복된 사용자 이름으로 저장하면 이름이 지정된 unique 제약 위반이 발생한다.")
+    @Test
+    void saveWithDuplicateUsername() {
+
+        // given
+        userRepository.saveAndFlush(createUser(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1,
+                BIRTH_DATE1, PHONE_NUMBER1, List.of(ROLE_GENERAL_USER)));
+
+        User user = createUser(EMAIL2, USERNAME1, PASSWORD2, FULL_NAME2,
+                BIRTH_DATE2, PHONE_NUMBER2, List.of(ROLE_BUSINESS_USER));
+
+        // when
+        DataIntegrityViolationException exception = catchThrowableOfType
+                (() -> userRepository.saveAndFlush(user), DataIntegrityViolationException.class);
+
+        // then
+        assertThat(exception.getCause()).isInstanceOf(ConstraintViolationException.class);
+        assertThat(((ConstraintViolationException) exception.getCause()).getConstraintName())
+                .containsIgnoringCase(User.USERNAME_UNIQUE_CONSTRAINT);
+
+    }
+
     @DisplayName("성명을 통해 해당 회원의 가입 여부를 확인할 수 있다.")
     @ParameterizedTest
     @CsvSource({
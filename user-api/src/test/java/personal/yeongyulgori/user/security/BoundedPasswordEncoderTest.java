@@ -0,0 +1,98 @@
+package personal.yeongyulgori.user.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import personal.yeongyulgori.user.exception.significant.sub.PasswordHashingUnavailableException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static personal.yeongyulgori.user.testutil.TestConstant.PASSWORD1;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        boundedPasswordEncoder.shutdown();
+    }
+
+    @DisplayName("해시 계산 thread와 대기열이 모두 차 있으면 기다리지 않고 PasswordHashingUnavailableException이 발생한다.")
+    @Test
+    void rejectWhenQueueIsFull() throws InterruptedException {
+
+        // given
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), meterRegistry, 1, 1, 10_000);
+
+        CompletableFuture.runAsync(() -> boundedPasswordEncoder.encode(PASSWORD1));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture.runAsync(() -> boundedPasswordEncoder.encode(PASSWORD1));
+
+        while (meterRegistry.get("security.password-hashing.queue.size").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        // when, then
+        assertThatThrownBy(() -> boundedPasswordEncoder.encode(PASSWORD1))
+                .isInstanceOf(PasswordHashingUnavailableException.class);
+
+        assertThat(meterRegistry.get("security.password-hashing.rejections").tag("reason", "queue-full")
+                .counter().count()).isEqualTo(1);
+
+    }
+
+    @DisplayName("timeout 안에 해시 계산이 끝나지 않으면 PasswordHashingUnavailableException이 발생한다.")
+    @Test
+    void rejectWhenTimedOut() {
+
+        // given
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), meterRegistry, 1, 1, 50);
+
+        // when, then
+        assertThatThrownBy(() -> boundedPasswordEncoder.matches(PASSWORD1, "encoded"))
+                .isInstanceOf(PasswordHashingUnavailableException.class);
+
+        assertThat(meterRegistry.get("security.password-hashing.rejections").tag("reason", "timeout")
+                .counter().count()).isEqualTo(1);
+
+    }
+
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+
+            started.countDown();
+
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return "encoded";
+
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+
+    }
+
+}
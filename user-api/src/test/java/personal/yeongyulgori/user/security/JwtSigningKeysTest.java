@@ -0,0 +1,36 @@
+package personal.yeongyulgori.user.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.GeneralSecurityException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtSigningKeysTest {
+
+    @DisplayName("서명 키가 설정되지 않았으면 임시 키를 만들지 않고 IllegalStateException이 발생한다.")
+    @Test
+    void failWithoutConfiguredSigningKey() {
+
+        // given, when, then
+        assertThatThrownBy(() -> new JwtSigningKeys("", "", "", "", false))
+                .isInstanceOf(IllegalStateException.class);
+
+    }
+
+    @DisplayName("임시 키를 허용하면 서명 키가 없어도 기동 시 ES256 키를 생성한다.")
+    @Test
+    void generateEphemeralKeyWhenAllowed() throws GeneralSecurityException {
+
+        // given, when
+        JwtSigningKeys jwtSigningKeys = new JwtSigningKeys("", "", "", "", true);
+
+        // then
+        assertThat(jwtSigningKeys.getPrivateKey().getAlgorithm()).isEqualTo("EC");
+        assertThat(jwtSigningKeys.getPublicKey(jwtSigningKeys.getKeyId())).isNotNull();
+
+    }
+
+}
@@ -0,0 +1,243 @@
+package personal.yeongyulgori.user.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import personal.yeongyulgori.user.model.dto.PasswordRequestDto;
+import personal.yeongyulgori.user.model.entity.User;
+import personal.yeongyulgori.user.model.repository.UserRepository;
+import personal.yeongyulgori.user.security.revocation.TokenDenylist;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.KeyFactory;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static personal.yeongyulgori.user.model.constant.Role.ROLE_ADMIN;
+import static personal.yeongyulgori.user.model.constant.Role.ROLE_GENERAL_USER;
+import static personal.yeongyulgori.user.testutil.TestConstant.*;
+import static personal.yeongyulgori.user.testutil.TestObjectFactory.createUser;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "security.stateless-authentication.enabled=true",
+        "security.stateless-authentication.version-cache-ttl-millis=0"
+})
+@Transactional
+class JwtTokenProviderTest {
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenRevocationLogoutHandler tokenRevocationLogoutHandler;
+
+    @Autowired
+    private TokenDenylist tokenDenylist;
+
+    @Autowired
+    private JwtSigningKeys jwtSigningKeys;
+
+    private static final String LEGACY_SECRET = "c29jaWFsLW1lZGlhLXNwcmluZy1wcm9qZWN0LWJ5LWh5b2Jpbi15ZW9uZ3l1bHJvcmkK";
+
+    @DisplayName("stateless 모드에서는 회원 엔티티를 조회하지 않고 token의 claim으로 인증 정보를 만든다.")
+    @Test
+    void getStatelessAuthentication() {
+
+        // given
+        User user = userRepository.save(createUser(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1,
+                BIRTH_DATE1, PHONE_NUMBER1, List.of(ROLE_GENERAL_USER, ROLE_ADMIN)));
+
+        String token = jwtTokenProvider.generateToken(user.getId(), user.getUsername(), user.getRoles(), user.getAuthVersion());
+
+        // when
+        Authentication authentication = jwtTokenProvider.getAuthentication(jwtTokenProvider.parseToken(token));
+
+        // then
+        assertThat(authentication.getPrincipal()).isNotInstanceOf(User.class);
+        assertThat(authentication.getName()).isEqualTo(USERNAME1);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder(ROLE_GENERAL_USER.name(), ROLE_ADMIN.name());
+
+    }
+
+    @DisplayName("token 발급 이후 비밀번호가 변경되면 CredentialsExpiredException이 발생한다.")
+    @Test
+    void getStatelessAuthenticationAfterPasswordChange() {
+
+        // given
+        User user = userRepository.save(createUser(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1,
+                BIRTH_DATE1, PHONE_NUMBER1, new ArrayList<>(List.of(ROLE_GENERAL_USER))));
+
+        String token = jwtTokenProvider.generateToken(user.getId(), user.getUsername(), user.getRoles(), user.getAuthVersion());
+
+        userRepository.save(user.withPassword(new PasswordRequestDto(PASSWORD2)));
+
+        TokenClaims tokenClaims = jwtTokenProvider.parseToken(token);
+
+        // when, then
+        assertThatThrownBy(() -> jwtTokenProvider.getAuthentication(tokenClaims))
+                .isInstanceOf(CredentialsExpiredException.class)
+                .hasMessage("token 발급 이후 회원 인증 정보가 변경되었습니다. username: " + USERNAME1);
+
+    }
+
+    @DisplayName("탈퇴한 회원의 token으로는 인증할 수 없다.")
+    @Test
+    void getStatelessAuthenticationOfDeletedUser() {
+
+        // given
+        User user = userRepository.save(createUser(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1,
+                BIRTH_DATE1, PHONE_NUMBER1, new ArrayList<>(List.of(ROLE_GENERAL_USER))));
+
+        String token = jwtTokenProvider.generateToken(user.getId(), user.getUsername(), user.getRoles(), user.getAuthVersion());
+
+        userRepository.delete(user);
+
+        TokenClaims tokenClaims = jwtTokenProvider.parseToken(token);
+
+        // when, then
+        assertThatThrownBy(() -> jwtTokenProvider.getAuthentication(tokenClaims))
+                .isInstanceOf(CredentialsExpiredException.class);
+
+    }
+
+    @DisplayName("로그아웃하면 해당 token만 폐기되어 인증할 수 없다.")
+    @Test
+    void getAuthenticationAfterLogout() {
+
+        // given
+        User user = userRepository.save(createUser(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1,
+                BIRTH_DATE1, PHONE_NUMBER1, List.of(ROLE_GENERAL_USER)));
+
+        String token1 = jwtTokenProvider.generateToken(user.getId(), user.getUsername(), user.getRoles(), user.getAuthVersion());
+        String token2 = jwtTokenProvider.generateToken(user.getId(), user.getUsername(), user.getRoles(), user.getAuthVersion());
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users/v1/logout");
+        request.addHeader(JwtAuthenticationFilter.TOKEN_HEADER, JwtAuthenticationFilter.TOKEN_PREFIX + token1);
+
+        // when
+        tokenRevocationLogoutHandler.logout(request, new MockHttpServletResponse(), null);
+
+        TokenClaims tokenClaims1 = jwtTokenProvider.parseToken(token1);
+        TokenClaims tokenClaims2 = jwtTokenProvider.parseToken(token2);
+
+        // then
+        assertThat(tokenDenylist.isRevoked(tokenClaims1.getTokenId())).isTrue();
+        assertThat(tokenDenylist.isRevoked(tokenClaims2.getTokenId())).isFalse();
+
+        assertThatThrownBy(() -> jwtTokenProvider.getAuthentication(tokenClaims1))
+                .isInstanceOf(CredentialsExpiredException.class)
+                .hasMessage("로그아웃된 token입니다. username: " + USERNAME1);
+        assertThat(jwtTokenProvider.getAuthentication(tokenClaims2).getName()).isEqualTo(USERNAME1);
+
+    }
+
+    @DisplayName("access token은 ES256으로 서명되고, JWKS의 공개 키만으로 검증할 수 있다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void verifyTokenWithJwks() throws Exception {
+
+        // given
+        String token = jwtTokenProvider.generateToken(1L, USERNAME1, List.of(ROLE_GENERAL_USER), 0L);
+
+        Map<String, String> jwk = ((List<Map<String, String>>) jwtSigningKeys.getJwks().get("keys")).get(0);
+
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+
+        ECPoint point = new ECPoint(
+                new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("x"))),
+                new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("y"))));
+
+        PublicKey publicKey = KeyFactory.getInstance("EC")
+                .generatePublic(new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+
+        // when
+        Jws<Claims> jws = Jwts.parserBuilder()
+                .setSigningKey(publicKey)
+                .build()
+                .parseClaimsJws(token);
+
+        // then
+        assertThat(jws.getHeader().getAlgorithm()).isEqualTo(SignatureAlgorithm.ES256.getValue());
+        assertThat(jws.getHeader().getKeyId()).isEqualTo(jwtSigningKeys.getKeyId()).isEqualTo(jwk.get("kid"));
+        assertThat(jws.getBody().getSubject()).isEqualTo(USERNAME1);
+        assertThat(jws.getBody().get("uid", Long.class)).isEqualTo(1L);
+
+    }
+
+    @DisplayName("kid 없이 이전 비밀 키(HS256)로 서명된 token은 만료 전이라도 검증에 실패한다.")
+    @Test
+    void rejectLegacyToken() {
+
+        // given
+        Date now = new Date();
+
+        String legacyToken = Jwts.builder()
+                .setSubject(USERNAME1)
+                .claim("roles", List.of(ROLE_GENERAL_USER))
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 60_000))
+                .signWith(new SecretKeySpec(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8),
+                        SignatureAlgorithm.HS256.getJcaName()), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when, then
+        assertThatThrownBy(() -> jwtTokenProvider.parseToken(legacyToken))
+                .isInstanceOf(SignatureException.class);
+
+    }
+
+    @DisplayName("등록되지 않은 키로 서명된 token은 검증에 실패한다.")
+    @Test
+    void parseTokenSignedWithUnknownKey() throws Exception {
+
+        // given
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+
+        String forgedToken = Jwts.builder()
+                .setHeaderParam("kid", jwtSigningKeys.getKeyId())
+                .setSubject(USERNAME1)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keyPairGenerator.generateKeyPair().getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+
+        // when, then
+        assertThatThrownBy(() -> jwtTokenProvider.parseToken(forgedToken))
+                .isInstanceOf(SignatureException.class);
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package personal.yeongyulgori.user.security.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.yeongyulgori.user.exception.significant.sub.TooManyRequestsException;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static personal.yeongyulgori.user.testutil.TestConstant.USERNAME1;
+
+class LoginRateLimiterTest {
+
+    private static final String ATTACKER_IP = "10.0.0.1";
+    private static final String VICTIM_IP = "10.0.0.2";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final LoginRateLimiter loginRateLimiter = new LoginRateLimiter(
+            new InMemoryRateLimitStore(meterRegistry, 1_000), meterRegistry,
+            5, 5, 30, 30, 3, 1, 10, 10, 20, 20);
+
+    @DisplayName("한 IP에서 계정의 로그인 제한을 넘기면 그 IP의 요청만 거절하고, 다른 IP의 같은 계정 로그인은 허용한다.")
+    @Test
+    void limitSignInPerAccountAndIp() {
+
+        // given
+        for (int i = 0; i < 5; i++) {
+            loginRateLimiter.checkSignIn(USERNAME1, ATTACKER_IP);
+        }
+
+        // when, then
+        assertThatThrownBy(() -> loginRateLimiter.checkSignIn(USERNAME1, ATTACKER_IP))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> loginRateLimiter.checkSignIn(USERNAME1, VICTIM_IP))
+                .doesNotThrowAnyException();
+
+    }
+
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,9 +33,11 @@ import personal.yeongyulgori.user.security.JwtTokenProvider;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityNotFoundException;
+import java.io.ByteArrayInputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -69,6 +72,9 @@ class AuthenticationServiceTest {
     @Autowired
     private PasswordResetTokenRepository passwordResetTokenRepository;
 
+    @Autowired
+    private ProfileImageService profileImageService;
+
     @Value("${spring.redis.host}")
     private String ec2Ip;
 
@@ -241,6 +247,32 @@ class AuthenticationServiceTest {
 
     }
 
+    @DisplayName("이전 strength로 저장된 비밀번호 해시는 로그인에 성공하면 인증 버전을 유지한 채 다시 해시된다.")
+    @Test
+    void signInUserWithOutdatedPasswordHash() {
+
+        // given
+        String outdatedPassword = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD1);
+
+        User user = userRepository.save(createUser(EMAIL1, USERNAME1, outdatedPassword, FULL_NAME1,
+                BIRTH_DATE1, PHONE_NUMBER1, new ArrayList<>(List.of(ROLE_GENERAL_USER))));
+
+        // when
+        authenticationService.signInUser(new SignInForm(USERNAME1, PASSWORD1));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        User reloadedUser = userRepository.findById(user.getId()).get();
+
+        // then
+        assertThat(reloadedUser.getPassword()).isNotEqualTo(outdatedPassword);
+        assertThat(passwordEncoder.matches(PASSWORD1, reloadedUser.getPassword())).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(reloadedUser.getPassword())).isFalse();
+        assertThat(reloadedUser.getAuthVersion()).isEqualTo(user.getAuthVersion());
+
+    }
+
     @DisplayName("존재하지 않는 이메일이나 사용자 이름으로 로그인하려 하면 EntityNotFoundException이 발생한다.")
     @Test
     void signInUserWithNonExistentEmailOrUsername() {
@@ -371,7 +403,6 @@ class AuthenticationServiceTest {
                         .street(STREET)
                         .zipcode(PASSWORD2)
                         .build())
-                .profileImage(TEST_IMAGE)
                 .roles(List.of(ROLE_BUSINESS_USER))
                 .build();
 
@@ -424,6 +455,28 @@ class AuthenticationServiceTest {
 
     }
 
+    @DisplayName("저장한 프로필 이미지로 회원의 프로필 이미지를 변경하면 이미지 URL을 반환 받을 수 있다.")
+    @Test
+    void updateProfileImage() {
+
+        // given
+        User user = userRepository.save(createUser(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1,
+                BIRTH_DATE1, PHONE_NUMBER1, new ArrayList<>(List.of(ROLE_GENERAL_USER))));
+
+        String profileImageId = profileImageService.saveProfileImage
+                (new ByteArrayInputStream(Base64.getDecoder().decode(TEST_IMAGE)), -1);
+
+        // when
+        UserResponseDto userResponseDto = authenticationService.updateProfileImage(USERNAME1, profileImageId);
+
+        entityManager.clear();
+
+        // then
+        assertThat(userResponseDto.getProfileImageUrl()).isEqualTo("/users/v1/profile-images/" + profileImageId);
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getProfileImageId()).isEqualTo(profileImageId);
+
+    }
+
     @DisplayName("crucialInformationUpdateDto를 통해 하나의 중요한 회원 개인 정보를 수정할 수 있다.")
     @Test
     void updateCrucialUserInformation() {
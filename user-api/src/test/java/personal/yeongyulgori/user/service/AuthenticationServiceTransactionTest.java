@@ -0,0 +1,81 @@
+package personal.yeongyulgori.user.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import personal.yeongyulgori.user.autocomplete.ConcurrentTrie;
+import personal.yeongyulgori.user.autocomplete.HangulAutoCompleteIndex;
+import personal.yeongyulgori.user.autocomplete.UserReferences;
+import personal.yeongyulgori.user.model.form.SignInForm;
+import personal.yeongyulgori.user.model.repository.UserRepository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static personal.yeongyulgori.user.model.constant.Role.ROLE_GENERAL_USER;
+import static personal.yeongyulgori.user.testutil.TestConstant.*;
+import static personal.yeongyulgori.user.testutil.TestObjectFactory.enterUserForm;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class AuthenticationServiceTransactionTest {
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ConcurrentTrie<UserReferences> trie;
+
+    @Autowired
+    private HangulAutoCompleteIndex hangulAutoCompleteIndex;
+
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        trie.clear();
+        hangulAutoCompleteIndex.clear();
+    }
+
+    @DisplayName("회원 가입과 로그인에서 비밀번호 해시는 트랜잭션 밖에서 계산한다.")
+    @Test
+    void hashPasswordOutsideTransaction() {
+
+        // given
+        List<Boolean> transactionActive = new CopyOnWriteArrayList<>();
+
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).encode(any());
+
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(any(), any());
+
+        // when
+        authenticationService.signUpUser(enterUserForm(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1, BIRTH_DATE1,
+                PHONE_NUMBER1, List.of(ROLE_GENERAL_USER)));
+        authenticationService.signInUser(new SignInForm(USERNAME1, PASSWORD1));
+
+        // then
+        assertThat(transactionActive).hasSizeGreaterThanOrEqualTo(2).containsOnly(false);
+
+    }
+
+}
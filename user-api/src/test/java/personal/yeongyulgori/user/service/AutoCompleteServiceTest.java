@@ -1,15 +1,21 @@
 package personal.yeongyulgori.user.service;
 
-import org.apache.commons.collections4.Trie;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import personal.yeongyulgori.user.autocomplete.ConcurrentTrie;
+import personal.yeongyulgori.user.autocomplete.HangulAutoCompleteIndex;
+import personal.yeongyulgori.user.autocomplete.UserReference;
+import personal.yeongyulgori.user.autocomplete.UserReferences;
 import personal.yeongyulgori.user.exception.serious.sub.AutoCompleteValueNotFoundException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -20,7 +26,10 @@ import static personal.yeongyulgori.user.testutil.TestConstant.*;
 class AutoCompleteServiceTest {
 
     @Autowired
-    private Trie trie;
+    private ConcurrentTrie<UserReferences> trie;
+
+    @Autowired
+    private HangulAutoCompleteIndex hangulAutoCompleteIndex;
 
     @Autowired
     private AutoCompleteService autoCompleteService;
@@ -28,6 +37,11 @@ class AutoCompleteServiceTest {
     @AfterEach
     void tearDown() {
         trie.clear();
+        hangulAutoCompleteIndex.clear();
+    }
+
+    private static UserReference user(long id, String fullName) {
+        return UserReference.of(id, "user" + id, fullName);
     }
 
     @DisplayName("trie를 통해 사용자 성명을 자동 완성 단어로 등록할 수 있다.")
@@ -35,12 +49,12 @@ class AutoCompleteServiceTest {
     void addAutoCompleteKeyWord() {
 
         // given, when
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME1);
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME2);
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME3);
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME2));
+        autoCompleteService.addAutoCompleteKeyWord(user(3, FULL_NAME3));
 
         // then
-        assertThat(trie).hasSize(3);
+        assertThat(trie.size()).isEqualTo(3);
 
         assertThat(trie.containsKey(FULL_NAME1)).isTrue();
         assertThat(trie.containsKey(FULL_NAME2)).isTrue();
@@ -53,11 +67,11 @@ class AutoCompleteServiceTest {
     void autoComplete() {
 
         // given
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME1);
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME2);
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME5);
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME3);
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME6);
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME2));
+        autoCompleteService.addAutoCompleteKeyWord(user(3, FULL_NAME5));
+        autoCompleteService.addAutoCompleteKeyWord(user(4, FULL_NAME3));
+        autoCompleteService.addAutoCompleteKeyWord(user(5, FULL_NAME6));
 
         // when
         List<String> autoCompleteWords = autoCompleteService.autoComplete(FRONT_PART_OF_NAME);
@@ -68,39 +82,437 @@ class AutoCompleteServiceTest {
 
     }
 
+    @DisplayName("초성 키워드로 자동완성 단어를 조회할 수 있다.")
+    @Test
+    void autoCompleteByChosung() {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME2));
+        autoCompleteService.addAutoCompleteKeyWord(user(3, FULL_NAME5));
+        autoCompleteService.addAutoCompleteKeyWord(user(4, FULL_NAME1));
+
+        // when
+        List<String> autoCompleteWords1 = autoCompleteService.autoComplete("ㅎㄱ");
+        List<String> autoCompleteWords2 = autoCompleteService.autoComplete("ㅎㄱㄷ");
+
+        // then
+        assertThat(autoCompleteWords1).containsExactly(FULL_NAME1, FULL_NAME5);
+        assertThat(autoCompleteWords2).containsExactly(FULL_NAME1);
+
+    }
+
+    @DisplayName("입력 중인 자모가 포함된 키워드로 자동완성 단어를 조회할 수 있다.")
+    @Test
+    void autoCompleteByPartialJamo() {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME2));
+        autoCompleteService.addAutoCompleteKeyWord(user(3, FULL_NAME5));
+
+        // when
+        List<String> autoCompleteWords1 = autoCompleteService.autoComplete("홍기");
+        List<String> autoCompleteWords2 = autoCompleteService.autoComplete("홍길ㄷ");
+        List<String> autoCompleteWords3 = autoCompleteService.autoComplete("호");
+
+        // then
+        assertThat(autoCompleteWords1).containsExactlyInAnyOrder(FULL_NAME1, FULL_NAME5);
+        assertThat(autoCompleteWords2).containsExactly(FULL_NAME1);
+        assertThat(autoCompleteWords3).containsExactlyInAnyOrder(FULL_NAME1, FULL_NAME5);
+
+    }
+
+    @DisplayName("키워드를 삭제하면 초성 및 자모 색인에서도 삭제된다.")
+    @Test
+    void deleteAutoCompleteKeywordFromHangulIndex() {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME5));
+
+        // when
+        autoCompleteService.deleteAutoCompleteKeyword(user(1, FULL_NAME1));
+
+        // then
+        assertThat(autoCompleteService.autoComplete("ㅎㄱ")).containsExactly(FULL_NAME5);
+        assertThat(autoCompleteService.autoComplete("홍기")).containsExactly(FULL_NAME5);
+
+    }
+
+    @DisplayName("오타가 포함된 키워드로도 편집 거리 이내의 자동완성 단어를 조회할 수 있다.")
+    @Test
+    void fuzzyAutoComplete() {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME2));
+        autoCompleteService.addAutoCompleteKeyWord(user(3, FULL_NAME5));
+        autoCompleteService.addAutoCompleteKeyWord(user(4, FULL_NAME6));
+
+        // when
+        List<String> autoCompleteWords1 = autoCompleteService.fuzzyAutoComplete("홍깉동", 1);
+        List<String> autoCompleteWords2 = autoCompleteService.fuzzyAutoComplete("홍길동", 1);
+        List<String> autoCompleteWords3 = autoCompleteService.fuzzyAutoComplete("홍깉", 0);
+
+        // then
+        assertThat(autoCompleteWords1).containsExactly(FULL_NAME1);
+        assertThat(autoCompleteWords2).startsWith(FULL_NAME1);
+        assertThat(autoCompleteWords2).contains(FULL_NAME2, FULL_NAME5, FULL_NAME6);
+        assertThat(autoCompleteWords3).isEmpty();
+
+    }
+
+    @DisplayName("편집 거리가 가까운 자동완성 단어가 먼저 조회된다.")
+    @Test
+    void fuzzyAutoCompleteOrderedByDistance() {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME2));
+        autoCompleteService.addAutoCompleteKeyWord(user(3, FULL_NAME2));
+        autoCompleteService.addAutoCompleteKeyWord(user(4, FULL_NAME3));
+
+        // when
+        List<String> autoCompleteWords = autoCompleteService.fuzzyAutoComplete("고길", 2);
+
+        // then
+        assertThat(autoCompleteWords).containsExactly(FULL_NAME2, FULL_NAME3, FULL_NAME1);
+
+    }
+
+    @DisplayName("같은 성명의 회원이 많을수록 자동완성 결과의 앞 순위에 조회된다.")
+    @Test
+    void autoCompleteOrderedByPopularity() {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME5));
+        autoCompleteService.addAutoCompleteKeyWord(user(3, FULL_NAME6));
+        autoCompleteService.addAutoCompleteKeyWord(user(4, FULL_NAME6));
+        autoCompleteService.addAutoCompleteKeyWord(user(5, FULL_NAME6));
+        autoCompleteService.addAutoCompleteKeyWord(user(6, FULL_NAME5));
+
+        // when
+        List<String> autoCompleteWords = autoCompleteService.autoComplete(FRONT_PART_OF_NAME);
+
+        // then
+        assertThat(trie.get(FULL_NAME6).size()).isEqualTo(3);
+        assertThat(autoCompleteWords).containsExactly(FULL_NAME6, FULL_NAME5, FULL_NAME1);
+
+    }
+
+    @DisplayName("자동완성 결과는 하위 단어 수와 관계없이 가중치 상위 10개로 제한된다.")
+    @Test
+    void autoCompleteLimitedToTopCandidates() {
+
+        // given
+        for (int i = 0; i < 100; i++) {
+            autoCompleteService.addAutoCompleteKeyWord(user(i, FRONT_PART_OF_NAME + i));
+        }
+
+        autoCompleteService.addAutoCompleteKeyWord(user(100, FRONT_PART_OF_NAME + 99));
+
+        // when
+        List<String> autoCompleteWords = autoCompleteService.autoComplete(FRONT_PART_OF_NAME);
+
+        // then
+        assertThat(autoCompleteWords).hasSize(10);
+        assertThat(autoCompleteWords.get(0)).isEqualTo(FRONT_PART_OF_NAME + 99);
+        assertThat(autoCompleteWords.get(1)).isEqualTo(FRONT_PART_OF_NAME + 0);
+
+    }
+
     @DisplayName("등록된 키워드를 삭제할 수 있다.")
     @Test
     void deleteAutoCompleteKeyword() {
 
         // given
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME1);
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME2);
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME3);
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME2));
+        autoCompleteService.addAutoCompleteKeyWord(user(3, FULL_NAME3));
 
         // when
-        autoCompleteService.deleteAutoCompleteKeyword(FULL_NAME2);
+        autoCompleteService.deleteAutoCompleteKeyword(user(2, FULL_NAME2));
 
         // then
-        assertThat(trie).hasSize(2);
+        assertThat(trie.size()).isEqualTo(2);
         assertThat(trie.containsKey(FULL_NAME1)).isTrue();
         assertThat(trie.containsKey(FULL_NAME2)).isFalse();
         assertThat(trie.containsKey(FULL_NAME3)).isTrue();
 
     }
 
-    @DisplayName("존재하지 않는 키워드를 삭제하려고 하면 KeywordNotFoundException이 발생한다.")
+    @DisplayName("같은 성명의 회원이 남아 있는 동안에는 키워드를 삭제해도 자동완성 단어가 유지된다.")
+    @Test
+    void deleteAutoCompleteKeywordSharedByOtherUsers() {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME1));
+
+        // when
+        autoCompleteService.deleteAutoCompleteKeyword(user(1, FULL_NAME1));
+
+        // then
+        assertThat(trie.get(FULL_NAME1).asList()).containsExactly(user(2, FULL_NAME1));
+        assertThat(autoCompleteService.autoComplete(FRONT_PART_OF_NAME)).containsExactly(FULL_NAME1);
+
+        autoCompleteService.deleteAutoCompleteKeyword(user(2, FULL_NAME1));
+
+        assertThat(trie.containsKey(FULL_NAME1)).isFalse();
+        assertThat(autoCompleteService.autoComplete(FRONT_PART_OF_NAME)).isEmpty();
+
+    }
+
+    @DisplayName("같은 성명을 동시에 등록하고 삭제해도 회원 수가 정확히 유지된다.")
+    @Test
+    void addAndDeleteSameKeywordConcurrently() throws Exception {
+
+        // given
+        int threadCount = 8;
+        int operationCountPerThread = 1000;
+
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+
+            UserReference userReference = user(i + 2, FULL_NAME1);
+
+            futures.add(executorService.submit(() -> {
+
+                startLatch.await();
+
+                for (int j = 0; j < operationCountPerThread; j++) {
+                    autoCompleteService.addAutoCompleteKeyWord(userReference);
+                    autoCompleteService.deleteAutoCompleteKeyword(userReference);
+                }
+
+                return null;
+
+            }));
+
+        }
+
+        startLatch.countDown();
+
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+
+        executorService.shutdown();
+
+        // then
+        assertThat(trie.get(FULL_NAME1).asList()).containsExactly(user(1, FULL_NAME1));
+        assertThat(autoCompleteService.autoComplete("ㅎㄱㄷ")).containsExactly(FULL_NAME1);
+
+    }
+
+    @DisplayName("존재하지 않는 회원의 키워드를 삭제하려고 하면 AutoCompleteValueNotFoundException이 발생한다.")
     @Test
     void deleteAutoCompleteKeywordByNonExistKeyword() {
 
         // given
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME5);
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME2);
-        autoCompleteService.addAutoCompleteKeyWord(FULL_NAME3);
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME5));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME2));
+        autoCompleteService.addAutoCompleteKeyWord(user(3, FULL_NAME3));
 
         // when, then
-        assertThatThrownBy(() -> autoCompleteService.deleteAutoCompleteKeyword(FULL_NAME1))
+        assertThatThrownBy(() -> autoCompleteService.deleteAutoCompleteKeyword(user(1, FULL_NAME2)))
+                .isInstanceOf(AutoCompleteValueNotFoundException.class)
+                .hasMessage("해당 자동완성 회원이 존재하지 않습니다. id: 1, fullName: " + FULL_NAME2);
+
+        assertThatThrownBy(() -> autoCompleteService.deleteAutoCompleteKeyword(user(4, FULL_NAME1)))
                 .isInstanceOf(AutoCompleteValueNotFoundException.class)
-                .hasMessage("해당 자동완성 성명이 존재하지 않습니다. fullName: " + FULL_NAME1);
+                .hasMessage("해당 자동완성 회원이 존재하지 않습니다. id: 4, fullName: " + FULL_NAME1);
+
+    }
+
+    @DisplayName("같은 회원을 다시 등록하면 회원 수를 늘리지 않고 참조를 교체한다.")
+    @Test
+    void addAutoCompleteKeyWordWithSameUser() {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME1));
+
+        // when
+        autoCompleteService.addAutoCompleteKeyWord(UserReference.of(1, "changed", FULL_NAME1));
+        autoCompleteService.deleteAutoCompleteKeyword(user(2, FULL_NAME1));
+
+        // then
+        assertThat(trie.get(FULL_NAME1).asList()).containsExactly(UserReference.of(1, "changed", FULL_NAME1));
+        assertThat(autoCompleteService.autoComplete("ㅎㄱㄷ")).containsExactly(FULL_NAME1);
+
+    }
+
+    @DisplayName("자동완성 결과로 성명이 같은 회원들을 구별할 수 있는 회원 참조를 조회할 수 있다.")
+    @Test
+    void autoCompleteUsers() {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(user(3, FULL_NAME5));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(4, FULL_NAME2));
+
+        // when
+        List<UserReference> userReferences1 = autoCompleteService.autoCompleteUsers(FRONT_PART_OF_NAME, 0);
+        List<UserReference> userReferences2 = autoCompleteService.autoCompleteUsers("고길", 1);
+
+        // then
+        assertThat(userReferences1).containsExactly(user(1, FULL_NAME1), user(2, FULL_NAME1), user(3, FULL_NAME5));
+        assertThat(userReferences2).startsWith(user(4, FULL_NAME2));
+        assertThat(userReferences2).contains(user(1, FULL_NAME1), user(3, FULL_NAME5));
+
+    }
+
+    @DisplayName("자동완성 결과에는 성명마다 최대 5명의 회원 참조가 포함된다.")
+    @Test
+    void autoCompleteUsersLimitedPerFullName() {
+
+        // given
+        for (int i = 0; i < 7; i++) {
+            autoCompleteService.addAutoCompleteKeyWord(user(i, FULL_NAME1));
+        }
+
+        autoCompleteService.addAutoCompleteKeyWord(user(7, FULL_NAME5));
+
+        // when
+        List<UserReference> userReferences = autoCompleteService.autoCompleteUsers(FRONT_PART_OF_NAME, 0);
+
+        // then
+        assertThat(userReferences).hasSize(6);
+        assertThat(userReferences.subList(0, 5)).extracting(UserReference::getFullName).containsOnly(FULL_NAME1);
+        assertThat(userReferences.get(5)).isEqualTo(user(7, FULL_NAME5));
+
+    }
+
+    @DisplayName("자동완성 세션은 키워드를 입력하고 지우는 동안 이어서 조회하며, 그 사이의 등록도 반영한다.")
+    @Test
+    void autoCompleteUsersInSession() {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME1));
+        autoCompleteService.addAutoCompleteKeyWord(user(2, FULL_NAME5));
+        autoCompleteService.addAutoCompleteKeyWord(user(3, FULL_NAME2));
+
+        AutoCompleteService.Session session = autoCompleteService.openSession();
+
+        // when
+        List<UserReference> userReferences1 = session.autoCompleteUsers("홍", 0);
+        List<UserReference> userReferences2 = session.autoCompleteUsers("홍길", 0);
+        List<UserReference> userReferences3 = session.autoCompleteUsers("홍길숙", 0);
+        List<UserReference> userReferences4 = session.autoCompleteUsers("홍길", 0);
+
+        autoCompleteService.addAutoCompleteKeyWord(user(4, FULL_NAME6));
+
+        List<UserReference> userReferences5 = session.autoCompleteUsers("홍길춘", 0);
+        List<UserReference> userReferences6 = session.autoCompleteUsers("고", 0);
+
+        // then
+        assertThat(userReferences1).containsExactly(user(1, FULL_NAME1), user(2, FULL_NAME5));
+        assertThat(userReferences2).isEqualTo(userReferences1);
+        assertThat(userReferences3).containsExactly(user(2, FULL_NAME5));
+        assertThat(userReferences4).isEqualTo(userReferences1);
+        assertThat(userReferences5).containsExactly(user(4, FULL_NAME6));
+        assertThat(userReferences6).containsExactly(user(3, FULL_NAME2));
+
+    }
+
+    @DisplayName("회원 참조 목록으로 자동완성 단어 전체를 다시 적재할 수 있다.")
+    @Test
+    void reloadAutoCompleteKeywords() {
+
+        // given
+        autoCompleteService.addAutoCompleteKeyWord(user(1, FULL_NAME4));
+
+        // when
+        autoCompleteService.reloadAutoCompleteKeywords(Stream.of(
+                user(1, FULL_NAME1), user(2, FULL_NAME2), user(3, FULL_NAME5), user(4, FULL_NAME1)));
+
+        // then
+        assertThat(trie.size()).isEqualTo(3);
+        assertThat(trie.containsKey(FULL_NAME4)).isFalse();
+        assertThat(autoCompleteService.autoComplete(FRONT_PART_OF_NAME)).containsExactly(FULL_NAME1, FULL_NAME5);
+        assertThat(autoCompleteService.autoComplete("ㅇㄱ")).isEmpty();
+        assertThat(autoCompleteService.autoComplete("ㄱㄱ")).containsExactly(FULL_NAME2);
+
+    }
+
+    @DisplayName("자동완성 단어를 등록하고 삭제하는 도중에도 동시에 자동완성 결과를 조회할 수 있다.")
+    @Test
+    void autoCompleteWhileAddingAndDeletingKeywords() throws Exception {
+
+        // given
+        int writerCount = 4;
+        int readerCount = 4;
+        int keywordCountPerWriter = 500;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(writerCount + readerCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < writerCount; i++) {
+
+            int writerId = i;
+            long firstId = (long) writerId * keywordCountPerWriter;
+
+            futures.add(executorService.submit(() -> {
+
+                startLatch.await();
+
+                for (int j = 0; j < keywordCountPerWriter; j++) {
+
+                    UserReference userReference = user(firstId + j, FRONT_PART_OF_NAME + writerId + "-" + j);
+
+                    autoCompleteService.addAutoCompleteKeyWord(userReference);
+
+                    if (j % 2 == 1) {
+                        autoCompleteService.deleteAutoCompleteKeyword(userReference);
+                    }
+
+                }
+
+                return null;
+
+            }));
+
+        }
+
+        for (int i = 0; i < readerCount; i++) {
+
+            futures.add(executorService.submit(() -> {
+
+                startLatch.await();
+
+                for (int j = 0; j < keywordCountPerWriter; j++) {
+                    assertThat(autoCompleteService.autoComplete(FRONT_PART_OF_NAME)).hasSizeLessThanOrEqualTo(10);
+                }
+
+                return null;
+
+            }));
+
+        }
+
+        startLatch.countDown();
+
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+
+        executorService.shutdown();
+
+        // then
+        assertThat(trie.size()).isEqualTo(writerCount * keywordCountPerWriter / 2);
+        assertThat(autoCompleteService.autoComplete(FRONT_PART_OF_NAME)).hasSize(10);
 
     }
 
@@ -0,0 +1,81 @@
+package personal.yeongyulgori.user.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import personal.yeongyulgori.user.availability.UniqueField;
+import personal.yeongyulgori.user.availability.UserAvailabilityFilter;
+import personal.yeongyulgori.user.model.dto.AvailabilityResponseDto;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static personal.yeongyulgori.user.model.constant.Role.ROLE_GENERAL_USER;
+import static personal.yeongyulgori.user.testutil.TestConstant.*;
+import static personal.yeongyulgori.user.testutil.TestObjectFactory.enterUserForm;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class AvailabilityServiceTest {
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private UserAvailabilityFilter userAvailabilityFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DisplayName("가입한 회원의 사용자 이름, 이메일, 휴대폰 번호는 사용할 수 없다.")
+    @Test
+    void checkAvailabilityOfSignedUpUser() {
+
+        // given
+        authenticationService.signUpUser(enterUserForm(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1,
+                BIRTH_DATE1, PHONE_NUMBER1, List.of(ROLE_GENERAL_USER)));
+
+        // when
+        AvailabilityResponseDto availabilityResponseDto = availabilityService
+                .checkAvailability(USERNAME1, EMAIL1.toUpperCase(), PHONE_NUMBER1);
+
+        // then
+        assertThat(availabilityResponseDto.getUsernameAvailable()).isFalse();
+        assertThat(availabilityResponseDto.getEmailAvailable()).isFalse();
+        assertThat(availabilityResponseDto.getPhoneNumberAvailable()).isFalse();
+
+    }
+
+    @DisplayName("bloom filter에 없는 값은 DB를 조회하지 않고 사용할 수 있다고 답한다.")
+    @Test
+    void checkAvailabilityWithoutDatabase() {
+
+        // given
+        userAvailabilityFilter.rebuild();
+
+        double filterChecks = meterRegistry.get("users.availability.checks")
+                .tag("source", "filter").counter().count();
+
+        // when
+        AvailabilityResponseDto availabilityResponseDto = availabilityService
+                .checkAvailability(USERNAME4, null, null);
+
+        // then
+        assertThat(userAvailabilityFilter.mightBeTaken(UniqueField.USERNAME, USERNAME4)).isFalse();
+        assertThat(availabilityResponseDto.getUsernameAvailable()).isTrue();
+        assertThat(availabilityResponseDto.getEmailAvailable()).isNull();
+        assertThat(availabilityResponseDto.getPhoneNumberAvailable()).isNull();
+        assertThat(meterRegistry.get("users.availability.checks")
+                .tag("source", "filter").counter().count()).isEqualTo(filterChecks + 1);
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package personal.yeongyulgori.user.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import personal.yeongyulgori.user.exception.general.sub.ProfileImageTooLargeException;
+import personal.yeongyulgori.user.exception.general.sub.UnsupportedProfileImageException;
+import personal.yeongyulgori.user.storage.StoredImage;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static personal.yeongyulgori.user.testutil.TestObjectFactory.TEST_IMAGE;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "storage.profile-image.max-size-bytes=10000")
+class ProfileImageServiceTest {
+
+    @Autowired
+    private ProfileImageService profileImageService;
+
+    @DisplayName("이미지를 저장하면 형식에 맞는 확장자를 가진 ID를 발급 받고 같은 내용을 조회할 수 있다.")
+    @Test
+    void saveProfileImage() throws Exception {
+
+        // given
+        byte[] image = Base64.getDecoder().decode(TEST_IMAGE);
+
+        // when
+        String imageId = profileImageService.saveProfileImage(new ByteArrayInputStream(image), image.length);
+
+        // then
+        StoredImage storedImage = profileImageService.getProfileImage(imageId);
+
+        assertThat(imageId).endsWith(".jpg");
+        assertThat(storedImage.getContentLength()).isEqualTo(image.length);
+
+        try (InputStream content = storedImage.getResource().getInputStream()) {
+            assertThat(content.readAllBytes()).isEqualTo(image);
+        }
+
+    }
+
+    @DisplayName("이미지를 회원에 연결하면 백그라운드에서 정사각형 썸네일이 만들어진다.")
+    @Test
+    void generateThumbnails() throws Exception {
+
+        // given
+        byte[] image = Base64.getDecoder().decode(TEST_IMAGE);
+        String imageId = profileImageService.saveProfileImage(new ByteArrayInputStream(image), image.length);
+
+        // when
+        profileImageService.attachProfileImage(imageId);
+
+        Optional<StoredImage> thumbnail = profileImageService.findThumbnail(imageId, 48);
+
+        for (int i = 0; i < 500 && thumbnail.isEmpty(); i++) {
+            Thread.sleep(10);
+            thumbnail = profileImageService.findThumbnail(imageId, 48);
+        }
+
+        // then
+        assertThat(thumbnail).isPresent();
+
+        try (InputStream content = thumbnail.get().getResource().getInputStream()) {
+
+            BufferedImage thumbnailImage = ImageIO.read(content);
+
+            assertThat(thumbnailImage.getWidth()).isEqualTo(48);
+            assertThat(thumbnailImage.getHeight()).isEqualTo(48);
+
+        }
+
+    }
+
+    @DisplayName("크기를 알리지 않은 업로드도 상한을 넘는 순간 ProfileImageTooLargeException이 발생한다.")
+    @Test
+    void saveTooLargeProfileImage() {
+
+        // given
+        byte[] image = Arrays.copyOf(Base64.getDecoder().decode(TEST_IMAGE), 10_001);
+
+        // when, then
+        assertThatThrownBy(() -> profileImageService.saveProfileImage(new ByteArrayInputStream(image), -1))
+                .isInstanceOf(ProfileImageTooLargeException.class);
+
+    }
+
+    @DisplayName("이미지가 아닌 파일을 저장하려 하면 UnsupportedProfileImageException이 발생한다.")
+    @Test
+    void saveUnsupportedProfileImage() {
+
+        // given
+        byte[] content = "<svg onload=alert(1)>".getBytes();
+
+        // when, then
+        assertThatThrownBy(() -> profileImageService.saveProfileImage(new ByteArrayInputStream(content), content.length))
+                .isInstanceOf(UnsupportedProfileImageException.class);
+
+    }
+
+}
@@ -0,0 +1,117 @@
+package personal.yeongyulgori.user.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import personal.yeongyulgori.user.exception.significant.sub.InvalidRefreshTokenException;
+import personal.yeongyulgori.user.exception.significant.sub.RefreshTokenReuseException;
+import personal.yeongyulgori.user.model.dto.PasswordRequestDto;
+import personal.yeongyulgori.user.model.dto.SignInResponseDto;
+import personal.yeongyulgori.user.model.dto.TokenPairDto;
+import personal.yeongyulgori.user.model.entity.User;
+import personal.yeongyulgori.user.model.repository.UserRepository;
+import personal.yeongyulgori.user.security.JwtTokenProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static personal.yeongyulgori.user.model.constant.Role.ROLE_GENERAL_USER;
+import static personal.yeongyulgori.user.testutil.TestConstant.*;
+import static personal.yeongyulgori.user.testutil.TestObjectFactory.createUser;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @DisplayName("refresh token으로 새로운 access token과 회전된 refresh token을 발급 받을 수 있다.")
+    @Test
+    void refreshTokens() {
+
+        // given
+        TokenPairDto issuedTokenPairDto = refreshTokenService.issueTokens(signIn(saveUser()));
+
+        // when
+        TokenPairDto refreshedTokenPairDto = refreshTokenService.refreshTokens(issuedTokenPairDto.getRefreshToken());
+
+        // then
+        assertThat(jwtTokenProvider.parseToken(refreshedTokenPairDto.getAccessToken()).getUsername())
+                .isEqualTo(USERNAME1);
+        assertThat(refreshedTokenPairDto.getRefreshToken()).isNotEqualTo(issuedTokenPairDto.getRefreshToken());
+
+    }
+
+    @DisplayName("이미 사용한 refresh token을 다시 사용하면 RefreshTokenReuseException이 발생하고, 회전된 refresh token도 폐기된다.")
+    @Test
+    void refreshTokensWithReusedToken() {
+
+        // given
+        TokenPairDto issuedTokenPairDto = refreshTokenService.issueTokens(signIn(saveUser()));
+        TokenPairDto refreshedTokenPairDto = refreshTokenService.refreshTokens(issuedTokenPairDto.getRefreshToken());
+
+        // when, then
+        assertThatThrownBy(() -> refreshTokenService.refreshTokens(issuedTokenPairDto.getRefreshToken()))
+                .isInstanceOf(RefreshTokenReuseException.class);
+
+        assertThatThrownBy(() -> refreshTokenService.refreshTokens(refreshedTokenPairDto.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .hasMessage("refresh token이 유효하지 않습니다. 다시 로그인해야 합니다.");
+
+    }
+
+    @DisplayName("로그인 이후 비밀번호가 변경되면 refresh token으로 access token을 갱신할 수 없다.")
+    @Test
+    void refreshTokensAfterPasswordChange() {
+
+        // given
+        User user = saveUser();
+        TokenPairDto issuedTokenPairDto = refreshTokenService.issueTokens(signIn(user));
+
+        userRepository.save(user.withPassword(new PasswordRequestDto(PASSWORD2)));
+
+        // when, then
+        assertThatThrownBy(() -> refreshTokenService.refreshTokens(issuedTokenPairDto.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+    }
+
+    @DisplayName("폐기한 refresh token으로는 access token을 갱신할 수 없다.")
+    @Test
+    void revokeRefreshToken() {
+
+        // given
+        TokenPairDto issuedTokenPairDto = refreshTokenService.issueTokens(signIn(saveUser()));
+
+        // when
+        refreshTokenService.revokeRefreshToken(issuedTokenPairDto.getRefreshToken());
+
+        // then
+        assertThatThrownBy(() -> refreshTokenService.refreshTokens(issuedTokenPairDto.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+    }
+
+    private User saveUser() {
+        return userRepository.save(createUser(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1,
+                BIRTH_DATE1, PHONE_NUMBER1, new ArrayList<>(List.of(ROLE_GENERAL_USER))));
+    }
+
+    private SignInResponseDto signIn(User user) {
+        return SignInResponseDto.of(user.getId(), user.getUsername(), user.getRoles(), user.getAuthVersion());
+    }
+
+}
@@ -1,5 +1,6 @@
 package personal.yeongyulgori.user.service;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,10 +8,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import personal.yeongyulgori.user.model.dto.CrucialInformationUpdateDto;
 import personal.yeongyulgori.user.model.entity.User;
 import personal.yeongyulgori.user.model.form.SignUpForm;
 import personal.yeongyulgori.user.model.repository.UserRepository;
+import personal.yeongyulgori.user.security.UserDetailsCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +27,7 @@ import static personal.yeongyulgori.user.testutil.TestObjectFactory.enterUserFor
 
 @ActiveProfiles("test")
 @SpringBootTest
+@Transactional
 public class UserDetailsServiceTest {
 
     @Autowired
@@ -33,6 +39,17 @@ public class UserDetailsServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        userDetailsCache.clear();
+    }
+
     @DisplayName("가입된 사용자의 인증 정보와 권한 정보를 불러 올 수 있다.")
     @Test
     void loadUserByUsername() {
@@ -90,4 +107,53 @@ public class UserDetailsServiceTest {
 
     }
 
+    @DisplayName("같은 사용자의 인증 정보를 다시 불러 오면 회원을 조회하지 않고 캐시된 principal을 반환한다.")
+    @Test
+    void loadUserByUsernameFromCache() {
+
+        // given
+        authenticationService.signUpUser(enterUserForm(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1, BIRTH_DATE1,
+                PHONE_NUMBER1, List.of(ROLE_GENERAL_USER)));
+
+        UserDetails loadedUser = userDetailsService.loadUserByUsername(USERNAME1);
+        long hitCount = userDetailsCache.hitCount();
+
+        // when
+        UserDetails cachedUser = userDetailsService.loadUserByUsername(USERNAME1);
+
+        // then
+        assertThat(cachedUser).isSameAs(loadedUser);
+        assertThat(cachedUser).isNotInstanceOf(User.class);
+        assertThat(userDetailsCache.hitCount()).isEqualTo(hitCount + 1);
+
+    }
+
+    @DisplayName("비밀번호를 변경하면 캐시된 인증 정보가 제거되어 변경된 비밀번호를 불러 온다.")
+    @Test
+    void loadUserByUsernameAfterPasswordChange() {
+
+        // given
+        authenticationService.signUpUser(enterUserForm(EMAIL1, USERNAME1, PASSWORD1, FULL_NAME1, BIRTH_DATE1,
+                PHONE_NUMBER1, new ArrayList<>(List.of(ROLE_GENERAL_USER))));
+
+        User user = userRepository.findByUsername(USERNAME1).get();
+
+        userDetailsService.loadUserByUsername(USERNAME1);
+
+        CrucialInformationUpdateDto crucialInformationUpdateDto = CrucialInformationUpdateDto.builder()
+                .id(user.getId())
+                .password(PASSWORD1)
+                .newPassword(PASSWORD2)
+                .build();
+
+        // when
+        authenticationService.updateCrucialUserInformation(USERNAME1, crucialInformationUpdateDto);
+
+        UserDetails reloadedUser = userDetailsService.loadUserByUsername(USERNAME1);
+
+        // then
+        assertThat(passwordEncoder.matches(PASSWORD2, reloadedUser.getPassword())).isTrue();
+
+    }
+
 }
@@ -34,5 +34,8 @@ public class TestConstant {
     public static final String PHONE_NUMBER4 = "01012345681";
     public static final String CITY = "서울";
     public static final String STREET = "테헤란로 231";
+    public static final String ACCESS_TOKEN = "access-token";
+    public static final String REFRESH_TOKEN = "family.refresh-token";
+    public static final String ROTATED_REFRESH_TOKEN = "family.rotated-refresh-token";
 
 }